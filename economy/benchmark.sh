@@ -0,0 +1,49 @@
+#!/bin/bash
+
+# JMH 벤치마크 실행 및 성능 회귀 검사 스크립트
+# 사용법:
+#   ./benchmark.sh                      전체 벤치마크 실행 후 기준선과 비교 (기본 허용 15%)
+#   ./benchmark.sh --update-baseline    실행 결과를 새 기준선으로 저장
+#   JMH_INCLUDES=Jwt ./benchmark.sh     이름이 일치하는 벤치마크만 실행
+#   JMH_THRESHOLD=0.10 ./benchmark.sh   허용 회귀 비율 변경
+#
+# 기준선은 항상 같은 장비(유휴 상태)에서 갱신해야 비교 결과가 의미 있습니다.
+
+set -e
+
+RED='\033[0;31m'
+GREEN='\033[0;32m'
+YELLOW='\033[1;33m'
+NC='\033[0m'
+
+SCRIPT_DIR="$(cd "$(dirname "${BASH_SOURCE[0]}")" && pwd)"
+cd "${SCRIPT_DIR}"
+
+RESULTS_FILE="build/results/jmh/results.json"
+BASELINE_FILE="src/jmh/baseline/jmh-baseline.json"
+JMH_INCLUDES=${JMH_INCLUDES:-.*}
+JMH_THRESHOLD=${JMH_THRESHOLD:-0.15}
+
+echo -e "${YELLOW}===== JMH 벤치마크 실행 (includes=${JMH_INCLUDES}) =====${NC}"
+./gradlew jmh -PjmhIncludes="${JMH_INCLUDES}"
+
+if [ ! -f "${RESULTS_FILE}" ]; then
+    echo -e "${RED}❌ 결과 파일이 생성되지 않았습니다: ${RESULTS_FILE}${NC}"
+    exit 1
+fi
+
+if [ "$1" == "--update-baseline" ]; then
+    # Gradle 과 같은 경로로 갱신 (기준선 디렉터리가 없으면 Copy 작업이 생성)
+    ./gradlew jmhUpdateBaseline
+    echo -e "${GREEN}✅ 기준선을 갱신했습니다: ${BASELINE_FILE}${NC}"
+    echo "변경된 기준선을 커밋하세요."
+    exit 0
+fi
+
+echo -e "${YELLOW}===== 기준선 대비 회귀 검사 (허용 ${JMH_THRESHOLD}) =====${NC}"
+if ./gradlew jmhRegressionCheck -PjmhThreshold="${JMH_THRESHOLD}"; then
+    echo -e "${GREEN}✅ 성능 회귀 없음${NC}"
+else
+    echo -e "${RED}❌ 성능 회귀가 감지되었습니다. 위 목록을 확인하세요.${NC}"
+    exit 1
+fi
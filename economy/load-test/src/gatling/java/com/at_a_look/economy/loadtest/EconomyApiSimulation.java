@@ -0,0 +1,130 @@
+package com.at_a_look.economy.loadtest;
+
+import io.gatling.javaapi.core.ChainBuilder;
+import io.gatling.javaapi.core.ScenarioBuilder;
+import io.gatling.javaapi.core.Simulation;
+import io.gatling.javaapi.http.HttpProtocolBuilder;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static io.gatling.javaapi.core.CoreDsl.*;
+import static io.gatling.javaapi.http.HttpDsl.*;
+
+/**
+ * 주요 트래픽 부하 시나리오
+ * - 대시보드: 홈 화면이 호출하는 /api/economic/* 조회 묶음
+ * - 피드: 게시글 목록 페이지 탐색 + 상세 조회
+ * - 알림 폴링: 로그인 사용자가 주기적으로 읽지 않은 알림 수 조회
+ *
+ * 실행: ./gradlew :load-test:gatlingRun -PbaseUrl=http://localhost:8080
+ * 앱은 업스트림 시뮬레이터(:load-test:upstreamSimulator)를 바라보도록 띄워야 외부 API를 호출하지 않습니다.
+ */
+public class EconomyApiSimulation extends Simulation {
+
+    private static final String BASE_URL = System.getProperty("baseUrl", "http://localhost:8080");
+    private static final Duration DURATION = Duration.ofSeconds(Long.getLong("durationSeconds", 300L));
+    private static final Duration RAMP = Duration.ofSeconds(Long.getLong("rampSeconds", 60L));
+    private static final double DASHBOARD_RPS = Double.parseDouble(System.getProperty("dashboardRps", "20"));
+    private static final double FEED_RPS = Double.parseDouble(System.getProperty("feedRps", "10"));
+    private static final int POLLING_USERS = Integer.getInteger("pollingUsers", 200);
+    private static final Duration POLL_INTERVAL = Duration.ofSeconds(Long.getLong("pollIntervalSeconds", 30L));
+    private static final int P95_MILLIS = Integer.getInteger("p95Millis", 800);
+
+    private static final String[] BOARD_TYPES = {"FREE", "INVESTMENT", "QNA", "NEWS", "SUGGESTION"};
+
+    private final HttpProtocolBuilder httpProtocol = http
+            .baseUrl(BASE_URL)
+            .acceptHeader("application/json")
+            .acceptEncodingHeader("gzip, deflate")
+            .userAgentHeader("economy-load-test");
+
+    // 대시보드 진입 시 화면이 병렬로 호출하는 조회 API
+    private final ChainBuilder dashboard = exec(session -> session
+            .set("endDate", LocalDate.now().toString())
+            .set("startDate", LocalDate.now().minusMonths(3).toString()))
+            .exec(http("경제 지표")
+                    .get("/api/economic/index")
+                    .check(status().is(200))
+                    .resources(
+                            http("환율").get("/api/economic/exchange-rate").check(status().is(200)),
+                            http("금리").get("/api/economic/interest-rate").check(status().is(200)),
+                            http("소비자물가").get("/api/economic/consumer-price-index").check(status().is(200))))
+            .pause(Duration.ofSeconds(1), Duration.ofSeconds(3))
+            .exec(http("환율 기간 조회")
+                    .get("/api/economic/exchange-rate/period?startDate=#{startDate}&endDate=#{endDate}")
+                    .check(status().is(200)));
+
+    private final Iterator<Map<String, Object>> boardFeeder = Stream.generate(() -> Map.<String, Object>of(
+            "boardType", BOARD_TYPES[ThreadLocalRandom.current().nextInt(BOARD_TYPES.length)],
+            "page", ThreadLocalRandom.current().nextInt(3))).iterator();
+
+    // 게시판 목록 → 목록 중 하나를 상세 조회 → 인기 게시글
+    private final ChainBuilder feed = feed(boardFeeder)
+            .exec(http("게시글 목록")
+                    .get("/api/posts?boardType=#{boardType}&page=#{page}&size=20")
+                    .check(status().is(200))
+                    .check(jsonPath("$.data.posts[*].id").findRandom().optional().saveAs("postId")))
+            .pause(Duration.ofSeconds(2), Duration.ofSeconds(5))
+            .doIf(session -> session.contains("postId")).then(
+                    exec(http("게시글 상세").get("/api/posts/#{postId}").check(status().is(200))))
+            .pause(Duration.ofSeconds(1), Duration.ofSeconds(3))
+            .exec(http("인기 게시글").get("/api/posts/trending").check(status().is(200)));
+
+    private final AtomicInteger userSequence = new AtomicInteger();
+
+    // 부하 테스트 전용 계정 (이미 있으면 가입은 400으로 끝나고 로그인만 진행)
+    private final Iterator<Map<String, Object>> accountFeeder = Stream.generate(() -> {
+        int n = userSequence.incrementAndGet();
+        return Map.<String, Object>of(
+                "email", "loadtest-" + n + "@example.com",
+                "username", "loadtest" + n,
+                "password", "loadtest-password");
+    }).iterator();
+
+    private final ChainBuilder notificationPolling = feed(accountFeeder)
+            .exec(http("회원가입")
+                    .post("/api/auth/signup")
+                    .body(StringBody("{\"email\":\"#{email}\",\"password\":\"#{password}\",\"username\":\"#{username}\"}"))
+                    .asJson()
+                    .check(status().in(201, 400)))
+            .exec(http("로그인")
+                    .post("/api/auth/login")
+                    .body(StringBody("{\"email\":\"#{email}\",\"password\":\"#{password}\"}"))
+                    .asJson()
+                    .check(status().is(200))
+                    .check(jsonPath("$.data.token").saveAs("token")))
+            // 클라이언트마다 폴링 시점을 분산
+            .pause(Duration.ZERO, POLL_INTERVAL)
+            .during(DURATION).on(
+                    exec(http("알림 미확인 수")
+                            .get("/api/notifications/unread-count")
+                            .header("Authorization", "Bearer #{token}")
+                            .check(status().is(200)))
+                    .pause(POLL_INTERVAL));
+
+    private final ScenarioBuilder dashboardScenario = scenario("대시보드").exec(dashboard);
+    private final ScenarioBuilder feedScenario = scenario("피드").exec(feed);
+    private final ScenarioBuilder pollingScenario = scenario("알림 폴링").exec(notificationPolling);
+
+    {
+        setUp(
+                dashboardScenario.injectOpen(
+                        rampUsersPerSec(1).to(DASHBOARD_RPS).during(RAMP),
+                        constantUsersPerSec(DASHBOARD_RPS).during(DURATION)),
+                feedScenario.injectOpen(
+                        rampUsersPerSec(1).to(FEED_RPS).during(RAMP),
+                        constantUsersPerSec(FEED_RPS).during(DURATION)),
+                pollingScenario.injectOpen(
+                        rampUsers(POLLING_USERS).during(RAMP)))
+                .protocols(httpProtocol)
+                .assertions(
+                        global().responseTime().percentile(95.0).lt(P95_MILLIS),
+                        global().failedRequests().percent().lt(1.0));
+    }
+}
@@ -0,0 +1,54 @@
+package com.at_a_look.economy.loadtest;
+
+import io.gatling.javaapi.core.ChainBuilder;
+import io.gatling.javaapi.core.ScenarioBuilder;
+import io.gatling.javaapi.core.Simulation;
+import io.gatling.javaapi.http.HttpProtocolBuilder;
+
+import java.time.Duration;
+
+import static io.gatling.javaapi.core.CoreDsl.*;
+import static io.gatling.javaapi.http.HttpDsl.*;
+
+/**
+ * 느린 업스트림 상황의 처리량 비교 시나리오 (플랫폼 스레드 vs 가상 스레드)
+ * 일부 요청은 외부 API를 동기 호출하는 새로고침(/interest-rate/refresh)이고 나머지는 DB 조회입니다.
+ * 고정 동시 사용자(closed model)로 부하를 걸어, 느린 호출이 요청 스레드를 점유할 때
+ * 빠른 조회 처리량이 얼마나 떨어지는지 비교합니다.
+ *
+ * 실행: load-test/virtual-threads-benchmark.sh (두 모드를 순서대로 띄워 결과를 나란히 저장)
+ */
+public class SlowUpstreamSimulation extends Simulation {
+
+    private static final String BASE_URL = System.getProperty("baseUrl", "http://localhost:8080");
+    private static final Duration DURATION = Duration.ofSeconds(Long.getLong("durationSeconds", 120L));
+    private static final Duration RAMP = Duration.ofSeconds(Long.getLong("rampSeconds", 20L));
+    private static final int CONCURRENT_USERS = Integer.getInteger("concurrentUsers", 400);
+    private static final double REFRESH_PERCENT = Double.parseDouble(System.getProperty("refreshRatio", "0.2")) * 100;
+
+    private final HttpProtocolBuilder httpProtocol = http
+            .baseUrl(BASE_URL)
+            .acceptHeader("application/json")
+            .userAgentHeader("economy-load-test");
+
+    private final ChainBuilder slowRefresh = exec(http("금리 새로고침 (느린 업스트림)")
+            .post("/api/economic/interest-rate/refresh")
+            .check(status().is(200)));
+
+    private final ChainBuilder fastRead = exec(http("환율 조회 (DB)")
+            .get("/api/economic/exchange-rate")
+            .check(status().is(200)));
+
+    private final ScenarioBuilder mixed = scenario("느린 업스트림 혼합")
+            .randomSwitch().on(
+                    percent(REFRESH_PERCENT).then(slowRefresh),
+                    percent(100 - REFRESH_PERCENT).then(fastRead));
+
+    {
+        setUp(mixed.injectClosed(
+                rampConcurrentUsers(1).to(CONCURRENT_USERS).during(RAMP),
+                constantConcurrentUsers(CONCURRENT_USERS).during(DURATION)))
+                .protocols(httpProtocol)
+                .assertions(global().failedRequests().percent().lt(5.0));
+    }
+}
@@ -0,0 +1,128 @@
+package com.at_a_look.economy.loadtest.simulator;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * 한국은행 ECOS StatisticSearch API 대역
+ * 경로: /api/StatisticSearch/{key}/json/kr/{시작}/{끝}/{통계표}/{주기}/{검색시작}/{검색끝}/{항목...}
+ * 녹화된 행을 요청 기간으로 잘라 재생합니다. 일별(D) 요청은 녹화된 변경 시점 값을 매일로 채워 반환합니다.
+ */
+class EcosHandler implements HttpHandler {
+
+    private static final String JSON = "application/json; charset=UTF-8";
+    private static final DateTimeFormatter DAILY = DateTimeFormatter.BASIC_ISO_DATE;
+
+    private final ObjectMapper objectMapper;
+    private final Map<String, NavigableMap<String, JsonNode>> rowsByStatCode;
+    private final FaultInjector faultInjector;
+
+    EcosHandler(ObjectMapper objectMapper, Map<String, NavigableMap<String, JsonNode>> rowsByStatCode,
+                FaultInjector faultInjector) {
+        this.objectMapper = objectMapper;
+        this.rowsByStatCode = rowsByStatCode;
+        this.faultInjector = faultInjector;
+    }
+
+    /**
+     * 녹화 파일({"StatisticSearch":{"row":[...]}})을 TIME 기준 정렬 맵으로 변환
+     */
+    static NavigableMap<String, JsonNode> indexRows(JsonNode recording) {
+        NavigableMap<String, JsonNode> rows = new TreeMap<>();
+        for (JsonNode row : recording.path("StatisticSearch").path("row")) {
+            rows.put(row.path("TIME").asText(), row);
+        }
+        return rows;
+    }
+
+    @Override
+    public void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (faultInjector.apply(exchange)) {
+                return;
+            }
+            String path = exchange.getRequestURI().getPath();
+            String[] segments = path.substring(path.indexOf("/StatisticSearch/") + "/StatisticSearch/".length()).split("/");
+            if (segments.length < 9) {
+                sendResult(exchange, "ERROR-100", "필수 값이 누락되어 있습니다.");
+                return;
+            }
+            int start;
+            int end;
+            try {
+                start = Integer.parseInt(segments[3]);
+                end = Integer.parseInt(segments[4]);
+            } catch (NumberFormatException e) {
+                sendResult(exchange, "ERROR-101", "요청 시작/종료 건수가 올바르지 않습니다.");
+                return;
+            }
+            String statCode = segments[5];
+            String cycle = segments[6];
+            String from = segments[7];
+            String to = segments[8];
+
+            NavigableMap<String, JsonNode> recorded = rowsByStatCode.get(statCode);
+            List<JsonNode> rows = recorded == null ? List.of() : "D".equals(cycle)
+                    ? fillDaily(recorded, from, to)
+                    : new ArrayList<>(recorded.subMap(from, true, to, true).values());
+            if (rows.isEmpty()) {
+                sendResult(exchange, "INFO-200", "해당하는 데이터가 없습니다.");
+                return;
+            }
+
+            int fromIndex = Math.min(Math.max(start - 1, 0), rows.size());
+            List<JsonNode> page = rows.subList(fromIndex, Math.max(fromIndex, Math.min(end, rows.size())));
+            ObjectNode body = objectMapper.createObjectNode();
+            ObjectNode search = body.putObject("StatisticSearch");
+            search.put("list_total_count", rows.size());
+            ArrayNode rowArray = search.putArray("row");
+            page.forEach(rowArray::add);
+            FaultInjector.send(exchange, 200, JSON, objectMapper.writeValueAsBytes(body));
+        }
+    }
+
+    /**
+     * 변경 시점만 녹화된 일별 시계열을 요청 기간의 매일 값으로 채움
+     */
+    private List<JsonNode> fillDaily(NavigableMap<String, JsonNode> recorded, String from, String to) {
+        LocalDate day;
+        LocalDate last;
+        try {
+            day = LocalDate.parse(from, DAILY);
+            last = LocalDate.parse(to, DAILY);
+        } catch (DateTimeParseException e) {
+            return List.of();
+        }
+        List<JsonNode> rows = new ArrayList<>();
+        for (; !day.isAfter(last); day = day.plusDays(1)) {
+            String time = day.format(DAILY);
+            Map.Entry<String, JsonNode> effective = recorded.floorEntry(time);
+            if (effective != null) {
+                rows.add(((ObjectNode) effective.getValue().deepCopy()).put("TIME", time));
+            }
+        }
+        return rows;
+    }
+
+    private void sendResult(HttpExchange exchange, String code, String message) throws IOException {
+        ObjectNode body = objectMapper.createObjectNode();
+        ObjectNode result = body.putObject("RESULT");
+        result.put("CODE", code);
+        result.put("MESSAGE", message);
+        FaultInjector.send(exchange, 200, JSON, objectMapper.writeValueAsBytes(body));
+    }
+}
@@ -0,0 +1,81 @@
+package com.at_a_look.economy.loadtest.simulator;
+
+import com.sun.net.httpserver.HttpExchange;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 지연 및 장애 주입
+ * 모든 요청에 기본 지연 + 지터를 적용하고, 설정된 비율로 500 / HTML / stall 응답을 만듭니다.
+ */
+class FaultInjector {
+
+    private static final String MAINTENANCE_HTML =
+            "<html><head><title>서비스 점검 안내</title></head><body>시스템 점검 중입니다.</body></html>";
+
+    private final SimulatorSettings settings;
+    final LongAdder requests = new LongAdder();
+    final LongAdder errors = new LongAdder();
+    final LongAdder htmlPages = new LongAdder();
+    final LongAdder stalls = new LongAdder();
+
+    FaultInjector(SimulatorSettings settings) {
+        this.settings = settings;
+    }
+
+    /**
+     * 지연을 적용하고 장애 응답을 보냈으면 true (호출 측은 정상 응답을 생략)
+     */
+    boolean apply(HttpExchange exchange) throws IOException {
+        requests.increment();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        if (settings.stallRate() > 0 && random.nextDouble() < settings.stallRate()) {
+            stalls.increment();
+            sleep(settings.stallMillis());
+        } else {
+            long jitter = settings.jitterMillis() > 0 ? random.nextLong(settings.jitterMillis() + 1) : 0;
+            sleep(settings.latencyMillis() + jitter);
+        }
+
+        double roll = random.nextDouble();
+        if (roll < settings.errorRate()) {
+            errors.increment();
+            send(exchange, 500, "text/plain; charset=UTF-8", "Internal Server Error");
+            return true;
+        }
+        if (roll < settings.errorRate() + settings.htmlRate()) {
+            htmlPages.increment();
+            send(exchange, 200, "text/html; charset=UTF-8", MAINTENANCE_HTML);
+            return true;
+        }
+        return false;
+    }
+
+    static void send(HttpExchange exchange, int status, String contentType, String body) throws IOException {
+        send(exchange, status, contentType, body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static void send(HttpExchange exchange, int status, String contentType, byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", contentType);
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private static void sleep(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
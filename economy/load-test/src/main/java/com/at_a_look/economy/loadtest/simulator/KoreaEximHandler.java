@@ -0,0 +1,66 @@
+package com.at_a_look.economy.loadtest.simulator;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+
+import java.io.IOException;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
+/**
+ * 한국수출입은행 환율 API 대역 (/site/program/financial/exchangeJSON)
+ * 녹화된 하루치 응답을 영업일마다 그대로 재생하고, 주말은 실제 API처럼 빈 배열을 반환합니다.
+ */
+class KoreaEximHandler implements HttpHandler {
+
+    private static final byte[] EMPTY = "[]".getBytes(StandardCharsets.UTF_8);
+    private static final String JSON = "application/json; charset=UTF-8";
+
+    private final byte[] recorded;
+    private final FaultInjector faultInjector;
+
+    KoreaEximHandler(byte[] recorded, FaultInjector faultInjector) {
+        this.recorded = recorded;
+        this.faultInjector = faultInjector;
+    }
+
+    @Override
+    public void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (faultInjector.apply(exchange)) {
+                return;
+            }
+            LocalDate searchDate = parseSearchDate(exchange.getRequestURI().getRawQuery());
+            if (searchDate == null
+                    || searchDate.getDayOfWeek() == DayOfWeek.SATURDAY
+                    || searchDate.getDayOfWeek() == DayOfWeek.SUNDAY) {
+                FaultInjector.send(exchange, 200, JSON, EMPTY);
+                return;
+            }
+            FaultInjector.send(exchange, 200, JSON, recorded);
+        }
+    }
+
+    private LocalDate parseSearchDate(String query) {
+        if (query == null) {
+            return LocalDate.now();
+        }
+        for (String pair : query.split("&")) {
+            int eq = pair.indexOf('=');
+            if (eq > 0 && "searchdate".equals(pair.substring(0, eq))) {
+                String value = URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8);
+                try {
+                    return LocalDate.parse(value, DateTimeFormatter.BASIC_ISO_DATE);
+                } catch (DateTimeParseException e) {
+                    return null;
+                }
+            }
+        }
+        // searchdate 미지정 시 실제 API는 당일 기준
+        return LocalDate.now();
+    }
+}
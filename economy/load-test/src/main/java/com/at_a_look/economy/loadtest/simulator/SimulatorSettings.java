@@ -0,0 +1,32 @@
+package com.at_a_look.economy.loadtest.simulator;
+
+/**
+ * 업스트림 시뮬레이터 설정 (시스템 속성 sim.* 로 지정)
+ *
+ * @param port         수신 포트
+ * @param latencyMillis 기본 응답 지연
+ * @param jitterMillis  지연에 더해지는 0~jitter 무작위 편차
+ * @param errorRate     HTTP 500 응답 비율 (0~1)
+ * @param htmlRate      점검 안내 HTML 응답 비율 (0~1) - 한국수출입은행 점검 페이지 재현
+ * @param stallRate     응답 지연(stall) 비율 (0~1) - 앱 읽기 타임아웃 검증용
+ * @param stallMillis   stall 시 지연 시간
+ */
+public record SimulatorSettings(int port, long latencyMillis, long jitterMillis,
+                                double errorRate, double htmlRate, double stallRate, long stallMillis) {
+
+    public static SimulatorSettings fromSystemProperties() {
+        return new SimulatorSettings(
+                Integer.getInteger("sim.port", 18080),
+                Long.getLong("sim.latencyMillis", 150L),
+                Long.getLong("sim.jitterMillis", 100L),
+                doubleProperty("sim.errorRate", 0.0),
+                doubleProperty("sim.htmlRate", 0.0),
+                doubleProperty("sim.stallRate", 0.0),
+                Long.getLong("sim.stallMillis", 35_000L));
+    }
+
+    private static double doubleProperty(String key, double defaultValue) {
+        String value = System.getProperty(key);
+        return value == null || value.isBlank() ? defaultValue : Double.parseDouble(value);
+    }
+}
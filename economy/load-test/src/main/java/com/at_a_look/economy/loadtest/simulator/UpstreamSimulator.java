@@ -0,0 +1,69 @@
+package com.at_a_look.economy.loadtest.simulator;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.Executors;
+
+/**
+ * 외부 API(한국수출입은행, 한국은행 ECOS) 대역 서버
+ * 부하 테스트 중 실제 API를 호출하지 않도록 녹화된 응답을 재생하며, 지연/장애 비율을 조절할 수 있습니다.
+ *
+ * 앱 연결 예:
+ *   --koreaexim.api.url=http://localhost:18080/site/program/financial/exchangeJSON
+ *   --ecos.api.base-url=http://localhost:18080/api
+ */
+public class UpstreamSimulator {
+
+    static final String KOREA_EXIM_PATH = "/site/program/financial/exchangeJSON";
+    static final String ECOS_PATH = "/api/StatisticSearch/";
+
+    public static void main(String[] args) throws IOException {
+        SimulatorSettings settings = SimulatorSettings.fromSystemProperties();
+        ObjectMapper objectMapper = new ObjectMapper();
+        FaultInjector faultInjector = new FaultInjector(settings);
+
+        Map<String, NavigableMap<String, JsonNode>> ecosRecordings = Map.of(
+                "722Y001", EcosHandler.indexRows(objectMapper.readTree(load("payloads/ecos/722Y001.json"))),
+                "901Y009", EcosHandler.indexRows(objectMapper.readTree(load("payloads/ecos/901Y009.json"))));
+
+        HttpServer server = HttpServer.create(new InetSocketAddress(settings.port()), 1024);
+        server.createContext(KOREA_EXIM_PATH,
+                new KoreaEximHandler(load("payloads/koreaexim/exchangeJSON.json"), faultInjector));
+        server.createContext(ECOS_PATH, new EcosHandler(objectMapper, ecosRecordings, faultInjector));
+        server.createContext("/__stats", exchange -> {
+            try (exchange) {
+                String stats = String.format("{\"requests\":%d,\"errors\":%d,\"htmlPages\":%d,\"stalls\":%d}",
+                        faultInjector.requests.sum(), faultInjector.errors.sum(),
+                        faultInjector.htmlPages.sum(), faultInjector.stalls.sum());
+                FaultInjector.send(exchange, 200, "application/json", stats);
+            }
+        });
+        // 지연 주입 중 스레드가 블로킹되므로 요청마다 가상 스레드 사용
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.start();
+
+        System.out.printf("🚀 업스트림 시뮬레이터 시작: http://localhost:%d%n", settings.port());
+        System.out.printf("   설정: %s%n", settings);
+        System.out.printf("   한국수출입은행: http://localhost:%d%s%n", settings.port(), KOREA_EXIM_PATH);
+        System.out.printf("   ECOS:          http://localhost:%d/api%n", settings.port());
+    }
+
+    private static byte[] load(String resource) {
+        try (InputStream in = UpstreamSimulator.class.getClassLoader().getResourceAsStream(resource)) {
+            if (in == null) {
+                throw new IllegalStateException("녹화 페이로드를 찾을 수 없습니다: " + resource);
+            }
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+#!/bin/bash
+
+# 느린 업스트림 상황에서 플랫폼 스레드 / 가상 스레드 모드 처리량 비교
+# 업스트림 시뮬레이터를 고정 지연으로 띄우고, 앱을 두 모드로 번갈아 실행하며 SlowUpstreamSimulation 을 돌립니다.
+#
+# 사용법 (economy/ 에서):
+#   ./load-test/virtual-threads-benchmark.sh
+#   UPSTREAM_LATENCY_MS=3000 CONCURRENT_USERS=600 ./load-test/virtual-threads-benchmark.sh
+#
+# 앱이 사용할 DB 접속 정보(SPRING_DATASOURCE_* 또는 프로필)는 미리 환경 변수로 지정하세요.
+# 결과: build/reports/load-test/vt-compare/{platform,virtual}.md
+
+set -e
+
+RED='\033[0;31m'
+GREEN='\033[0;32m'
+YELLOW='\033[1;33m'
+NC='\033[0m'
+
+SCRIPT_DIR="$(cd "$(dirname "${BASH_SOURCE[0]}")" && pwd)"
+cd "${SCRIPT_DIR}/.."
+
+UPSTREAM_LATENCY_MS=${UPSTREAM_LATENCY_MS:-2000}
+CONCURRENT_USERS=${CONCURRENT_USERS:-400}
+REFRESH_RATIO=${REFRESH_RATIO:-0.2}
+DURATION_SECONDS=${DURATION_SECONDS:-120}
+APP_PORT=${APP_PORT:-8080}
+SIM_PORT=${SIM_PORT:-18080}
+OUT_DIR="load-test/build/reports/load-test/vt-compare"
+
+SIM_PID=""
+APP_PID=""
+
+cleanup() {
+    [ -n "${APP_PID}" ] && kill "${APP_PID}" 2>/dev/null || true
+    [ -n "${SIM_PID}" ] && kill "${SIM_PID}" 2>/dev/null || true
+}
+trap cleanup EXIT
+
+wait_for() {
+    local url=$1
+    local name=$2
+    for _ in $(seq 1 90); do
+        if curl -sf "${url}" > /dev/null; then
+            return 0
+        fi
+        sleep 2
+    done
+    echo -e "${RED}❌ ${name} 이(가) 시작되지 않았습니다: ${url}${NC}"
+    exit 1
+}
+
+echo -e "${YELLOW}===== 애플리케이션 빌드 =====${NC}"
+./gradlew bootJar -x test
+APP_JAR=$(ls build/libs/*.jar | grep -v plain | head -1)
+
+echo -e "${YELLOW}===== 업스트림 시뮬레이터 시작 (지연 ${UPSTREAM_LATENCY_MS}ms) =====${NC}"
+./gradlew :load-test:upstreamSimulator -Psim.port="${SIM_PORT}" \
+    -Psim.latencyMillis="${UPSTREAM_LATENCY_MS}" -Psim.jitterMillis=0 &
+SIM_PID=$!
+wait_for "http://localhost:${SIM_PORT}/__stats" "업스트림 시뮬레이터"
+
+mkdir -p "${OUT_DIR}"
+
+for MODE in platform virtual; do
+    VIRTUAL=false
+    [ "${MODE}" == "virtual" ] && VIRTUAL=true
+
+    echo -e "${YELLOW}===== ${MODE} 모드 실행 (spring.threads.virtual.enabled=${VIRTUAL}) =====${NC}"
+    java -jar "${APP_JAR}" \
+        --server.port="${APP_PORT}" \
+        --spring.threads.virtual.enabled="${VIRTUAL}" \
+        --koreaexim.api.url="http://localhost:${SIM_PORT}/site/program/financial/exchangeJSON" \
+        --ecos.api.base-url="http://localhost:${SIM_PORT}/api" \
+        > "${OUT_DIR}/${MODE}-app.log" 2>&1 &
+    APP_PID=$!
+    wait_for "http://localhost:${APP_PORT}/actuator/health" "애플리케이션(${MODE})"
+
+    ./gradlew :load-test:gatlingRun --simulation com.at_a_look.economy.loadtest.SlowUpstreamSimulation \
+        -PbaseUrl="http://localhost:${APP_PORT}" \
+        -PconcurrentUsers="${CONCURRENT_USERS}" \
+        -PrefreshRatio="${REFRESH_RATIO}" \
+        -PdurationSeconds="${DURATION_SECONDS}" \
+        -PrampSeconds=20 || echo -e "${YELLOW}⚠️ ${MODE} 모드에서 Gatling 검증 조건을 만족하지 못했습니다.${NC}"
+    ./gradlew :load-test:loadTestReport
+    cp load-test/build/reports/load-test/summary.md "${OUT_DIR}/${MODE}.md"
+
+    kill "${APP_PID}"
+    wait "${APP_PID}" 2>/dev/null || true
+    APP_PID=""
+done
+
+echo -e "${GREEN}===== 비교 결과 (업스트림 지연 ${UPSTREAM_LATENCY_MS}ms, 동시 사용자 ${CONCURRENT_USERS}) =====${NC}"
+for MODE in platform virtual; do
+    echo -e "${YELLOW}[${MODE}]${NC}"
+    cat "${OUT_DIR}/${MODE}.md"
+done
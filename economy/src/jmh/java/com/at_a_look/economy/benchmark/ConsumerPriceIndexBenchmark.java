@@ -0,0 +1,42 @@
+package com.at_a_look.economy.benchmark;
+
+import com.at_a_look.economy.entity.ConsumerPriceIndex;
+import com.at_a_look.economy.service.ConsumerPriceIndexService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CPI 전월/전년 동월 변화율 계산 벤치마크
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ConsumerPriceIndexBenchmark {
+
+    // 시계열 길이(개월): 2년 / 10년 / 25년
+    @Param({"24", "120", "300"})
+    public int months;
+
+    private List<ConsumerPriceIndex> cpis;
+
+    @Setup
+    public void setUp() {
+        cpis = SyntheticData.consumerPriceIndexes(months);
+    }
+
+    @Benchmark
+    public List<ConsumerPriceIndex> applyChangeRates() {
+        // 결과를 같은 엔티티에 덮어쓰므로 반복 실행해도 입력이 변하지 않음
+        ConsumerPriceIndexService.applyChangeRates(cpis);
+        return cpis;
+    }
+}
@@ -0,0 +1,69 @@
+package com.at_a_look.economy.benchmark;
+
+import com.at_a_look.economy.dto.ExchangeRateDto;
+import com.at_a_look.economy.dto.ExchangeRateResponseDTO;
+import com.at_a_look.economy.entity.ExchangeRate;
+import com.at_a_look.economy.metrics.IngestMetrics;
+import com.at_a_look.economy.repository.ExchangeRateRepository;
+import com.at_a_look.economy.service.ExchangeRateSeriesStore;
+import com.at_a_look.economy.service.ExchangeRateService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * 환율 시계열 구성 / 엔티티 → DTO 변환 벤치마크
+ * 저장소는 합성 데이터를 그대로 반환하는 스텁으로 대체하여 순수 변환 비용만 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ExchangeRateBenchmark {
+
+    // 조회 기간(일): 1개월 / 6개월 / 1년
+    @Param({"30", "180", "365"})
+    public int days;
+
+    private static final LocalDate START = LocalDate.of(2024, 1, 1);
+
+    private ExchangeRateService exchangeRateService;
+    private List<ExchangeRate> rates;
+    private LocalDate endDate;
+
+    @Setup
+    public void setUp() {
+        rates = SyntheticData.exchangeRates(START, days);
+        endDate = START.plusDays(days - 1L);
+
+        ExchangeRateRepository repository = mock(ExchangeRateRepository.class, withSettings().stubOnly());
+        when(repository.findBySearchDateBetweenOrderBySearchDateAsc(any(), any())).thenReturn(rates);
+        exchangeRateService = new ExchangeRateService(repository, new RestTemplate(), new IngestMetrics(new SimpleMeterRegistry()), event -> { },
+                new ExchangeRateSeriesStore(null, repository)); // 적재 전 저장소 → DB 조회 경로 측정
+    }
+
+    @Benchmark
+    public List<ExchangeRateDto> dateRangeSeries() {
+        return exchangeRateService.getExchangeRatesByDateRange(START, endDate);
+    }
+
+    @Benchmark
+    public List<ExchangeRateResponseDTO> fromEntities() {
+        return ExchangeRateResponseDTO.fromEntities(rates);
+    }
+}
@@ -0,0 +1,52 @@
+package com.at_a_look.economy.benchmark;
+
+import com.at_a_look.economy.util.JwtTokenUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 파싱/검증 벤치마크
+ * JwtAuthenticationFilter 가 매 요청마다 수행하는 경로(서명 검증 + 클레임 추출)를 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtTokenBenchmark {
+
+    private static final String EMAIL = "user1@example.com";
+
+    private JwtTokenUtil jwtTokenUtil;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtTokenUtil = new JwtTokenUtil();
+        ReflectionTestUtils.setField(jwtTokenUtil, "secret", "benchmark-secret-key-0123456789-abcdefghijklmnop");
+        ReflectionTestUtils.setField(jwtTokenUtil, "expiration", 86400L);
+        ReflectionTestUtils.setField(jwtTokenUtil, "refreshExpiration", 604800L);
+        token = jwtTokenUtil.generateToken(1L, EMAIL, "user1", "USER");
+    }
+
+    @Benchmark
+    public String parseEmail() {
+        return jwtTokenUtil.getEmailFromToken(token);
+    }
+
+    @Benchmark
+    public Boolean validate() {
+        return jwtTokenUtil.validateToken(token, EMAIL);
+    }
+
+    @Benchmark
+    public String generate() {
+        return jwtTokenUtil.generateToken(1L, EMAIL, "user1", "USER");
+    }
+}
@@ -0,0 +1,108 @@
+package com.at_a_look.economy.benchmark;
+
+import com.at_a_look.economy.dto.PostDto;
+import com.at_a_look.economy.entity.Post;
+import com.at_a_look.economy.entity.PostImage;
+import com.at_a_look.economy.entity.User;
+import com.at_a_look.economy.repository.PostBookmarkRepository;
+import com.at_a_look.economy.repository.PostImageRepository;
+import com.at_a_look.economy.repository.PostLikeRepository;
+import com.at_a_look.economy.repository.PostRepository;
+import com.at_a_look.economy.repository.UserRepository;
+import com.at_a_look.economy.service.FileUploadService;
+import com.at_a_look.economy.service.NotificationService;
+import com.at_a_look.economy.service.PostService;
+import com.at_a_look.economy.service.UploadBlobService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.mockito.Mockito;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * 게시글 엔티티 → 응답 DTO 변환 벤치마크
+ * 목록(요약 변환 + 썸네일 선택)과 상세(이미지 variant 맵 + 태그 JSON 파싱) 경로를 측정합니다.
+ * 저장소 호출은 미리 준비한 합성 데이터를 반환하는 스텁입니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PostConversionBenchmark {
+
+    // 목록 페이지 크기
+    @Param({"20", "100"})
+    public int pageSize;
+
+    private static final int IMAGES_PER_POST = 3;
+
+    private PostService postService;
+    private User author;
+
+    @Setup
+    public void setUp() {
+        author = SyntheticData.user(1L);
+        List<Post> posts = SyntheticData.posts(pageSize, author);
+        // Post 는 @Data 라 hashCode 가 가변 필드(viewCount)에 의존하므로 식별자 기준 맵 사용
+        Map<Post, List<PostImage>> imagesByPost = new IdentityHashMap<>();
+        posts.forEach(post -> imagesByPost.put(post, SyntheticData.postImages(post, IMAGES_PER_POST)));
+
+        PostRepository postRepository = stub(PostRepository.class);
+        when(postRepository.findByIsDeletedFalseOrderByCreatedAtDesc(any()))
+                .thenReturn(new PageImpl<>(posts, PageRequest.of(0, pageSize), pageSize * 10L));
+        when(postRepository.findByIdAndIsDeletedFalse(anyLong()))
+                .thenReturn(Optional.of(posts.get(0)));
+
+        PostImageRepository postImageRepository = stub(PostImageRepository.class);
+        when(postImageRepository.findFirstImageByPost(any()))
+                .thenAnswer(invocation -> imagesByPost.get(invocation.<Post>getArgument(0)).subList(0, 1));
+        when(postImageRepository.findByPostOrderByDisplayOrder(any()))
+                .thenAnswer(invocation -> imagesByPost.get(invocation.<Post>getArgument(0)));
+
+        UserRepository userRepository = stub(UserRepository.class);
+        when(userRepository.findByEmail(anyString())).thenReturn(Optional.of(author));
+
+        postService = new PostService(
+                postRepository,
+                postImageRepository,
+                userRepository,
+                stub(PostLikeRepository.class),
+                stub(PostBookmarkRepository.class),
+                stub(NotificationService.class),
+                stub(FileUploadService.class),
+                stub(UploadBlobService.class),
+                new ObjectMapper());
+    }
+
+    @Benchmark
+    public PostDto.ListResponse listPage() {
+        return postService.getPosts(null, "latest", 0, pageSize);
+    }
+
+    @Benchmark
+    public PostDto.Response detail() {
+        return postService.getPost(1L, author.getEmail());
+    }
+
+    private static <T> T stub(Class<T> type) {
+        return Mockito.mock(type, withSettings().stubOnly());
+    }
+}
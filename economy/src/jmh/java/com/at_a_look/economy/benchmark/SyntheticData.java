@@ -0,0 +1,132 @@
+package com.at_a_look.economy.benchmark;
+
+import com.at_a_look.economy.entity.ConsumerPriceIndex;
+import com.at_a_look.economy.entity.ExchangeRate;
+import com.at_a_look.economy.entity.Post;
+import com.at_a_look.economy.entity.PostImage;
+import com.at_a_look.economy.entity.User;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * 벤치마크용 합성 데이터 생성기
+ * 고정 시드를 사용하여 실행마다 동일한 데이터가 만들어지도록 합니다.
+ */
+final class SyntheticData {
+
+    static final String[] CURRENCIES = {
+            "USD", "EUR", "JPY(100)", "CNH", "GBP", "CHF", "CAD", "AUD", "HKD", "SGD",
+            "THB", "IDR(100)", "MYR", "NZD", "SEK", "DKK", "NOK", "SAR", "KWD", "BHD",
+            "AED", "BND"
+    };
+
+    private static final long SEED = 20240101L;
+
+    private SyntheticData() {
+    }
+
+    /**
+     * 영업일(주말 제외) 기준 통화별 환율 엔티티, 조회 쿼리와 동일하게 날짜 오름차순
+     */
+    static List<ExchangeRate> exchangeRates(LocalDate start, int days) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        List<ExchangeRate> rates = new ArrayList<>(days * CURRENCIES.length);
+        long id = 1;
+        for (int d = 0; d < days; d++) {
+            LocalDate date = start.plusDays(d);
+            if (date.getDayOfWeek() == DayOfWeek.SATURDAY || date.getDayOfWeek() == DayOfWeek.SUNDAY) {
+                continue;
+            }
+            for (String curUnit : CURRENCIES) {
+                double base = 100 + random.nextDouble() * 1300;
+                rates.add(ExchangeRate.builder()
+                        .id(id++)
+                        .searchDate(date)
+                        .curUnit(curUnit)
+                        .curNm(curUnit + " 통화")
+                        .ttb(base * 0.99)
+                        .tts(base * 1.01)
+                        .dealBasRate(base)
+                        .bkpr(Math.floor(base))
+                        .yeefeR(0.0)
+                        .tenDdEfeeR(0.0)
+                        .kftcDealBasRate(base)
+                        .kftcBkpr(Math.floor(base))
+                        .build());
+            }
+        }
+        return rates;
+    }
+
+    /**
+     * YYYYMM 오름차순 CPI 시계열 (변화율은 비워 둠)
+     */
+    static List<ConsumerPriceIndex> consumerPriceIndexes(int months) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        List<ConsumerPriceIndex> cpis = new ArrayList<>(months);
+        LocalDate month = LocalDate.of(2000, 1, 1);
+        double value = 60.0;
+        for (int i = 0; i < months; i++) {
+            value *= 1 + (random.nextDouble() - 0.3) * 0.01;
+            cpis.add(ConsumerPriceIndex.builder()
+                    .id((long) i + 1)
+                    .date(String.format("%04d%02d", month.getYear(), month.getMonthValue()))
+                    .cpiValue(value)
+                    .build());
+            month = month.plusMonths(1);
+        }
+        return cpis;
+    }
+
+    static User user(long id) {
+        return User.builder()
+                .id(id)
+                .username("user" + id)
+                .email("user" + id + "@example.com")
+                .password("{noop}password")
+                .build();
+    }
+
+    static List<Post> posts(int count, User author) {
+        List<Post> posts = new ArrayList<>(count);
+        String content = "환율과 금리 전망에 대한 의견을 나눕니다. ".repeat(20);
+        for (int i = 0; i < count; i++) {
+            posts.add(Post.builder()
+                    .id((long) i + 1)
+                    .user(author)
+                    .title("합성 게시글 " + i)
+                    .content(content)
+                    .boardType(Post.BoardType.values()[i % Post.BoardType.values().length])
+                    .tags("[\"환율\",\"금리\",\"tag" + (i % 7) + "\"]")
+                    .viewCount(i * 3)
+                    .likeCount(i % 11)
+                    .commentCount(i % 5)
+                    .createdAt(LocalDateTime.of(2024, 1, 1, 9, 0).plusMinutes(i))
+                    .build());
+        }
+        return posts;
+    }
+
+    static List<PostImage> postImages(Post post, int count) {
+        List<PostImage> images = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String hash = String.format("%064x", post.getId() * 31 + i);
+            images.add(PostImage.builder()
+                    .id(post.getId() * 100 + i)
+                    .post(post)
+                    .imageUrl("/uploads/objects/" + hash.substring(0, 2) + "/" + hash + ".jpg")
+                    .originalFilename("image" + i + ".jpg")
+                    .fileSize(250_000L)
+                    .contentType("image/jpeg")
+                    .variantWidths("320,720,1280")
+                    .displayOrder(i)
+                    .build());
+        }
+        return images;
+    }
+}
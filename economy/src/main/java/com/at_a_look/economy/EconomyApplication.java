@@ -2,14 +2,21 @@ package com.at_a_look.economy;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
 import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableScheduling
 public class EconomyApplication {
 
+	// 시작 단계 기록 버퍼 크기 (빈 생성 단계 포함, 초과분은 버려짐)
+	private static final int STARTUP_TIMELINE_CAPACITY = 4096;
+
 	public static void main(String[] args) {
-		SpringApplication.run(EconomyApplication.class, args);
+		SpringApplication application = new SpringApplication(EconomyApplication.class);
+		// 시작 단계별 소요 시간 기록 (StartupMetrics, /actuator/startup)
+		application.setApplicationStartup(new BufferingApplicationStartup(STARTUP_TIMELINE_CAPACITY));
+		application.run(args);
 	}
 	// ci/cd testing
 }
@@ -18,9 +18,7 @@ public class DataInitializer implements CommandLineRunner {
         log.info("🚀 [DataInitializer] 데이터 초기화 시작");
         
         try {
-            // 잠시 대기 (데이터베이스 초기화 완료를 기다림)
-            Thread.sleep(2000);
-            
+            // CommandLineRunner 는 컨텍스트 refresh(Liquibase/JPA 초기화) 이후 실행되므로 별도 대기 없음
             log.info("🔐 [DataInitializer] 관리자 계정 초기화 시작...");
             // 관리자 계정 초기화
             userService.initializeAdminAccount();
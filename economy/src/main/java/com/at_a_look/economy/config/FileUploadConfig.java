@@ -20,6 +20,8 @@ public class FileUploadConfig {
     
     private Profile profile = new Profile();
     private Post post = new Post();
+    private Image image = new Image();
+    private Gc gc = new Gc();
     
     @Data
     public static class Profile {
@@ -30,6 +32,33 @@ public class FileUploadConfig {
     public static class Post {
         private int maxFiles = 5;
         private String maxSize = "10MB";
+        // 다중 업로드 시 요청당 동시 저장 파일 수
+        private int parallelUploads = 4;
+    }
+
+    @Data
+    public static class Image {
+        // 원본보다 작은 너비만 생성 (업스케일 없음)
+        private List<Integer> variantWidths = List.of(320, 720, 1280);
+        private int workerThreads = 2;
+        private int queueCapacity = 32;
+        private float jpegQuality = 0.82f;
+        private long timeoutSeconds = 15;
+        // 디컴프레션 폭탄 방지용 최대 픽셀 수
+        private long maxPixels = 40_000_000L;
+    }
+
+    @Data
+    public static class Gc {
+        private boolean enabled = true;
+        // 배치당 검사 파일 수 (배치마다 DB 조회 1회)
+        private int batchSize = 500;
+        // 배치 사이 대기 시간 (디스크/DB 부하 분산)
+        private long batchPauseMillis = 200;
+        // 업로드 직후(게시글 작성 중) 파일 보호 기간
+        private long minAgeHours = 24;
+        // 격리 후 실제 삭제까지 유예 기간
+        private long quarantineDays = 7;
     }
     
     /**
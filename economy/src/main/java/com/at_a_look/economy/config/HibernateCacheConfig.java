@@ -0,0 +1,88 @@
+package com.at_a_look.economy.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.time.Duration;
+import java.util.OptionalLong;
+
+/**
+ * Hibernate 2차 캐시 설정 (JCache + Caffeine, 인스턴스 로컬 캐시)
+ * 읽기 위주 엔티티(도움말, 알림 설정, 소비자물가지수)와 해당 조회 쿼리 결과를 메모리에서 제공합니다.
+ * 리전은 여기서 크기/TTL 을 지정해 직접 생성하고, Hibernate 에는 만들어진 CacheManager 를 넘깁니다.
+ */
+@Slf4j
+@Configuration
+public class HibernateCacheConfig {
+
+    // 엔티티 리전
+    public static final String REGION_HELP_ARTICLE = "help_article";
+    public static final String REGION_USER_NOTIFICATION_SETTINGS = "user_notification_settings";
+    public static final String REGION_CONSUMER_PRICE_INDEX = "consumer_price_index";
+
+    // 쿼리 결과 리전
+    public static final String QUERY_REGION_HELP_ARTICLE = "help_article.query";
+    public static final String QUERY_REGION_USER_NOTIFICATION_SETTINGS = "user_notification_settings.query";
+    public static final String QUERY_REGION_CONSUMER_PRICE_INDEX = "consumer_price_index.query";
+
+    @Value("${cache.second-level.enabled:true}")
+    private boolean enabled;
+
+    // 다중 인스턴스 환경에서는 다른 인스턴스의 쓰기가 전파되지 않으므로 TTL 로 최대 지연을 제한
+    @Value("${cache.second-level.ttl-minutes:10}")
+    private long ttlMinutes;
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager() {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName()).getCacheManager();
+        Duration ttl = Duration.ofMinutes(ttlMinutes);
+
+        createRegion(cacheManager, REGION_HELP_ARTICLE, 1_000, ttl);
+        createRegion(cacheManager, REGION_USER_NOTIFICATION_SETTINGS, 50_000, ttl);
+        createRegion(cacheManager, REGION_CONSUMER_PRICE_INDEX, 2_000, ttl);
+        createRegion(cacheManager, QUERY_REGION_HELP_ARTICLE, 500, ttl);
+        createRegion(cacheManager, QUERY_REGION_USER_NOTIFICATION_SETTINGS, 50_000, ttl);
+        createRegion(cacheManager, QUERY_REGION_CONSUMER_PRICE_INDEX, 500, ttl);
+        createRegion(cacheManager, RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME, 1_000, ttl);
+        // 테이블별 마지막 갱신 시각: 쿼리 캐시 무효화 기준이므로 만료시키지 않음
+        createRegion(cacheManager, RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME, 10_000, null);
+
+        log.info("🗄️ Hibernate 2차 캐시 리전 생성 완료 (활성화={}, TTL={}분)", enabled, ttlMinutes);
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheHibernatePropertiesCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, enabled);
+            properties.put(AvailableSettings.USE_QUERY_CACHE, enabled);
+            if (enabled) {
+                properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+                properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            }
+        };
+    }
+
+    private void createRegion(CacheManager cacheManager, String name, long maximumSize, Duration ttl) {
+        if (cacheManager.getCache(name) != null) {
+            return;
+        }
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(maximumSize));
+        if (ttl != null) {
+            configuration.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+        }
+        configuration.setStatisticsEnabled(true);
+        cacheManager.createCache(name, configuration);
+    }
+}
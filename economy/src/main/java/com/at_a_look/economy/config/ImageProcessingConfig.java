@@ -0,0 +1,32 @@
+package com.at_a_look.economy.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+@RequiredArgsConstructor
+public class ImageProcessingConfig {
+
+    private final FileUploadConfig fileUploadConfig;
+
+    /**
+     * 이미지 리사이즈/메타데이터 제거 전용 워커 풀
+     * 디코딩은 CPU/메모리 사용량이 크므로 스레드 수와 대기열을 고정하고,
+     * 대기열이 가득 차면 작업을 거부하여 원본만 저장하도록 합니다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor imageProcessingExecutor() {
+        FileUploadConfig.Image image = fileUploadConfig.getImage();
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(image.getWorkerThreads());
+        executor.setMaxPoolSize(image.getWorkerThreads());
+        executor.setQueueCapacity(image.getQueueCapacity());
+        executor.setThreadNamePrefix("image-worker-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,67 @@
+package com.at_a_look.economy.config;
+
+import com.at_a_look.economy.metrics.IngestMetrics;
+import com.at_a_look.economy.metrics.QueryCountInspector;
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+public class MetricsConfig {
+
+    /**
+     * @Timed 어노테이션 처리 (컨트롤러 economy.controller, 수집 작업 ingest.job)
+     */
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry registry) {
+        return new TimedAspect(registry);
+    }
+
+    /**
+     * HTTP/컨트롤러/수집 작업 타이머에 히스토그램 버킷을 켜서 Prometheus에서 백분위 계산이 가능하도록 합니다.
+     */
+    @Bean
+    public MeterFilter latencyHistogramMeterFilter() {
+        return new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                String name = id.getName();
+                if (name.equals("http.server.requests") || name.equals("economy.controller")) {
+                    return DistributionStatisticConfig.builder()
+                            .percentilesHistogram(true)
+                            .minimumExpectedValue((double) Duration.ofMillis(5).toNanos())
+                            .maximumExpectedValue((double) Duration.ofSeconds(10).toNanos())
+                            .build()
+                            .merge(config);
+                }
+                if (name.equals(IngestMetrics.JOB_TIMER)) {
+                    return DistributionStatisticConfig.builder()
+                            .percentilesHistogram(true)
+                            .maximumExpectedValue((double) Duration.ofMinutes(30).toNanos())
+                            .build()
+                            .merge(config);
+                }
+                return config;
+            }
+        };
+    }
+
+    /**
+     * Hibernate 통계 수집(HibernateMetrics 자동 바인딩 대상) 및 요청당 SQL 집계 인스펙터 등록
+     */
+    @Bean
+    public HibernatePropertiesCustomizer metricsHibernatePropertiesCustomizer() {
+        return properties -> {
+            properties.put(AvailableSettings.GENERATE_STATISTICS, true);
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, new QueryCountInspector());
+        };
+    }
+}
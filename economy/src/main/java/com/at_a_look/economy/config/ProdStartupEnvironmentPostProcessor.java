@@ -0,0 +1,44 @@
+package com.at_a_look.economy.config;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.env.EnvironmentPostProcessor;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.Profiles;
+
+import java.util.Map;
+
+/**
+ * 운영(prod) 프로필의 시작 시간 단축용 기본 설정
+ * - Liquibase: 배포 시 별도 마이그레이션 컨테이너가 한 번만 실행하므로 앱 시작 시에는 건너뜀
+ *   (SPRING_LIQUIBASE_ENABLED=true 로 마이그레이션 모드 실행, deploy.yml 참고)
+ * - Springdoc: 운영에서는 SwaggerConfig 도 비활성화되어 있으므로 API 문서 스캔 자체를 건너뜀
+ *
+ * 가장 낮은 우선순위 소스로 추가되므로 환경 변수/설정 파일 값이 있으면 그 값을 따릅니다.
+ * (META-INF/spring.factories 에 등록)
+ */
+public class ProdStartupEnvironmentPostProcessor implements EnvironmentPostProcessor, Ordered {
+
+    static final String PROPERTY_SOURCE_NAME = "prodStartupDefaults";
+
+    private static final Map<String, Object> PROD_DEFAULTS = Map.of(
+            "spring.liquibase.enabled", "false",
+            "springdoc.api-docs.enabled", "false",
+            "springdoc.swagger-ui.enabled", "false");
+
+    @Override
+    public void postProcessEnvironment(ConfigurableEnvironment environment, SpringApplication application) {
+        if (environment.acceptsProfiles(Profiles.of("prod"))) {
+            environment.getPropertySources().addLast(new MapPropertySource(PROPERTY_SOURCE_NAME, PROD_DEFAULTS));
+        }
+    }
+
+    /**
+     * 설정 파일 처리(ConfigDataEnvironmentPostProcessor)로 활성 프로필이 정해진 뒤에 실행
+     */
+    @Override
+    public int getOrder() {
+        return Ordered.LOWEST_PRECEDENCE;
+    }
+}
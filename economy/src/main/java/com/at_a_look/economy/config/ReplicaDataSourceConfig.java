@@ -0,0 +1,97 @@
+package com.at_a_look.economy.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * 읽기/쓰기 분리 DataSource (datasource.replica.enabled=true 일 때만 활성화)
+ * - @Transactional(readOnly = true) 작업은 복제본(replica) 풀로, 나머지는 primary 풀로 라우팅
+ * - 복제 지연이 임계값을 넘거나 복제본 장애 시 읽기도 primary 로 폴백 (ReplicaLagMonitor)
+ * - 풀마다 별도 HikariDataSource 빈이라 hikaricp_* 지표가 pool=primary-pool / replica-pool 로 분리됨
+ *
+ * 라우팅은 ReplicaRoutingDataSource 가 TransactionSynchronizationManager.isCurrentTransactionReadOnly() 로 판단하고,
+ * LazyConnectionDataSourceProxy 로 감싸 첫 SQL 실행 시점에 실제 커넥션을 가져오므로 트랜잭션 속성이 확정된 뒤 풀이 선택됩니다.
+ * (Hibernate 커넥션 처리 모드에 따라 생략될 수 있는 Connection.setReadOnly 호출에는 의존하지 않음)
+ * 요청 단위로 커넥션이 묶이지 않도록 spring.jpa.open-in-view 기본값은 false (ReplicaEnvironmentPostProcessor)
+ *
+ * 설정 예)
+ *   datasource.replica.url=jdbc:mysql://replica:3306/economy
+ *   datasource.replica.username / password
+ *   datasource.replica.hikari.maximum-pool-size=20
+ *   datasource.replica.max-lag-seconds=5
+ *   datasource.replica.allow-standalone=true  (복제 설정 없는 두 번째 로컬 MySQL로 테스트할 때)
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(prefix = "datasource.replica", name = "enabled", havingValue = "true")
+public class ReplicaDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary-pool");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(
+            @Value("${datasource.replica.url}") String url,
+            @Value("${datasource.replica.username:${spring.datasource.username:}}") String username,
+            @Value("${datasource.replica.password:${spring.datasource.password:}}") String password) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(url)
+                .username(username)
+                .password(password)
+                .build();
+        dataSource.setPoolName("replica-pool");
+        dataSource.setReadOnly(true);
+        // 복제본 장애 시 빠르게 primary 로 폴백하도록 획득 대기 시간을 짧게 (hikari 설정으로 덮어쓰기 가능)
+        dataSource.setConnectionTimeout(2_000);
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(
+            @Qualifier("replicaDataSource") HikariDataSource replicaDataSource,
+            @Value("${datasource.replica.max-lag-seconds:5}") long maxLagSeconds,
+            @Value("${datasource.replica.allow-standalone:false}") boolean allowStandalone,
+            MeterRegistry meterRegistry) {
+        return new ReplicaLagMonitor(replicaDataSource, maxLagSeconds, allowStandalone, meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            @Qualifier("primaryDataSource") HikariDataSource primaryDataSource,
+            @Qualifier("replicaDataSource") HikariDataSource replicaDataSource,
+            ReplicaLagMonitor replicaLagMonitor,
+            MeterRegistry meterRegistry,
+            @Value("${spring.jpa.open-in-view:true}") boolean openInView) {
+        if (openInView) {
+            log.warn("⚠️ spring.jpa.open-in-view=true 와 읽기/쓰기 분리를 함께 사용 중입니다. " +
+                    "요청 중 처음 가져온 replica 커넥션이 이후 트랜잭션 밖 쓰기에도 재사용될 수 있습니다.");
+        }
+        ReplicaRoutingDataSource routingDataSource = new ReplicaRoutingDataSource(primaryDataSource,
+                new ReplicaFallbackDataSource(replicaDataSource, primaryDataSource, replicaLagMonitor, meterRegistry));
+
+        log.info("🔀 읽기/쓰기 분리 DataSource 활성화: primary={}, replica={}",
+                primaryDataSource.getJdbcUrl(), replicaDataSource.getJdbcUrl());
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+}
@@ -0,0 +1,42 @@
+package com.at_a_look.economy.config;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.env.EnvironmentPostProcessor;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.MapPropertySource;
+
+import java.util.Map;
+
+/**
+ * 읽기/쓰기 분리(datasource.replica.enabled=true) 시 기본 설정
+ * - spring.jpa.open-in-view=false: OSIV 가 켜져 있으면 요청 전체가 EntityManager 하나를 공유해,
+ *   처음 실행된 읽기 전용 트랜잭션이 가져온 replica 커넥션이 요청이 끝날 때까지 묶여 있고
+ *   이후 트랜잭션 밖의 쓰기도 그 커넥션(읽기 전용 복제본)으로 나갈 수 있음.
+ *   끄면 트랜잭션마다 커넥션을 반납하므로 ReplicaRoutingDataSource 가 매번 다시 풀을 고릅니다.
+ *
+ * 가장 낮은 우선순위 소스로 추가되므로 설정 파일/환경 변수 값이 있으면 그 값을 따릅니다.
+ * (true 로 명시하면 ReplicaDataSourceConfig 가 시작 시 경고, META-INF/spring.factories 에 등록)
+ */
+public class ReplicaEnvironmentPostProcessor implements EnvironmentPostProcessor, Ordered {
+
+    static final String PROPERTY_SOURCE_NAME = "replicaDefaults";
+
+    private static final Map<String, Object> REPLICA_DEFAULTS = Map.of(
+            "spring.jpa.open-in-view", "false");
+
+    @Override
+    public void postProcessEnvironment(ConfigurableEnvironment environment, SpringApplication application) {
+        if (environment.getProperty("datasource.replica.enabled", Boolean.class, false)) {
+            environment.getPropertySources().addLast(new MapPropertySource(PROPERTY_SOURCE_NAME, REPLICA_DEFAULTS));
+        }
+    }
+
+    /**
+     * 설정 파일 처리(ConfigDataEnvironmentPostProcessor) 이후에 실행되어야 datasource.replica.enabled 를 읽을 수 있음
+     */
+    @Override
+    public int getOrder() {
+        return Ordered.LOWEST_PRECEDENCE;
+    }
+}
@@ -0,0 +1,65 @@
+package com.at_a_look.economy.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * 읽기 전용 트랜잭션용 DataSource
+ * 복제본이 사용 가능하면 replica 풀에서, 지연/장애 시에는 primary 풀에서 커넥션을 가져옵니다.
+ *
+ * 지표: datasource.read.routing{target=replica|primary}
+ */
+public class ReplicaFallbackDataSource extends AbstractDataSource {
+
+    private final DataSource replica;
+    private final DataSource primary;
+    private final ReplicaLagMonitor lagMonitor;
+    private final Counter replicaReads;
+    private final Counter fallbackReads;
+
+    public ReplicaFallbackDataSource(DataSource replica, DataSource primary, ReplicaLagMonitor lagMonitor,
+                                     MeterRegistry meterRegistry) {
+        this.replica = replica;
+        this.primary = primary;
+        this.lagMonitor = lagMonitor;
+        this.replicaReads = meterRegistry.counter("datasource.read.routing", "target", "replica");
+        this.fallbackReads = meterRegistry.counter("datasource.read.routing", "target", "primary");
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return route(DataSource::getConnection);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return route(dataSource -> dataSource.getConnection(username, password));
+    }
+
+    /**
+     * 복제본이 사용 가능하면 replica 에서, 아니면(또는 획득 실패 시) primary 에서 커넥션 획득
+     */
+    private Connection route(ConnectionSource source) throws SQLException {
+        if (lagMonitor.isUsable()) {
+            try {
+                Connection connection = source.get(replica);
+                replicaReads.increment();
+                return connection;
+            } catch (SQLException e) {
+                lagMonitor.markUnusable("커넥션 획득 실패 - " + e.getMessage());
+            }
+        }
+        fallbackReads.increment();
+        return source.get(primary);
+    }
+
+    @FunctionalInterface
+    private interface ConnectionSource {
+        Connection get(DataSource dataSource) throws SQLException;
+    }
+}
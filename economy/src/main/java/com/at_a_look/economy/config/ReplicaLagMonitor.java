@@ -0,0 +1,97 @@
+package com.at_a_look.economy.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * 읽기 전용 복제본(replica) 지연 감시
+ * SHOW REPLICA STATUS 의 Seconds_Behind_Source 가 임계값 이하일 때만 복제본을 사용 가능으로 판단합니다.
+ * 복제가 멈췄거나(NULL) 조회 자체가 실패하면 사용 불가로 보고 읽기 트래픽을 primary 로 돌립니다.
+ *
+ * 지표: datasource.replica.lag (초, 측정 불가 시 -1), datasource.replica.usable (1/0)
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private final JdbcTemplate replicaJdbcTemplate;
+    private final long maxLagSeconds;
+    private final boolean allowStandalone;
+
+    private volatile boolean usable = true;
+    private volatile long lagSeconds = -1;
+
+    public ReplicaLagMonitor(DataSource replicaDataSource, long maxLagSeconds, boolean allowStandalone,
+                             MeterRegistry meterRegistry) {
+        this.replicaJdbcTemplate = new JdbcTemplate(replicaDataSource);
+        this.maxLagSeconds = maxLagSeconds;
+        this.allowStandalone = allowStandalone;
+
+        Gauge.builder("datasource.replica.lag", this, m -> m.lagSeconds)
+                .description("복제본 지연 시간 (초, 측정 불가 시 -1)")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("datasource.replica.usable", this, m -> m.usable ? 1 : 0)
+                .description("복제본 읽기 사용 여부")
+                .register(meterRegistry);
+    }
+
+    public boolean isUsable() {
+        return usable;
+    }
+
+    /**
+     * 복제본 커넥션 획득 실패 시 다음 점검 전까지 즉시 primary 로 전환
+     */
+    public void markUnusable(String reason) {
+        if (usable) {
+            log.warn("⚠️ 복제본 사용 중단 (primary 로 전환): {}", reason);
+        }
+        usable = false;
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replica.lag-check-interval-ms:5000}")
+    public void checkLag() {
+        Long lag;
+        try {
+            lag = replicaJdbcTemplate.query("SHOW REPLICA STATUS", this::extractLag);
+        } catch (DataAccessException e) {
+            lagSeconds = -1;
+            markUnusable("복제 상태 조회 실패 - " + e.getMostSpecificCause().getMessage());
+            return;
+        }
+
+        if (lag == null) {
+            lagSeconds = -1;
+            markUnusable("복제가 중지되었거나 지연 시간을 알 수 없음");
+            return;
+        }
+        lagSeconds = lag;
+
+        boolean nowUsable = lag <= maxLagSeconds;
+        if (nowUsable != usable) {
+            if (nowUsable) {
+                log.info("✅ 복제본 읽기 재개: 지연 {}초", lag);
+            } else {
+                log.warn("⚠️ 복제본 지연 {}초 (임계값 {}초) - primary 로 전환", lag, maxLagSeconds);
+            }
+        }
+        usable = nowUsable;
+    }
+
+    private Long extractLag(ResultSet rs) throws SQLException {
+        if (!rs.next()) {
+            // 복제 설정이 없는 단독 MySQL (로컬 테스트용 두 번째 인스턴스 등)
+            return allowStandalone ? 0L : null;
+        }
+        long lag = rs.getLong("Seconds_Behind_Source");
+        return rs.wasNull() ? null : lag;
+    }
+}
@@ -0,0 +1,30 @@
+package com.at_a_look.economy.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * 현재 트랜잭션의 읽기 전용 여부로 커넥션 풀을 선택하는 DataSource
+ * Connection.setReadOnly 호출 여부(Hibernate 커넥션 처리 모드에 따라 생략됨)에 의존하지 않도록
+ * TransactionSynchronizationManager 의 트랜잭션 속성으로 판단합니다.
+ *
+ * 트랜잭션 동기화가 시작된 뒤에 커넥션을 얻어야 하므로 LazyConnectionDataSourceProxy 로 감싸서 사용합니다.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    enum Target { PRIMARY, READ_ONLY }
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource readOnly) {
+        setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.READ_ONLY, readOnly));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return TransactionSynchronizationManager.isCurrentTransactionReadOnly() ? Target.READ_ONLY : Target.PRIMARY;
+    }
+}
@@ -1,5 +1,6 @@
 package com.at_a_look.economy.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.TaskScheduler;
@@ -8,15 +9,28 @@ import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 @Configuration
 public class SchedulerConfig {
 
+    // 가상 스레드는 비용이 작으므로 모든 @Scheduled 작업(현재 8개)이 동시에 돌 수 있는 크기
+    private static final int VIRTUAL_POOL_SIZE = 8;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreadsEnabled;
+
     @Bean
     public TaskScheduler taskScheduler() {
+        // @Scheduled(fixedDelay) 작업이 하나의 트리거 스레드에서 차례로 실행되지 않도록 두 모드 모두 스레드 풀 스케줄러 사용
+        // (SimpleAsyncTaskScheduler 는 고정 지연 작업을 단일 스케줄러 스레드에서 실행함)
         ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
-        scheduler.setPoolSize(4);
-        scheduler.setThreadNamePrefix("retry-scheduler-");
+        if (virtualThreadsEnabled) {
+            // 가상 스레드 모드: 작업자 스레드를 가상 스레드로 (외부 API 대기 중에도 캐리어 스레드를 점유하지 않음)
+            scheduler.setPoolSize(VIRTUAL_POOL_SIZE);
+            scheduler.setThreadFactory(Thread.ofVirtual().name("retry-scheduler-", 1).factory());
+        } else {
+            scheduler.setPoolSize(4);
+            scheduler.setThreadNamePrefix("retry-scheduler-");
+        }
         scheduler.setRemoveOnCancelPolicy(true);
         scheduler.setWaitForTasksToCompleteOnShutdown(false);
         scheduler.initialize();
         return scheduler;
     }
 }
-
@@ -84,6 +84,8 @@ public class SecurityConfig {
                 // 커뮤니티 공개 조회 허용 (GET 전용)
                 .requestMatchers(org.springframework.http.HttpMethod.GET, "/api/posts/**").permitAll()
                 .requestMatchers(org.springframework.http.HttpMethod.GET, "/api/comments/**").permitAll()
+                // 업로드 파일 조회: 게시글 첨부 이미지는 공개, 그 외는 인증 필요 (UploadResourceController 에서 파일별로 판정)
+                .requestMatchers(org.springframework.http.HttpMethod.GET, "/uploads/**").permitAll()
                 
                 // Swagger UI 및 API 문서 허용
                 .requestMatchers("/swagger-ui/**", "/v3/api-docs/**", "/swagger-resources/**").permitAll()
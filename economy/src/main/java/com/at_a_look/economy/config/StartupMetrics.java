@@ -0,0 +1,79 @@
+package com.at_a_look.economy.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 시작 단계별 소요 시간 지표
+ * EconomyApplication 에서 설정한 BufferingApplicationStartup 기록을 단계 이름별로 합산해
+ * application.startup.step{step=...} 게이지로 노출하고, 가장 느린 빈 생성 목록을 로그로 남깁니다.
+ * (전체 시작 시간은 Spring Boot 기본 지표 application.started.time / application.ready.time)
+ *
+ * 타임라인은 비우지 않으므로 /actuator/startup 을 노출하면 상세 기록도 조회할 수 있습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StartupMetrics {
+
+    private static final String BEAN_INSTANTIATE_STEP = "spring.beans.instantiate";
+    private static final int SLOWEST_BEAN_LOG_LIMIT = 10;
+
+    private final MeterRegistry meterRegistry;
+
+    // 단계 이름별 합계(ns) - 게이지가 참조하므로 필드로 유지
+    private final Map<String, Long> stepNanos = new HashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void recordStartupSteps(ApplicationReadyEvent event) {
+        ApplicationStartup applicationStartup = event.getApplicationContext().getApplicationStartup();
+        if (!(applicationStartup instanceof BufferingApplicationStartup buffering)) {
+            log.debug("BufferingApplicationStartup 이 설정되지 않아 시작 단계 지표를 건너뜁니다.");
+            return;
+        }
+
+        StartupTimeline timeline = buffering.getBufferedTimeline();
+        Map<String, Long> beanNanos = new HashMap<>();
+        for (StartupTimeline.TimelineEvent timelineEvent : timeline.getEvents()) {
+            StartupStep step = timelineEvent.getStartupStep();
+            long nanos = timelineEvent.getDuration().toNanos();
+            stepNanos.merge(step.getName(), nanos, Long::sum);
+            if (BEAN_INSTANTIATE_STEP.equals(step.getName())) {
+                for (StartupStep.Tag tag : step.getTags()) {
+                    if ("beanName".equals(tag.getKey())) {
+                        beanNanos.merge(tag.getValue(), nanos, Long::sum);
+                    }
+                }
+            }
+        }
+
+        stepNanos.keySet().forEach(name -> TimeGauge.builder("application.startup.step", stepNanos,
+                        TimeUnit.NANOSECONDS, steps -> steps.getOrDefault(name, 0L))
+                .description("시작 단계별 누적 소요 시간 (중첩 단계는 상위 단계에도 포함)")
+                .tag("step", name)
+                .register(meterRegistry));
+
+        log.info("⏱️ 시작 단계 {}건 기록 (컨텍스트 refresh {}ms)", timeline.getEvents().size(),
+                Duration.ofNanos(stepNanos.getOrDefault("spring.context.refresh", 0L)).toMillis());
+        beanNanos.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder()))
+                .limit(SLOWEST_BEAN_LOG_LIMIT)
+                .forEach(entry -> log.info("  - 빈 생성 {}: {}ms", entry.getKey(),
+                        Duration.ofNanos(entry.getValue()).toMillis()));
+    }
+}
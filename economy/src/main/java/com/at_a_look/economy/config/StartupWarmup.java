@@ -0,0 +1,177 @@
+package com.at_a_look.economy.config;
+
+import com.at_a_look.economy.repository.ConsumerPriceIndexRepository;
+import com.at_a_look.economy.repository.InterestRateLatestRepository;
+import com.at_a_look.economy.service.ConsumerPriceIndexService;
+import com.at_a_look.economy.service.ExchangeRateSeriesStore;
+import com.at_a_look.economy.service.ExchangeRateService;
+import com.at_a_look.economy.service.InterestRateService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 배포 직후 첫 요청 지연(p99 급등)을 막는 시작 워밍업
+ * ApplicationReadyEvent 에서 동기로 실행되므로 끝날 때까지 readiness 는 REFUSING_TRAFFIC 이고,
+ * 완료(또는 시간 초과) 후 ACCEPTING_TRAFFIC 으로 전환됩니다. (/actuator/health/readiness)
+ *
+ * 1) 스냅샷 적재: 환율 시계열 저장소, 최신 환율/금리/CPI 조회로 커넥션 풀·2차 캐시·Hibernate 메타데이터 준비
+ * 2) 직렬화 경로: 자기 자신에게 DB 전용 대시보드 API 를 반복 호출해 MVC·보안 필터·Jackson 경로를 JIT 컴파일
+ *
+ * 외부 API 를 호출할 수 있는 엔드포인트(환율 /today, CPI 조회 등)는 제외합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StartupWarmup {
+
+    // 외부 API 를 호출하지 않는 대시보드 조회 (시계열 저장소/캐시를 함께 채움)
+    private static final List<String> WARMUP_GET_PATHS = List.of(
+            "/api/economic/interest-rate",
+            "/api/economic/exchange-rate/period?startDate={start}&endDate={end}",
+            "/api/economic/consumer-price-index/period?startDate={start}&endDate={end}",
+            "/api/exchange-rates/currency/USD/recent?limit=30",
+            "/api/exchange-rates/currency/USD/stats?startDate={start}&endDate={end}",
+            "/api/economic/indicators?series=exchange-rate&code=USD&window=20&startDate={start}&endDate={end}",
+            "/api/economic/indicators?series=interest-rate&code=KR&window=20&startDate={start}&endDate={end}");
+
+    private static final String CONVERT_PATH = "/api/exchange-rates/convert";
+    private static final String CONVERT_BODY =
+            "{\"items\":[{\"from\":\"USD\",\"to\":\"KRW\",\"amount\":100},{\"from\":\"JPY(100)\",\"to\":\"USD\",\"amount\":10000}]}";
+
+    private final ApplicationContext applicationContext;
+    private final Environment environment;
+    private final MeterRegistry meterRegistry;
+    private final ExchangeRateSeriesStore exchangeRateSeriesStore;
+    private final ExchangeRateService exchangeRateService;
+    private final InterestRateService interestRateService;
+    private final InterestRateLatestRepository interestRateLatestRepository;
+    private final ConsumerPriceIndexService consumerPriceIndexService;
+    private final ConsumerPriceIndexRepository consumerPriceIndexRepository;
+
+    @Value("${warmup.enabled:true}")
+    private boolean enabled;
+
+    @Value("${warmup.http-rounds:20}")
+    private int httpRounds;
+
+    @Value("${warmup.max-duration-seconds:60}")
+    private long maxDurationSeconds;
+
+    /**
+     * 시계열 저장소 적재(@Order(0)) 등 다른 시작 리스너 이후에 실행
+     */
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (!enabled) {
+            return;
+        }
+        AvailabilityChangeEvent.publish(applicationContext, ReadinessState.REFUSING_TRAFFIC);
+        log.info("🔥 시작 워밍업 시작 (readiness: REFUSING_TRAFFIC)");
+
+        long started = System.nanoTime();
+        long deadline = started + Duration.ofSeconds(maxDurationSeconds).toNanos();
+        try {
+            primeSnapshots();
+            exerciseHttpPaths(deadline);
+        } catch (Exception e) {
+            log.warn("⚠️ 시작 워밍업 중 오류 (트래픽 수신은 계속 진행): {}", e.getMessage());
+        } finally {
+            long elapsed = System.nanoTime() - started;
+            Timer.builder("startup.warmup")
+                    .description("시작 워밍업 소요 시간")
+                    .register(meterRegistry)
+                    .record(Duration.ofNanos(elapsed));
+            AvailabilityChangeEvent.publish(applicationContext, ReadinessState.ACCEPTING_TRAFFIC);
+            log.info("✅ 시작 워밍업 완료: {}ms (readiness: ACCEPTING_TRAFFIC)", elapsed / 1_000_000);
+        }
+    }
+
+    /**
+     * 최신 스냅샷 조회 (단계별 실패는 다음 단계에 영향 없음)
+     */
+    private void primeSnapshots() {
+        if (!exchangeRateSeriesStore.isReady()) {
+            step("환율 시계열 저장소", exchangeRateSeriesStore::reload);
+        }
+        step("최신 환율", exchangeRateService::getLatestExchangeRate);
+        step("최신 금리 포인터", interestRateLatestRepository::findAllWithRates);
+        step("금리 응답", () -> interestRateService.fetchLatestInterestRates(false));
+        step("최신 CPI", consumerPriceIndexService::getLatestConsumerPriceIndex);
+        step("CPI 12개월", consumerPriceIndexRepository::findTop12ByOrderByDateDesc);
+    }
+
+    private void exerciseHttpPaths(long deadline) {
+        String port = environment.getProperty("local.server.port");
+        if (port == null) {
+            log.debug("웹 서버 포트를 알 수 없어 HTTP 워밍업을 건너뜁니다.");
+            return;
+        }
+
+        // 업스트림 회로 차단기 등 애플리케이션 RestTemplate 설정과 분리된 전용 클라이언트
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(Duration.ofSeconds(2));
+        requestFactory.setReadTimeout(Duration.ofSeconds(10));
+        RestTemplate client = new RestTemplate(requestFactory);
+
+        String baseUrl = "http://localhost:" + port;
+        LocalDate end = LocalDate.now();
+        Map<String, Object> params = Map.of("start", end.minusYears(1), "end", end);
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        HttpEntity<String> convertRequest = new HttpEntity<>(CONVERT_BODY, headers);
+
+        int requests = 0;
+        int failures = 0;
+        for (int round = 0; round < httpRounds && System.nanoTime() < deadline; round++) {
+            for (String path : WARMUP_GET_PATHS) {
+                requests++;
+                try {
+                    client.getForEntity(baseUrl + path, String.class, params);
+                } catch (Exception e) {
+                    failures++; // 데이터가 없어 400 이어도 직렬화/예외 처리 경로는 워밍업됨
+                }
+            }
+            requests++;
+            try {
+                client.exchange(baseUrl + CONVERT_PATH, HttpMethod.POST, convertRequest, String.class);
+            } catch (Exception e) {
+                failures++;
+            }
+        }
+        log.info("🔥 HTTP 워밍업: {}건 호출 (오류 응답 {}건)", requests, failures);
+    }
+
+    private void step(String name, Runnable action) {
+        long started = System.nanoTime();
+        try {
+            action.run();
+            log.debug("🔥 워밍업 - {}: {}ms", name, (System.nanoTime() - started) / 1_000_000);
+        } catch (Exception e) {
+            log.warn("⚠️ 워밍업 - {} 실패: {}", name, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.at_a_look.economy.config;
+
+import com.at_a_look.economy.metrics.VirtualThreadPinningMonitor;
+import com.zaxxer.hikari.HikariConfigMXBean;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceUnwrapper;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * 가상 스레드 실행 모드 (spring.threads.virtual.enabled=true)
+ * Tomcat 요청 처리는 Boot 가 가상 스레드로 전환하고, 여기서는 나머지를 맞춥니다.
+ * - @Async / MVC 비동기 실행기: 가상 스레드 (이미지 처리 풀은 CPU 작업이라 플랫폼 스레드 유지)
+ * - 스케줄러: SchedulerConfig 에서 스레드 풀 스케줄러의 작업자 스레드를 가상 스레드로 전환
+ * - DB 커넥션은 트랜잭션 시작이 아닌 첫 SQL 시점에 획득 (외부 API 호출 후 저장하는 작업의 커넥션 점유 방지)
+ *   반납 시점은 Hibernate 기본 처리 모드(DELAYED_ACQUISITION_AND_HOLD)를 유지합니다. 트랜잭션 종료 시 반납 모드는
+ *   HibernateJpaDialect 의 커넥션 준비(setReadOnly/격리 수준)를 건너뛰게 하므로 사용하지 않습니다.
+ * - JFR 기반 pinning 발생 위치 보고
+ *
+ * 요청 스레드 수에 상한이 없어지므로 실질적인 동시성 상한은 Hikari 풀 크기입니다.
+ * 풀 크기는 DB 가 감당할 수 있는 동시 쿼리 수(대략 DB 코어 수 x 2 + 디스크 수)에 맞추고,
+ * 초과 요청은 connection-timeout 동안 가상 스레드가 대기하므로 타임아웃을 응답 SLO 이하로 둡니다.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+
+    @Bean(name = {"applicationTaskExecutor", "taskExecutor"})
+    public SimpleAsyncTaskExecutor applicationTaskExecutor() {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("vt-async-");
+        executor.setVirtualThreads(true);
+        executor.setTaskTerminationTimeout(30_000);
+        return executor;
+    }
+
+    @Bean
+    public VirtualThreadPinningMonitor virtualThreadPinningMonitor(
+            MeterRegistry meterRegistry,
+            @Value("${virtual-threads.pinning.threshold-ms:20}") long thresholdMillis) {
+        return new VirtualThreadPinningMonitor(meterRegistry, Duration.ofMillis(thresholdMillis));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void logPoolSizing(ApplicationReadyEvent event) {
+        ObjectProvider<DataSource> dataSources = event.getApplicationContext().getBeanProvider(DataSource.class);
+        dataSources.orderedStream()
+                .map(dataSource -> DataSourceUnwrapper.unwrap(dataSource, HikariConfigMXBean.class, HikariDataSource.class))
+                .filter(Objects::nonNull)
+                .distinct()
+                .forEach(pool -> {
+                    log.info("🧵 가상 스레드 모드: 풀 {} 최대 {}개, 획득 대기 {}ms 가 동시 DB 작업 상한입니다.",
+                            pool.getPoolName(), pool.getMaximumPoolSize(), pool.getConnectionTimeout());
+                    if (pool.getConnectionTimeout() > 10_000) {
+                        log.warn("⚠️ 풀 {} connection-timeout({}ms)이 길어 과부하 시 요청이 오래 대기합니다. 응답 SLO 이하로 설정하세요.",
+                                pool.getPoolName(), pool.getConnectionTimeout());
+                    }
+                });
+    }
+
+    /**
+     * 기본 DataSource 를 LazyConnectionDataSourceProxy 로 감싸 트랜잭션 시작이 아닌 첫 SQL 시점에 커넥션을 획득
+     * Hikari 풀은 별도 빈으로 두어 종료 시 close() 가 추론되도록 함 (프록시를 dataSource 빈으로 바꿔치기하면 풀이 닫히지 않음)
+     * 읽기/쓰기 분리 모드에서는 ReplicaDataSourceConfig 가 같은 구성의 지연 프록시를 제공하므로 비활성화
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnProperty(prefix = "datasource.replica", name = "enabled", havingValue = "false", matchIfMissing = true)
+    static class LazyConnectionDataSourceConfig {
+
+        @Bean
+        @ConfigurationProperties("spring.datasource.hikari")
+        public HikariDataSource pooledDataSource(DataSourceProperties properties) {
+            HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+            if (StringUtils.hasText(properties.getName())) {
+                dataSource.setPoolName(properties.getName());
+            }
+            return dataSource;
+        }
+
+        @Bean
+        @Primary
+        public DataSource dataSource(@Qualifier("pooledDataSource") HikariDataSource pooledDataSource) {
+            return new LazyConnectionDataSourceProxy(pooledDataSource);
+        }
+    }
+}
@@ -1,6 +1,5 @@
 package com.at_a_look.economy.config;
 
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
@@ -8,15 +7,10 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
 
-    @Value("${file.upload.dir:uploads}")
-    private String uploadDir;
-
     @Override
     public void addResourceHandlers(ResourceHandlerRegistry registry) {
-        // 업로드된 파일들을 정적 리소스로 서빙
-        registry.addResourceHandler("/uploads/**")
-                .addResourceLocations("file:" + uploadDir + "/");
-        
+        // 업로드 파일(/uploads/**)은 UploadResourceController 에서 캐시/Range 헤더와 함께 서빙
+
         // 추가적인 정적 리소스 설정
         registry.addResourceHandler("/static/**")
                 .addResourceLocations("classpath:/static/");
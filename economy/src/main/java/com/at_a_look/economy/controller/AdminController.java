@@ -1,21 +1,29 @@
 package com.at_a_look.economy.controller;
 
 import com.at_a_look.economy.dto.AdminDto;
+import com.at_a_look.economy.dto.IngestRunDto;
 import com.at_a_look.economy.dto.UserSuspensionDto;
 import com.at_a_look.economy.dto.response.ApiResponse;
+import com.at_a_look.economy.entity.IngestRun;
 import com.at_a_look.economy.entity.User;
+import com.at_a_look.economy.scheduler.IngestOrchestrator;
 import com.at_a_look.economy.service.AdminService;
+import com.at_a_look.economy.service.IngestRunService;
 import com.at_a_look.economy.service.UserService;
 import com.at_a_look.economy.util.JwtTokenUtil;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpServletRequest;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
+@Timed("economy.controller")
 @RequestMapping("/api/admin")
 @RequiredArgsConstructor
 @Slf4j
@@ -25,6 +33,8 @@ public class AdminController {
     private final AdminService adminService;
     private final UserService userService;
     private final JwtTokenUtil jwtTokenUtil;
+    private final IngestRunService ingestRunService;
+    private final IngestOrchestrator ingestOrchestrator;
 
     /**
      * 관리자 권한 확인
@@ -371,4 +381,41 @@ public class AdminController {
             return ResponseEntity.badRequest().body(ApiResponse.error("만료된 정지 해제에 실패했습니다."));
         }
     }
-} 
\ No newline at end of file
+
+    @GetMapping("/ingest/runs")
+    @Operation(summary = "수집 작업 실행 이력 조회", description = "경제 지표 수집 작업의 최근 실행 이력을 조회합니다.")
+    public ResponseEntity<ApiResponse<List<IngestRunDto>>> getIngestRuns(
+            @RequestParam(required = false) String job,
+            @RequestParam(defaultValue = "50") int limit,
+            HttpServletRequest httpRequest) {
+
+        try {
+            checkAdminPermission(httpRequest);
+
+            List<IngestRunDto> runs = ingestRunService.getRecentRuns(job, Math.max(1, Math.min(limit, 200)));
+
+            return ResponseEntity.ok(ApiResponse.success(runs));
+        } catch (Exception e) {
+            log.error("수집 작업 실행 이력 조회 실패", e);
+            return ResponseEntity.badRequest().body(ApiResponse.error("수집 작업 실행 이력을 불러올 수 없습니다."));
+        }
+    }
+
+    @PostMapping("/ingest/run")
+    @Operation(summary = "일일 수집 수동 실행", description = "환율/기준금리/소비자물가지수 수집 후 경제 지수를 재계산합니다. 다른 인스턴스에서 실행 중이면 건너뜁니다.")
+    public ResponseEntity<ApiResponse<String>> runDailyIngest(HttpServletRequest httpRequest) {
+
+        try {
+            checkAdminPermission(httpRequest);
+
+            if (!ingestOrchestrator.start(IngestRun.Trigger.MANUAL)) {
+                return ResponseEntity.ok(ApiResponse.success("이미 실행 중인 일일 수집이 있어 건너뜁니다."));
+            }
+
+            return ResponseEntity.ok(ApiResponse.success("일일 수집을 시작했습니다. 진행 상황은 실행 이력에서 확인하세요."));
+        } catch (Exception e) {
+            log.error("일일 수집 수동 실행 실패", e);
+            return ResponseEntity.badRequest().body(ApiResponse.error("일일 수집을 시작할 수 없습니다."));
+        }
+    }
+}
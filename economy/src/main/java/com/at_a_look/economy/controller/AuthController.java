@@ -11,6 +11,7 @@ import com.at_a_look.economy.service.UserService;
 import com.at_a_look.economy.util.JwtTokenUtil;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -26,6 +27,7 @@ import java.util.Optional;
 
 @Slf4j
 @RestController
+@Timed("economy.controller")
 @RequestMapping("/api/auth")
 @RequiredArgsConstructor
 @Validated
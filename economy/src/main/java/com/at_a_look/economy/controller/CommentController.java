@@ -4,6 +4,7 @@ import com.at_a_look.economy.dto.CommentDto;
 import com.at_a_look.economy.dto.response.ApiResponse;
 import com.at_a_look.economy.service.CommentService;
 import com.at_a_look.economy.util.JwtTokenUtil;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
@@ -14,6 +15,7 @@ import jakarta.validation.Valid;
 
 @Slf4j
 @RestController
+@Timed("economy.controller")
 @RequestMapping("/api/comments")
 @RequiredArgsConstructor
 public class CommentController {
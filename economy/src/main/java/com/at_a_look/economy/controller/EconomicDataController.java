@@ -2,6 +2,7 @@ package com.at_a_look.economy.controller;
 
 import com.at_a_look.economy.dto.ConsumerPriceIndexDto;
 import com.at_a_look.economy.dto.ExchangeRateDto;
+import com.at_a_look.economy.dto.IndicatorSeriesDto;
 import com.at_a_look.economy.dto.InterestRateDto;
 import com.at_a_look.economy.dto.InterestRateResponse;
 import com.at_a_look.economy.dto.response.ApiResponse;
@@ -12,10 +13,16 @@ import com.at_a_look.economy.scheduler.ConsumerPriceIndexScheduler;
 import com.at_a_look.economy.scheduler.InterestRateScheduler;
 import com.at_a_look.economy.service.ConsumerPriceIndexService;
 import com.at_a_look.economy.service.EconomicIndexService;
+import com.at_a_look.economy.service.EconomicResponseCacheService;
+import com.at_a_look.economy.service.EconomicResponseCacheService.Endpoint;
 import com.at_a_look.economy.service.ExchangeRateService;
+import com.at_a_look.economy.service.IndicatorService;
 import com.at_a_look.economy.service.InterestRateService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.format.annotation.DateTimeFormat;
@@ -27,6 +34,7 @@ import java.util.List;
 
 @Slf4j
 @RestController
+@Timed("economy.controller")
 @RequiredArgsConstructor
 @RequestMapping("/api/economic")
 @Tag(name = "경제 지표 API", description = "환율, 금리, 물가지수, 경제 심리 지수 정보를 제공하는 API")
@@ -36,16 +44,19 @@ public class EconomicDataController {
     private final InterestRateService interestRateService;
     private final ConsumerPriceIndexService consumerPriceIndexService;
     private final EconomicIndexService economicIndexService;
+    private final IndicatorService indicatorService;
+    private final EconomicResponseCacheService responseCacheService;
     private final InterestRateScheduler interestRateScheduler;
     private final ConsumerPriceIndexScheduler consumerPriceIndexScheduler;
 
     // 종합 경제 심리 지수 조회
     @GetMapping("/index")
     @Operation(summary = "경제 심리 지수 조회", description = "금리, 환율, 물가지수를 종합한 경제 심리 지수를 조회합니다.")
-    public ResponseEntity<ApiResponse<EconomicIndexResponse>> getEconomicIndex() {
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "경제 심리 지수",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = EconomicIndexApiResponse.class)))
+    public ResponseEntity<?> getEconomicIndex() {
         try {
-            EconomicIndexResponse response = economicIndexService.getEconomicIndex();
-            return ResponseEntity.ok(ApiResponse.success(response));
+            return responseCacheService.respond(Endpoint.ECONOMIC_INDEX, economicIndexService::getEconomicIndex);
         } catch (IllegalArgumentException e) {
             log.warn("❌ [EconomicDataController] 경제 심리 지수 조회 실패 - 잘못된 파라미터: {}", e.getMessage());
             return ResponseEntity.badRequest().body(ApiResponse.error(e.getMessage()));
@@ -58,10 +69,11 @@ public class EconomicDataController {
     // 최신 환율 정보 조회
     @GetMapping("/exchange-rate")
     @Operation(summary = "최신 환율 정보 조회", description = "최신 원/달러, 원/유로, 원/엔 환율 정보를 조회합니다.")
-    public ResponseEntity<ApiResponse<ExchangeRateResponse>> getExchangeRate() {
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "최신 환율",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ExchangeRateApiResponse.class)))
+    public ResponseEntity<?> getExchangeRate() {
         try {
-            ExchangeRateResponse response = exchangeRateService.fetchLatestExchangeRates();
-            return ResponseEntity.ok(ApiResponse.success(response));
+            return responseCacheService.respond(Endpoint.EXCHANGE_RATE, exchangeRateService::fetchLatestExchangeRates);
         } catch (IllegalArgumentException e) {
             log.warn("❌ [EconomicDataController] 환율 정보 조회 실패 - 잘못된 파라미터: {}", e.getMessage());
             return ResponseEntity.badRequest().body(ApiResponse.error(e.getMessage()));
@@ -96,13 +108,37 @@ public class EconomicDataController {
         }
     }
 
+    // 환율/금리 시계열 지표 조회
+    @GetMapping("/indicators")
+    @Operation(summary = "시계열 지표 조회", description = "환율(exchange-rate) 또는 금리(interest-rate) 시계열의 이동평균, 이동 표준편차, 최저/최고, 하락률, 변동률을 조회합니다.")
+    public ResponseEntity<ApiResponse<IndicatorSeriesDto>> getIndicators(
+            @RequestParam("series") String series,
+            @RequestParam("code") String code,
+            @RequestParam(value = "window", defaultValue = "20") int window,
+            @RequestParam(value = "startDate", required = false) @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate startDate,
+            @RequestParam(value = "endDate", required = false) @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate endDate) {
+        try {
+            LocalDate end = endDate != null ? endDate : LocalDate.now();
+            LocalDate start = startDate != null ? startDate : end.minusYears(1);
+            IndicatorSeriesDto response = indicatorService.getIndicators(series, code, window, start, end);
+            return ResponseEntity.ok(ApiResponse.success(response));
+        } catch (IllegalArgumentException e) {
+            log.warn("❌ [EconomicDataController] 시계열 지표 조회 실패 - 잘못된 파라미터: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(ApiResponse.error(e.getMessage()));
+        } catch (Exception e) {
+            log.error("💥 [EconomicDataController] 시계열 지표 조회 중 예상치 못한 오류: {}", e.getMessage(), e);
+            return ResponseEntity.internalServerError().body(ApiResponse.error("시계열 지표 조회 중 오류가 발생했습니다."));
+        }
+    }
+
     // 최신 금리 정보 조회
     @GetMapping("/interest-rate")
     @Operation(summary = "최신 금리 정보 조회", description = "최신 한국은행 기준금리, 미 연준 기준금리, 시장금리 정보를 조회합니다.")
-    public ResponseEntity<ApiResponse<InterestRateResponse>> getInterestRate() {
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "최신 기준금리",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = InterestRateApiResponse.class)))
+    public ResponseEntity<?> getInterestRate() {
         try {
-            InterestRateResponse response = interestRateService.fetchLatestInterestRates();
-            return ResponseEntity.ok(ApiResponse.success(response));
+            return responseCacheService.respond(Endpoint.INTEREST_RATE, interestRateService::fetchLatestInterestRates);
         } catch (IllegalArgumentException e) {
             log.warn("❌ [EconomicDataController] 금리 정보 조회 실패 - 잘못된 파라미터: {}", e.getMessage());
             return ResponseEntity.badRequest().body(ApiResponse.error(e.getMessage()));
@@ -284,9 +320,19 @@ public class EconomicDataController {
     // 최신 소비자물가지수 조회
     @GetMapping("/consumer-price-index")
     @Operation(summary = "최신 소비자물가지수 조회", description = "최신 소비자물가지수(CPI) 정보와 변화율을 조회합니다.")
-    public ResponseEntity<ApiResponse<ConsumerPriceIndexResponse>> getConsumerPriceIndex() {
-        ConsumerPriceIndexResponse response = consumerPriceIndexService.fetchLatestConsumerPriceIndex();
-        return ResponseEntity.ok(ApiResponse.success(response));
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "최신 소비자물가지수",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ConsumerPriceIndexApiResponse.class)))
+    public ResponseEntity<?> getConsumerPriceIndex() {
+        try {
+            return responseCacheService.respond(Endpoint.CONSUMER_PRICE_INDEX,
+                    consumerPriceIndexService::fetchLatestConsumerPriceIndex);
+        } catch (IllegalArgumentException e) {
+            log.warn("❌ [EconomicDataController] 소비자물가지수 조회 실패 - 잘못된 파라미터: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(ApiResponse.error(e.getMessage()));
+        } catch (Exception e) {
+            log.error("💥 [EconomicDataController] 소비자물가지수 조회 중 예상치 못한 오류: {}", e.getMessage(), e);
+            return ResponseEntity.internalServerError().body(ApiResponse.error("소비자물가지수 조회 중 오류가 발생했습니다."));
+        }
     }
 
     // 특정 기간 소비자물가지수 조회
@@ -384,4 +430,17 @@ public class EconomicDataController {
             return ResponseEntity.ok(ApiResponse.error("디버깅 조회 실패: " + e.getMessage()));
         }
     }
+
+    // Swagger 응답 스키마 (캐시 응답 본문은 EconomicResponseCacheService 가 직렬화한 ApiResponse JSON 바이트라 타입 정보가 없음)
+    static class EconomicIndexApiResponse extends ApiResponse<EconomicIndexResponse> {
+    }
+
+    static class ExchangeRateApiResponse extends ApiResponse<ExchangeRateResponse> {
+    }
+
+    static class InterestRateApiResponse extends ApiResponse<InterestRateResponse> {
+    }
+
+    static class ConsumerPriceIndexApiResponse extends ApiResponse<ConsumerPriceIndexResponse> {
+    }
 }
@@ -1,8 +1,12 @@
 package com.at_a_look.economy.controller;
 
+import com.at_a_look.economy.dto.CurrencyConversionDto;
 import com.at_a_look.economy.dto.ExchangeRateResponseDTO;
+import com.at_a_look.economy.dto.ExchangeRateStatsDto;
 import com.at_a_look.economy.dto.response.ApiResponse;
+import com.at_a_look.economy.service.CurrencyConversionService;
 import com.at_a_look.economy.service.ExchangeRateService;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.format.annotation.DateTimeFormat;
@@ -18,11 +22,13 @@ import java.util.List;
 
 @Slf4j
 @RestController
+@Timed("economy.controller")
 @RequestMapping("/api/exchange-rates")
 @RequiredArgsConstructor
 public class ExchangeRateController {
 
     private final ExchangeRateService exchangeRateService;
+    private final CurrencyConversionService currencyConversionService;
 
     /**
      * 환율 데이터를 수동으로 가져와 저장합니다.
@@ -116,6 +122,67 @@ public class ExchangeRateController {
         }
     }
 
+    /**
+     * 특정 통화의 최근 N건 환율 데이터를 최신순으로 조회합니다.
+     */
+    @GetMapping("/currency/{curUnit}/recent")
+    public ResponseEntity<ApiResponse<List<ExchangeRateResponseDTO>>> getRecentExchangeRates(
+            @PathVariable("curUnit") String curUnit,
+            @RequestParam(value = "limit", defaultValue = "30") int limit) {
+        try {
+            List<ExchangeRateResponseDTO> rates = exchangeRateService.getRecentExchangeRates(curUnit, limit);
+            return ResponseEntity.ok(ApiResponse.success(rates));
+        } catch (IllegalArgumentException e) {
+            log.warn("❌ [ExchangeRateController] 최근 N건 환율 조회 실패 - 잘못된 파라미터: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(ApiResponse.error(e.getMessage()));
+        } catch (Exception e) {
+            log.error("💥 [ExchangeRateController] 최근 N건 환율 조회 중 예상치 못한 오류: {}", e.getMessage(), e);
+            return ResponseEntity.internalServerError().body(ApiResponse.error("최근 환율 데이터 조회 중 오류가 발생했습니다."));
+        }
+    }
+
+    /**
+     * 특정 통화의 기간 내 기준율 통계를 조회합니다. (기간 미지정 시 최근 1년)
+     */
+    @GetMapping("/currency/{curUnit}/stats")
+    public ResponseEntity<ApiResponse<ExchangeRateStatsDto>> getExchangeRateStats(
+            @PathVariable("curUnit") String curUnit,
+            @RequestParam(value = "startDate", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(value = "endDate", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        try {
+            LocalDate end = endDate != null ? endDate : LocalDate.now();
+            LocalDate start = startDate != null ? startDate : end.minusYears(1);
+            ExchangeRateStatsDto stats = exchangeRateService.getExchangeRateStats(curUnit, start, end);
+            return ResponseEntity.ok(ApiResponse.success(stats));
+        } catch (IllegalArgumentException e) {
+            log.warn("❌ [ExchangeRateController] 환율 통계 조회 실패 - 잘못된 파라미터: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(ApiResponse.error(e.getMessage()));
+        } catch (Exception e) {
+            log.error("💥 [ExchangeRateController] 환율 통계 조회 중 예상치 못한 오류: {}", e.getMessage(), e);
+            return ResponseEntity.internalServerError().body(ApiResponse.error("환율 통계 조회 중 오류가 발생했습니다."));
+        }
+    }
+
+    /**
+     * 여러 통화 환산을 한 번에 처리합니다. (전체 환율표를 내려받지 않고 서버에서 계산)
+     */
+    @PostMapping("/convert")
+    public ResponseEntity<ApiResponse<CurrencyConversionDto.BatchResponse>> convert(
+            @RequestBody CurrencyConversionDto.BatchRequest request) {
+        try {
+            CurrencyConversionDto.BatchResponse response = currencyConversionService.convertBatch(request);
+            return ResponseEntity.ok(ApiResponse.success(response));
+        } catch (IllegalArgumentException e) {
+            log.warn("❌ [ExchangeRateController] 환율 환산 실패 - 잘못된 파라미터: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(ApiResponse.error(e.getMessage()));
+        } catch (Exception e) {
+            log.error("💥 [ExchangeRateController] 환율 환산 중 예상치 못한 오류: {}", e.getMessage(), e);
+            return ResponseEntity.internalServerError().body(ApiResponse.error("환율 환산 중 오류가 발생했습니다."));
+        }
+    }
+
     /**
      * 특정 국가들의 최근 6개월 환율 데이터를 수동으로 가져와 저장합니다.
      */
@@ -1,5 +1,6 @@
 package com.at_a_look.economy.controller;
 
+import com.at_a_look.economy.dto.ExchangeRateHistoryImportResult;
 import com.at_a_look.economy.dto.ExchangeRateHistoryRequest;
 import com.at_a_look.economy.dto.ExchangeRateHistoryResponse;
 import com.at_a_look.economy.dto.UpdateMemoRequest;
@@ -8,10 +9,17 @@ import com.at_a_look.economy.dto.response.ApiResponse;
 import com.at_a_look.economy.dto.response.PagedResponse;
 import com.at_a_look.economy.service.ExchangeRateHistoryService;
 import com.at_a_look.economy.service.UserService;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.InputStream;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -19,6 +27,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 
 @RestController
+@Timed("economy.controller")
 @RequestMapping("/api/exchange-rate-history")
 @RequiredArgsConstructor
 @Slf4j
@@ -148,6 +157,47 @@ public class ExchangeRateHistoryController {
         }
     }
 
+    /**
+     * 사용자의 환율 저장 기록 전체 내보내기 (JSON 파일)
+     */
+    @GetMapping("/export")
+    public ResponseEntity<?> exportExchangeRateHistory(
+            @RequestHeader("Authorization") String token) {
+        try {
+            String userEmail = userService.getUserEmailFromToken(token);
+            StreamingResponseBody body = out -> exchangeRateHistoryService.exportExchangeRateHistory(userEmail, out);
+
+            return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .header(HttpHeaders.CONTENT_DISPOSITION,
+                            ContentDisposition.attachment().filename("exchange-rate-history.json").build().toString())
+                    .body(body);
+        } catch (Exception e) {
+            log.error("환율 기록 내보내기 실패", e);
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("환율 기록 내보내기에 실패했습니다: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * 내보낸 환율 저장 기록 가져오기 (JSON 배열 본문)
+     */
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ApiResponse<ExchangeRateHistoryImportResult>> importExchangeRateHistory(
+            @RequestHeader("Authorization") String token,
+            InputStream body) {
+        try {
+            String userEmail = userService.getUserEmailFromToken(token);
+            ExchangeRateHistoryImportResult result = exchangeRateHistoryService.importExchangeRateHistory(userEmail, body);
+
+            return ResponseEntity.ok(ApiResponse.success("환율 저장 기록을 가져왔습니다.", result));
+        } catch (Exception e) {
+            log.error("환율 기록 가져오기 실패", e);
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("환율 기록 가져오기에 실패했습니다: " + e.getMessage()));
+        }
+    }
+
     /**
      * 사용자의 환율 저장 기록 개수 조회
      */
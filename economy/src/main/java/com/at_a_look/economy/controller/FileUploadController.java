@@ -4,18 +4,26 @@ import com.at_a_look.economy.dto.FileUploadDto;
 import com.at_a_look.economy.dto.response.ApiResponse;
 import com.at_a_look.economy.service.FileUploadService;
 import com.at_a_look.economy.util.JwtTokenUtil;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import jakarta.servlet.ServletOutputStream;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
 import java.util.HashMap;
 
 @RestController
+@Timed("economy.controller")
 @RequestMapping("/api/files")
 @RequiredArgsConstructor
 @Slf4j
@@ -23,6 +31,9 @@ public class FileUploadController {
 
     private final FileUploadService fileUploadService;
     private final JwtTokenUtil jwtTokenUtil;
+    private final ObjectMapper objectMapper;
+
+    private static final String NDJSON = "application/x-ndjson";
 
     /**
      * 단일 파일 업로드
@@ -100,50 +111,16 @@ public class FileUploadController {
         try {
             String username = getUsernameFromToken(request);
 
-            // 카테고리 화이트리스트 검증
-            if (!isValidCategory(category)) {
-                return ResponseEntity.badRequest().body(
-                    ApiResponse.<FileUploadDto.MultipleUploadResponse>builder()
-                        .success(false)
-                        .message("지원하지 않는 카테고리입니다.")
-                        .build()
-                );
-            }
-            
-            // 파일 개수 검증
-            if (files.isEmpty()) {
+            String validationError = validateMultipleUpload(files, category);
+            if (validationError != null) {
                 return ResponseEntity.badRequest().body(
                     ApiResponse.<FileUploadDto.MultipleUploadResponse>builder()
                         .success(false)
-                        .message("업로드할 파일이 선택되지 않았습니다.")
+                        .message(validationError)
                         .build()
                 );
             }
             
-            if (files.size() > FileUploadDto.UploadLimits.MAX_FILES_PER_REQUEST) {
-                return ResponseEntity.badRequest().body(
-                    ApiResponse.<FileUploadDto.MultipleUploadResponse>builder()
-                        .success(false)
-                        .message("한 번에 최대 " + FileUploadDto.UploadLimits.MAX_FILES_PER_REQUEST + 
-                               "개 파일까지 업로드 가능합니다.")
-                        .build()
-                );
-            }
-            
-            // 각 파일 검증
-            for (MultipartFile file : files) {
-                if (file.getSize() > FileUploadDto.UploadLimits.MAX_FILE_SIZE) {
-                    return ResponseEntity.badRequest().body(
-                        ApiResponse.<FileUploadDto.MultipleUploadResponse>builder()
-                            .success(false)
-                            .message("파일 '" + file.getOriginalFilename() + "'의 크기가 너무 큽니다.")
-                            .build()
-                    );
-                }
-                
-                // 클라이언트 MIME 미신뢰: 서버단 시그니처 검사에 위임
-            }
-            
             FileUploadDto.MultipleUploadResponse response = fileUploadService.uploadMultipleFiles(files, category, username);
             
             return ResponseEntity.ok(
@@ -164,6 +141,42 @@ public class FileUploadController {
         }
     }
 
+    /**
+     * 다중 파일 업로드 (스트리밍)
+     * 파일이 병렬로 저장되는 대로 한 줄씩 결과(NDJSON)를 내려보내, 클라이언트가 완료된 이미지부터 표시할 수 있게 합니다.
+     */
+    @PostMapping(value = "/upload/multiple/stream", produces = NDJSON)
+    public void uploadMultipleFilesStreaming(
+            @RequestParam("files") List<MultipartFile> files,
+            @RequestParam(defaultValue = "general") String category,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+        getUsernameFromToken(request);
+
+        String validationError = validateMultipleUpload(files, category);
+        if (validationError != null) {
+            response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+            objectMapper.writeValue(response.getOutputStream(), ApiResponse.error(validationError));
+            return;
+        }
+
+        response.setContentType(NDJSON);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        ServletOutputStream out = response.getOutputStream();
+        fileUploadService.uploadFilesConcurrently(files, category, result -> {
+            try {
+                out.write(objectMapper.writeValueAsBytes(result));
+                out.write('\n');
+                out.flush();
+            } catch (IOException e) {
+                // 클라이언트 연결 종료 시에도 나머지 파일 저장은 계속 진행
+                log.debug("업로드 결과 전송 실패: {}", e.getMessage());
+            }
+        });
+    }
+
     /**
      * 파일 삭제
      */
@@ -255,6 +268,34 @@ public class FileUploadController {
         return jwtTokenUtil.getUsernameFromToken(token);
     }
 
+    /**
+     * 다중 업로드 요청 검증
+     * @return 오류 메시지 (유효하면 null)
+     */
+    private String validateMultipleUpload(List<MultipartFile> files, String category) {
+        // 카테고리 화이트리스트 검증
+        if (!isValidCategory(category)) {
+            return "지원하지 않는 카테고리입니다.";
+        }
+
+        // 파일 개수 검증
+        if (files.isEmpty()) {
+            return "업로드할 파일이 선택되지 않았습니다.";
+        }
+
+        if (files.size() > FileUploadDto.UploadLimits.MAX_FILES_PER_REQUEST) {
+            return "한 번에 최대 " + FileUploadDto.UploadLimits.MAX_FILES_PER_REQUEST + "개 파일까지 업로드 가능합니다.";
+        }
+
+        // 각 파일 검증 (클라이언트 MIME 미신뢰: 서버단 시그니처 검사에 위임)
+        for (MultipartFile file : files) {
+            if (file.getSize() > FileUploadDto.UploadLimits.MAX_FILE_SIZE) {
+                return "파일 '" + file.getOriginalFilename() + "'의 크기가 너무 큽니다.";
+            }
+        }
+        return null;
+    }
+
     private boolean isValidCategory(String category) {
         // 업로드 허용 카테고리 화이트리스트
         return switch (category) {
@@ -1,11 +1,13 @@
 package com.at_a_look.economy.controller;
 
+import io.micrometer.core.annotation.Timed;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import com.at_a_look.economy.dto.response.ApiResponse;
 
 @RestController
+@Timed("economy.controller")
 @RequestMapping("/api")
 public class HealthCheckController {
     
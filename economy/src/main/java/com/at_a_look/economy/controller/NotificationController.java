@@ -6,6 +6,7 @@ import com.at_a_look.economy.service.NotificationService;
 import com.at_a_look.economy.util.JwtTokenUtil;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
@@ -17,6 +18,7 @@ import jakarta.servlet.http.HttpServletRequest;
 
 @Slf4j
 @RestController
+@Timed("economy.controller")
 @RequestMapping("/api/notifications")
 @RequiredArgsConstructor
 @Tag(name = "Notification", description = "알림 관리 API")
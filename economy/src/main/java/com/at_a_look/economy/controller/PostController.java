@@ -7,6 +7,7 @@ import com.at_a_look.economy.service.PostService;
 import com.at_a_look.economy.util.JwtTokenUtil;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
@@ -20,6 +21,7 @@ import java.util.List;
 
 @Slf4j
 @RestController
+@Timed("economy.controller")
 @RequestMapping("/api/posts")
 @RequiredArgsConstructor
 @Tag(name = "Post", description = "게시글 관리 API")
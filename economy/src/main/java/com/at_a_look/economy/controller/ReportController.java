@@ -4,6 +4,7 @@ import com.at_a_look.economy.dto.ReportDto;
 import com.at_a_look.economy.dto.response.ApiResponse;
 import com.at_a_look.economy.service.ReportService;
 import com.at_a_look.economy.util.JwtTokenUtil;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
@@ -16,6 +17,7 @@ import java.time.LocalDateTime;
 
 @Slf4j
 @RestController
+@Timed("economy.controller")
 @RequestMapping("/api/reports")
 @RequiredArgsConstructor
 public class ReportController {
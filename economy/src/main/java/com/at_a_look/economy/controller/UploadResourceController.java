@@ -0,0 +1,261 @@
+package com.at_a_look.economy.controller;
+
+import com.at_a_look.economy.config.FileUploadConfig;
+import com.at_a_look.economy.service.UploadAccessService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.util.UrlPathHelper;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 업로드 파일 서빙 컨트롤러
+ * 업로드 파일은 UUID 기반 파일명으로 저장되고 덮어쓰지 않으므로 불변 리소스로 취급합니다.
+ * - 파일명 기반 강한 ETag + If-None-Match 304 처리
+ * - 단일 구간 Range 요청 (206 / 416, 형식이 잘못된 Range 는 무시하고 200)
+ * - 게시글에 첨부된 이미지만 익명 조회 + public 캐시, 그 외 업로드(프로필/임시/일반)는 인증 필요 + private 캐시
+ * - Tomcat sendfile 지원 시 커널 zero-copy, 미지원 시 FileChannel.transferTo 로 전송
+ */
+@Slf4j
+@Controller
+@RequiredArgsConstructor
+public class UploadResourceController {
+
+    private static final String URL_PREFIX = "/uploads/";
+    private static final String CACHE_CONTROL_PUBLIC_IMMUTABLE = "public, max-age=31536000, immutable";
+    private static final String CACHE_CONTROL_PRIVATE_IMMUTABLE = "private, max-age=31536000, immutable";
+
+    // Tomcat sendfile 요청 속성 (org.apache.coyote.Constants)
+    private static final String SENDFILE_SUPPORTED_ATTR = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME_ATTR = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START_ATTR = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END_ATTR = "org.apache.tomcat.sendfile.end";
+
+    private final FileUploadConfig fileUploadConfig;
+    private final UploadAccessService uploadAccessService;
+    private final UrlPathHelper urlPathHelper = new UrlPathHelper();
+
+    @GetMapping(URL_PREFIX + "**")
+    public void serveUpload(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        String relativePath = relativePath(request);
+        Path file = relativePath != null ? resolveFile(relativePath) : null;
+        if (file == null) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        // 공개 여부는 저장 경로가 아니라 게시글 첨부 여부로 판정 (SecurityConfig 는 /uploads/** 를 열어 두고 여기서 결정)
+        boolean publicObject = uploadAccessService.isPostAttached(relativePath);
+        if (!publicObject && !isAuthenticated()) {
+            response.sendError(HttpServletResponse.SC_UNAUTHORIZED);
+            return;
+        }
+
+        long length = Files.size(file);
+        String etag = buildETag(file, length);
+
+        response.setHeader(HttpHeaders.ETAG, etag);
+        // 인증이 필요한 업로드가 공유 캐시(CDN/프록시)에 저장되지 않도록 구분
+        response.setHeader(HttpHeaders.CACHE_CONTROL,
+                publicObject ? CACHE_CONTROL_PUBLIC_IMMUTABLE : CACHE_CONTROL_PRIVATE_IMMUTABLE);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+        if (matchesIfNoneMatch(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        long start = 0;
+        long end = length - 1;
+        String range = request.getHeader(HttpHeaders.RANGE);
+        if (range != null && isIfRangeSatisfied(request.getHeader(HttpHeaders.IF_RANGE), etag)) {
+            long[] parsed = parseRange(range, length);
+            if (parsed == null) {
+                // 다중 구간/잘못된 형식(bytes=5-3 등)은 Range 를 무시하고 전체 응답 (RFC 9110 14.2)
+                log.debug("지원하지 않는 Range 형식, 전체 응답: {}", range);
+            } else if (parsed.length == 0) {
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                response.sendError(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                return;
+            } else {
+                start = parsed[0];
+                end = parsed[1];
+                response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+            }
+        }
+
+        long count = end - start + 1;
+        MediaType mediaType = MediaTypeFactory.getMediaType(file.getFileName().toString())
+                .orElse(MediaType.APPLICATION_OCTET_STREAM);
+        response.setContentType(mediaType.toString());
+        response.setContentLengthLong(count);
+
+        if ("HEAD".equalsIgnoreCase(request.getMethod()) || count <= 0) {
+            return;
+        }
+
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED_ATTR))) {
+            // 컨테이너가 응답 커밋 후 sendfile(2)로 직접 전송하므로 요청 스레드는 즉시 반환됨
+            request.setAttribute(SENDFILE_FILENAME_ATTR, file.toString());
+            request.setAttribute(SENDFILE_START_ATTR, start);
+            request.setAttribute(SENDFILE_END_ATTR, end + 1);
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long remaining = count;
+            while (remaining > 0) {
+                long transferred = channel.transferTo(position, remaining, out);
+                if (transferred <= 0) {
+                    break;
+                }
+                position += transferred;
+                remaining -= transferred;
+            }
+        }
+    }
+
+    /**
+     * 요청 경로에서 업로드 디렉터리 기준 상대 경로 추출
+     */
+    private String relativePath(HttpServletRequest request) {
+        String path = urlPathHelper.getPathWithinApplication(request);
+        if (path == null || !path.startsWith(URL_PREFIX)) {
+            return null;
+        }
+        String relativePath = path.substring(URL_PREFIX.length());
+        if (relativePath.isEmpty() || relativePath.contains("..") || relativePath.contains("\\")) {
+            return null;
+        }
+        return relativePath;
+    }
+
+    private boolean isAuthenticated() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.isAuthenticated()
+                && !(authentication instanceof AnonymousAuthenticationToken);
+    }
+
+    /**
+     * 상대 경로를 업로드 디렉터리 내부의 일반 파일로 해석 (디렉터리 이탈/숨김 경로 차단)
+     */
+    private Path resolveFile(String relativePath) {
+
+        Path baseDir = Paths.get(fileUploadConfig.getDir()).toAbsolutePath().normalize();
+        Path file = baseDir.resolve(relativePath).normalize();
+        if (!file.startsWith(baseDir)) {
+            log.warn("보안 경고: 업로드 디렉터리 밖의 파일 접근 시도: {}", relativePath);
+            return null;
+        }
+        // 스테이징(.staging) 등 숨김 경로는 서빙하지 않음
+        for (Path segment : baseDir.relativize(file)) {
+            if (segment.toString().startsWith(".")) {
+                return null;
+            }
+        }
+        return Files.isRegularFile(file) ? file : null;
+    }
+
+    /**
+     * UUID 기반 파일명은 내용이 바뀌지 않으므로 파일명 + 크기만으로 강한 ETag를 만든다.
+     */
+    private String buildETag(Path file, long length) {
+        String filename = file.getFileName().toString();
+        int dot = filename.lastIndexOf('.');
+        String stem = dot > 0 ? filename.substring(0, dot) : filename;
+        return "\"" + stem + "-" + Long.toHexString(length) + "\"";
+    }
+
+    private boolean matchesIfNoneMatch(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if ("*".equals(value)) {
+                return true;
+            }
+            // If-None-Match는 약한 비교를 사용
+            if (value.startsWith("W/")) {
+                value = value.substring(2);
+            }
+            if (etag.equals(value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isIfRangeSatisfied(String ifRange, String etag) {
+        // If-Range 미지정이거나 강한 ETag 일치 시에만 Range 적용 (날짜 형식은 불변 리소스이므로 항상 허용)
+        if (ifRange == null || ifRange.isBlank()) {
+            return true;
+        }
+        String value = ifRange.trim();
+        return !value.startsWith("\"") && !value.startsWith("W/") || etag.equals(value);
+    }
+
+    /**
+     * 단일 byte range 파싱
+     * @return {start, end} / 만족 불가(시작 위치가 파일 길이 이상) 시 빈 배열 / 잘못되었거나 지원하지 않는 형식이면 null
+     */
+    private long[] parseRange(String range, long length) {
+        if (!range.startsWith("bytes=") || range.indexOf(',') >= 0) {
+            return null;
+        }
+        String spec = range.substring("bytes=".length()).trim();
+        int dash = spec.indexOf('-');
+        if (dash < 0) {
+            return null;
+        }
+        try {
+            String startPart = spec.substring(0, dash).trim();
+            String endPart = spec.substring(dash + 1).trim();
+            long start;
+            long end;
+            if (startPart.isEmpty()) {
+                // suffix range: 마지막 N 바이트
+                long suffix = Long.parseLong(endPart);
+                if (suffix <= 0) {
+                    return new long[0];
+                }
+                start = Math.max(0, length - suffix);
+                end = length - 1;
+            } else {
+                start = Long.parseLong(startPart);
+                end = endPart.isEmpty() ? Long.MAX_VALUE : Long.parseLong(endPart);
+                if (start < 0 || end < start) {
+                    // 끝 위치가 시작보다 앞서는 구간은 문법상 유효하지 않으므로 무시
+                    return null;
+                }
+                end = Math.min(end, length - 1);
+            }
+            if (start >= length) {
+                return new long[0];
+            }
+            return new long[]{start, end};
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
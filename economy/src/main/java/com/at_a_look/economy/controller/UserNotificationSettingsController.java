@@ -6,12 +6,14 @@ import com.at_a_look.economy.service.UserNotificationSettingsService;
 import com.at_a_look.economy.util.JwtTokenUtil;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 @RestController
+@Timed("economy.controller")
 @RequestMapping("/api/notification-settings")
 @RequiredArgsConstructor
 @Slf4j
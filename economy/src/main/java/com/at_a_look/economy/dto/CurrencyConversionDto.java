@@ -0,0 +1,51 @@
+package com.at_a_look.economy.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+public class CurrencyConversionDto {
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ConversionItem {
+        private String from; // USD, JPY, KRW 등 (JPY(100) 형식도 허용)
+        private String to;
+        private BigDecimal amount;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class BatchRequest {
+        private LocalDate date; // 기준 날짜 (없으면 최신, 해당 날짜가 없으면 직전 영업일)
+        private List<ConversionItem> items;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ConversionResult {
+        private String from;
+        private String to;
+        private BigDecimal amount;
+        private BigDecimal rate; // from 1단위당 to 금액
+        private BigDecimal convertedAmount;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class BatchResponse {
+        private LocalDate date; // 실제 적용된 환율 기준 날짜
+        private List<ConversionResult> results;
+    }
+}
@@ -0,0 +1,15 @@
+package com.at_a_look.economy.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExchangeRateHistoryImportResult {
+    private int imported; // 저장된 기록 수
+    private int skipped; // 필수 값 누락 등으로 건너뛴 기록 수
+}
@@ -0,0 +1,47 @@
+package com.at_a_look.economy.dto;
+
+import com.at_a_look.economy.service.ExchangeRateSeriesStore;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 통화별 기간 기준율 통계 DTO
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExchangeRateStatsDto {
+    private String curUnit;      // 통화 코드
+    private LocalDate startDate; // 조회 시작 날짜
+    private LocalDate endDate;   // 조회 종료 날짜
+    private int count;           // 고시 건수
+    private Double min;          // 최저 기준율
+    private Double max;          // 최고 기준율
+    private Double average;      // 평균 기준율
+    private Double stdDev;       // 표준편차
+    private Double first;        // 기간 첫 기준율
+    private Double last;         // 기간 마지막 기준율
+    private Double changeRate;   // 기간 변동률 (%)
+
+    public static ExchangeRateStatsDto from(String curUnit, LocalDate startDate, LocalDate endDate,
+                                            ExchangeRateSeriesStore.Stats stats) {
+        return ExchangeRateStatsDto.builder()
+                .curUnit(curUnit)
+                .startDate(startDate)
+                .endDate(endDate)
+                .count(stats.count())
+                .min(stats.min())
+                .max(stats.max())
+                .average(stats.average())
+                .stdDev(stats.stdDev())
+                .first(stats.first())
+                .last(stats.last())
+                .changeRate(stats.changeRate())
+                .build();
+    }
+}
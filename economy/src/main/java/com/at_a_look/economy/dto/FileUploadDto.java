@@ -6,6 +6,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.util.List;
+import java.util.Map;
 
 public class FileUploadDto {
 
@@ -19,6 +20,7 @@ public class FileUploadDto {
         private String contentType;
         private Long fileSize;
         private String uploadId; // 임시 업로드 ID (게시글 작성 시 연결용)
+        private Map<String, String> variantUrls; // 리사이즈 버전 ("w320" → URL)
     }
 
     @Data
@@ -32,6 +34,18 @@ public class FileUploadDto {
         private List<String> errors;
     }
 
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class UploadResult {
+        private int index; // 요청 내 파일 순서
+        private String filename;
+        private boolean success;
+        private UploadResponse file;
+        private String error;
+    }
+
 
 
     @Data
@@ -0,0 +1,42 @@
+package com.at_a_look.economy.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 환율/금리 시계열 지표 응답 DTO
+ * 창(window) 크기만큼 데이터가 쌓이기 전 구간의 이동 지표는 null 입니다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class IndicatorSeriesDto {
+    private String series;       // exchange-rate, interest-rate
+    private String code;         // USD, JPY(100) / KR, US 등
+    private int window;          // 이동 창 크기 (데이터 건수 기준)
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private List<Point> points;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Point {
+        private LocalDate date;
+        private Double value;        // 원 값 (기준율 또는 금리)
+        private Double sma;          // 단순 이동평균
+        private Double ema;          // 지수 이동평균
+        private Double stdDev;       // 이동 표준편차
+        private Double min;          // 창 내 최저값
+        private Double max;          // 창 내 최고값
+        private Double drawdown;     // 누적 최고점 대비 하락률 (%)
+        private Double changeRate;   // window 건 전 대비 변동률 (%)
+    }
+}
@@ -0,0 +1,41 @@
+package com.at_a_look.economy.dto;
+
+import com.at_a_look.economy.entity.IngestRun;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class IngestRunDto {
+    private Long id;
+    private String jobName;
+    private String trigger;
+    private String status;
+    private String nodeId;
+    private Integer attempts;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private Long durationMs;
+    private String errorMessage;
+
+    public static IngestRunDto fromEntity(IngestRun entity) {
+        return IngestRunDto.builder()
+                .id(entity.getId())
+                .jobName(entity.getJobName())
+                .trigger(entity.getTrigger().name())
+                .status(entity.getStatus().name())
+                .nodeId(entity.getNodeId())
+                .attempts(entity.getAttempts())
+                .startedAt(entity.getStartedAt())
+                .finishedAt(entity.getFinishedAt())
+                .durationMs(entity.getDurationMs())
+                .errorMessage(entity.getErrorMessage())
+                .build();
+    }
+}
@@ -1,5 +1,7 @@
 package com.at_a_look.economy.dto;
 
+import com.at_a_look.economy.dto.response.FallbackResponse;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -13,7 +15,7 @@ import java.util.Map;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-public class InterestRateResponse {
+public class InterestRateResponse implements FallbackResponse {
 
     @Data
     @Builder
@@ -42,4 +44,7 @@ public class InterestRateResponse {
     private List<HistoryData> history; // 12개월 히스토리
     private LocalDate lastUpdated;
     private String message;
+
+    @JsonIgnore
+    private boolean fallback; // 샘플 데이터 여부 (HTTP 캐시 제외)
 } 
\ No newline at end of file
@@ -11,6 +11,7 @@ import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 public class PostDto {
 
@@ -35,6 +36,7 @@ public class PostDto {
         
         // 이미지 정보
         private List<ImageInfo> images;
+        private String thumbnailImageUrl; // 목록 미리보기용 (리사이즈 버전 우선)
         
         // 사용자 상호작용 정보
         private UserInteraction userInteraction;
@@ -57,6 +59,7 @@ public class PostDto {
             private String originalFilename;
             private Long fileSize;
             private Integer displayOrder;
+            private Map<String, String> variants; // 리사이즈 버전 ("w320" → URL)
         }
         
         @Data
@@ -161,7 +164,7 @@ public class PostDto {
         private Integer commentCount;
         private LocalDateTime createdAt;
         private AuthorInfo author;
-        private String thumbnailImageUrl; // 첫 번째 이미지
+        private String thumbnailImageUrl; // 첫 번째 이미지 (리사이즈 버전 우선)
         private UserInteraction userInteraction;
         
         @Data
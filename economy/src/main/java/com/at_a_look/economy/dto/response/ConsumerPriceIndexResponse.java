@@ -1,6 +1,7 @@
 package com.at_a_look.economy.dto.response;
 
 import com.at_a_look.economy.dto.ConsumerPriceIndexDto;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -12,11 +13,14 @@ import java.util.List;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-public class ConsumerPriceIndexResponse {
+public class ConsumerPriceIndexResponse implements FallbackResponse {
     private Double currentCPI;
     private Double prevMonthCPI;
     private Double changeRate;
     private Double annualRate;
     private String date; // 최신 데이터의 날짜 (YYYYMM 형식)
     private List<ConsumerPriceIndexDto> history;
+
+    @JsonIgnore
+    private boolean fallback; // 샘플 데이터 여부 (HTTP 캐시 제외)
 } 
\ No newline at end of file
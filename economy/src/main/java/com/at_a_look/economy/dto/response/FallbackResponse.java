@@ -0,0 +1,10 @@
+package com.at_a_look.economy.dto.response;
+
+/**
+ * 조회 실패 시 샘플(대체) 데이터로 만들 수 있는 응답
+ * 대체 응답은 HTTP 캐시(EconomicResponseCacheService)에 보관하지 않고 no-store 로 내려보냅니다.
+ */
+public interface FallbackResponse {
+
+    boolean isFallback();
+}
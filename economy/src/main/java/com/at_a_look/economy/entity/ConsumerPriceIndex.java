@@ -1,16 +1,21 @@
 package com.at_a_look.economy.entity;
 
+import com.at_a_look.economy.config.HibernateCacheConfig;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = HibernateCacheConfig.REGION_CONSUMER_PRICE_INDEX)
 @Table(name = "consumer_price_index")
 public class ConsumerPriceIndex {
 
@@ -21,6 +26,9 @@ public class ConsumerPriceIndex {
     @Column(nullable = false, length = 6)
     private String date; // YYYYMM 형식
 
+    @Column(nullable = false)
+    private Integer period; // YYYYMM 정수 (범위 조회/업서트 키, date 에서 자동 설정)
+
     @Column(name = "cpi_value", nullable = false)
     private Double cpiValue;
 
@@ -29,4 +37,12 @@ public class ConsumerPriceIndex {
 
     @Column(name = "annual_change", nullable = false)
     private Double annualChange;
-} 
\ No newline at end of file
+
+    @PrePersist
+    @PreUpdate
+    void syncPeriod() {
+        if (date != null) {
+            period = Integer.valueOf(date);
+        }
+    }
+}
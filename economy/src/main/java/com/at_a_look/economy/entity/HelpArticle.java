@@ -1,10 +1,13 @@
 package com.at_a_look.economy.entity;
 
+import com.at_a_look.economy.config.HibernateCacheConfig;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 
@@ -13,6 +16,8 @@ import java.time.LocalDateTime;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = HibernateCacheConfig.REGION_HELP_ARTICLE)
 @Table(name = "help_articles")
 public class HelpArticle {
 
@@ -38,7 +43,8 @@ public class HelpArticle {
     @Builder.Default
     private Boolean isActive = true;
 
-    @Column(name = "view_count", nullable = false)
+    // 조회수는 HelpArticleService.flushViewCounts 의 일괄 UPDATE 로만 증가 (엔티티 수정 시 덮어쓰지 않음)
+    @Column(name = "view_count", nullable = false, updatable = false)
     @Builder.Default
     private Integer viewCount = 0;
 
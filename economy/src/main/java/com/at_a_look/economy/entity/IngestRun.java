@@ -0,0 +1,65 @@
+package com.at_a_look.economy.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 수집 작업 실행 이력
+ * 리더 락을 얻은 인스턴스만 기록하므로, 같은 작업의 같은 시각 실행은 한 행만 남습니다.
+ */
+@Entity
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "ingest_runs")
+public class IngestRun {
+
+    public enum Status {
+        RUNNING, SUCCEEDED, FAILED, SKIPPED
+    }
+
+    public enum Trigger {
+        SCHEDULED, MANUAL
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "job_name", nullable = false, length = 64)
+    private String jobName;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "trigger_type", nullable = false, length = 20)
+    private Trigger trigger;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Status status;
+
+    // 실행한 인스턴스 (호스트명:PID)
+    @Column(name = "node_id", nullable = false)
+    private String nodeId;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer attempts = 0;
+
+    @Column(name = "started_at", nullable = false)
+    private LocalDateTime startedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    @Column(name = "duration_ms")
+    private Long durationMs;
+
+    @Column(name = "error_message", length = 1000)
+    private String errorMessage;
+}
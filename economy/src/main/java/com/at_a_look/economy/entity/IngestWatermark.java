@@ -0,0 +1,42 @@
+package com.at_a_look.economy.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 외부 통계 시계열별 증분 수집 기준점
+ * last_time 이후 구간만 요청하고, 값이 바뀌지 않은 연속 확인 횟수로 다음 확인 간격을 늘립니다.
+ */
+@Entity
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "ingest_watermarks")
+public class IngestWatermark {
+
+    // 예: ecos:722Y001:0101000 (통계표 코드:항목 코드)
+    @Id
+    @Column(name = "series_key", length = 64)
+    private String seriesKey;
+
+    // 마지막으로 받은 ECOS TIME (일별 YYYYMMDD)
+    @Column(name = "last_time", length = 14)
+    private String lastTime;
+
+    @Column(name = "last_checked_at")
+    private LocalDateTime lastCheckedAt;
+
+    // 마지막으로 값이 바뀐(발표일이 새로 들어온) 시각
+    @Column(name = "last_changed_at")
+    private LocalDateTime lastChangedAt;
+
+    @Column(name = "unchanged_polls", nullable = false)
+    @Builder.Default
+    private Integer unchangedPolls = 0;
+}
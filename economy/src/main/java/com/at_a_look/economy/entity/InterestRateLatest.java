@@ -0,0 +1,39 @@
+package com.at_a_look.economy.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 국가별 최신 금리 포인터
+ * 수집 트랜잭션에서 갱신되며, 최신 금리 조회는 이 테이블의 기본 키 조인으로 끝납니다.
+ */
+@Entity
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "interest_rate_latest")
+public class InterestRateLatest {
+
+    @Id
+    @Column(name = "country_code", length = 2)
+    private String countryCode;
+
+    // 발표일 여부와 상관없는 가장 최근 금리
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "latest_rate_id", nullable = false)
+    private InterestRate latestRate;
+
+    // 가장 최근 발표일 금리 (발표일 데이터가 없으면 null)
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "latest_announcement_rate_id")
+    private InterestRate latestAnnouncementRate;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
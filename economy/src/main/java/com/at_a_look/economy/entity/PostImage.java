@@ -8,6 +8,10 @@ import lombok.NoArgsConstructor;
 import lombok.ToString;
 
 import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
 
 @Entity
 @Data
@@ -38,6 +42,10 @@ public class PostImage {
     @Column(name = "content_type", nullable = false, length = 100)
     private String contentType;
 
+    // 생성된 리사이즈 버전 너비 (예: "320,720,1280"), 없으면 null
+    @Column(name = "variant_widths", length = 50)
+    private String variantWidths;
+
     @Column(name = "display_order", nullable = false)
     @Builder.Default
     private Integer displayOrder = 0;
@@ -57,6 +65,25 @@ public class PostImage {
         return String.format("%.2f %s", fileSize / Math.pow(k, i), sizes[i]);
     }
 
+    // 리사이즈 버전 너비 목록
+    public List<Integer> getVariantWidthList() {
+        if (variantWidths == null || variantWidths.isBlank()) {
+            return Collections.emptyList();
+        }
+        return Arrays.stream(variantWidths.split(","))
+                .map(String::trim)
+                .filter(w -> !w.isEmpty())
+                .map(Integer::valueOf)
+                .collect(Collectors.toList());
+    }
+
+    public static String joinVariantWidths(List<Integer> widths) {
+        if (widths == null || widths.isEmpty()) {
+            return null;
+        }
+        return widths.stream().map(String::valueOf).collect(Collectors.joining(","));
+    }
+
     // 이미지 파일인지 확인
     public boolean isImage() {
         return contentType != null && contentType.startsWith("image/");
@@ -0,0 +1,49 @@
+package com.at_a_look.economy.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 내용 주소 기반(SHA-256) 업로드 파일
+ * 같은 내용의 업로드는 하나의 파일을 공유하며, ref_count 는 이 파일을 참조하는 post_images 행 수입니다.
+ */
+@Entity
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "upload_blobs")
+public class UploadBlob {
+
+    @Id
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
+    // 업로드 디렉터리 기준 상대 경로 (예: objects/ab/ab12...ef.jpg)
+    @Column(name = "relative_path", nullable = false)
+    private String relativePath;
+
+    @Column(name = "content_type", nullable = false, length = 100)
+    private String contentType;
+
+    @Column(name = "file_size", nullable = false)
+    private Long fileSize;
+
+    @Column(name = "ref_count", nullable = false)
+    @Builder.Default
+    private Integer refCount = 0;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    @Builder.Default
+    private LocalDateTime createdAt = LocalDateTime.now();
+
+    // 마지막 업로드 시각 (같은 내용의 재업로드 시에도 갱신)
+    @Column(name = "last_uploaded_at", nullable = false)
+    @Builder.Default
+    private LocalDateTime lastUploadedAt = LocalDateTime.now();
+}
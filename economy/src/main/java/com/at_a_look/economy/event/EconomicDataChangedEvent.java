@@ -0,0 +1,13 @@
+package com.at_a_look.economy.event;
+
+import java.time.LocalDate;
+
+/**
+ * 경제 지표 데이터가 새로 저장/변경되었음을 알리는 이벤트
+ * 지표별 캐시(교차 환율 행렬 등)는 @TransactionalEventListener 로 커밋 후에 무효화합니다.
+ *
+ * @param source IngestMetrics.SOURCE_* 값
+ * @param date   변경된 데이터의 기준 날짜 (전체 무효화가 필요하면 null)
+ */
+public record EconomicDataChangedEvent(String source, LocalDate date) {
+}
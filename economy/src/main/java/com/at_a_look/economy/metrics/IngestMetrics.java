@@ -0,0 +1,51 @@
+package com.at_a_look.economy.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 외부 데이터 수집(ingest) 행 단위 카운터
+ * ingest.rows{source, result} - result: fetched / inserted / updated / skipped / failed
+ * 작업 소요 시간은 각 수집 진입 메서드의 @Timed("ingest.job") 으로 기록합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class IngestMetrics {
+
+    public static final String JOB_TIMER = "ingest.job";
+
+    public static final String SOURCE_EXCHANGE_RATE = "exchange_rate";
+    public static final String SOURCE_INTEREST_RATE = "interest_rate";
+    public static final String SOURCE_CPI = "consumer_price_index";
+    // 수집 피드가 아닌 파생 지표 (EconomicDataChangedEvent 용)
+    public static final String SOURCE_ECONOMIC_INDEX = "economic_index";
+
+    private final MeterRegistry meterRegistry;
+
+    public void recordFetched(String source, int rows) {
+        increment(source, "fetched", rows);
+    }
+
+    public void recordInserted(String source, int rows) {
+        increment(source, "inserted", rows);
+    }
+
+    public void recordUpdated(String source, int rows) {
+        increment(source, "updated", rows);
+    }
+
+    public void recordSkipped(String source, int rows) {
+        increment(source, "skipped", rows);
+    }
+
+    public void recordFailed(String source, int rows) {
+        increment(source, "failed", rows);
+    }
+
+    private void increment(String source, String result, int rows) {
+        if (rows > 0) {
+            meterRegistry.counter("ingest.rows", "source", source, "result", result).increment(rows);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.at_a_look.economy.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * 요청당 SQL 실행 횟수 기록 및 N+1 의심 경고
+ * - http.server.requests.queries{method, uri}: 요청당 SQL 수 분포
+ * - http.server.requests.queries.excessive{method, uri}: 임계값 초과 요청 수
+ * 보안 필터(JWT 사용자 조회)까지 포함하도록 가장 바깥쪽에서 실행합니다.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@RequiredArgsConstructor
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${metrics.query-count.warn-threshold:20}")
+    private int warnThreshold;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        return uri.startsWith("/actuator") || uri.startsWith("/uploads/") || uri.startsWith("/static/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        QueryCountInspector.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            int count = QueryCountInspector.stop();
+            // 매핑 패턴 기준으로 태그를 달아 카디널리티를 제한
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+            String method = request.getMethod();
+
+            DistributionSummary.builder("http.server.requests.queries")
+                    .description("요청당 실행된 SQL 문 수")
+                    .tags("method", method, "uri", uri)
+                    .serviceLevelObjectives(1, 5, 10, 20, 50, 100)
+                    .register(meterRegistry)
+                    .record(count);
+
+            if (count > warnThreshold) {
+                meterRegistry.counter("http.server.requests.queries.excessive", "method", method, "uri", uri).increment();
+                log.warn("⚠️ [N+1 의심] {} {} - SQL {}회 실행 (임계값 {})", method, uri, count, warnThreshold);
+            }
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.at_a_look.economy.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * 요청 스레드별 SQL 실행 횟수 집계
+ * Hibernate가 준비하는 모든 SQL 문이 이 인스펙터를 거치며, QueryCountFilter가 요청 단위로 시작/종료합니다.
+ * 집계 중이 아닌 스레드(스케줄러 등)에서는 아무 것도 하지 않습니다.
+ */
+public class QueryCountInspector implements StatementInspector {
+
+    private static final ThreadLocal<int[]> COUNTER = new ThreadLocal<>();
+
+    static void start() {
+        COUNTER.set(new int[1]);
+    }
+
+    static int stop() {
+        int[] counter = COUNTER.get();
+        COUNTER.remove();
+        return counter == null ? 0 : counter[0];
+    }
+
+    @Override
+    public String inspect(String sql) {
+        int[] counter = COUNTER.get();
+        if (counter != null) {
+            counter[0]++;
+        }
+        return sql;
+    }
+}
@@ -0,0 +1,105 @@
+package com.at_a_look.economy.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 가상 스레드 pinning 발생 위치 보고 (JFR jdk.VirtualThreadPinned 이벤트 구독)
+ * synchronized 블록/네이티브 프레임 안에서 블로킹되어 캐리어 스레드를 점유한 경우,
+ * 애플리케이션 코드의 첫 프레임을 발생 위치로 보고 경고 로그와 카운터를 남깁니다.
+ * (건수/시간 합계는 micrometer-java21 의 jvm.threads.virtual.pinned 타이머로도 수집됨)
+ *
+ * 지표: jvm.threads.virtual.pinned.site{site}
+ */
+@Slf4j
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int LOGGED_FRAMES = 8;
+    private static final long LOG_INTERVAL_NANOS = Duration.ofMinutes(1).toNanos();
+
+    private final MeterRegistry meterRegistry;
+    private final Duration threshold;
+    private final Map<String, Long> lastLoggedAt = new ConcurrentHashMap<>();
+
+    private volatile RecordingStream recordingStream;
+
+    public VirtualThreadPinningMonitor(MeterRegistry meterRegistry, Duration threshold) {
+        this.meterRegistry = meterRegistry;
+        this.threshold = threshold;
+    }
+
+    @Override
+    public void start() {
+        RecordingStream stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::onPinned);
+        stream.startAsync();
+        recordingStream = stream;
+        log.info("🧵 가상 스레드 pinning 감시 시작 (임계값 {}ms)", threshold.toMillis());
+    }
+
+    @Override
+    public void stop() {
+        RecordingStream stream = recordingStream;
+        if (stream != null) {
+            stream.close();
+            recordingStream = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return recordingStream != null;
+    }
+
+    private void onPinned(RecordedEvent event) {
+        List<RecordedFrame> frames = event.getStackTrace() != null
+                ? event.getStackTrace().getFrames()
+                : List.of();
+        String site = frames.stream()
+                .filter(RecordedFrame::isJavaFrame)
+                .map(VirtualThreadPinningMonitor::describe)
+                .filter(frame -> frame.startsWith("com.at_a_look."))
+                .findFirst()
+                .orElse("unknown");
+
+        meterRegistry.counter("jvm.threads.virtual.pinned.site", "site", site).increment();
+
+        // 같은 위치는 1분에 한 번만 로그
+        long now = System.nanoTime();
+        Long previous = lastLoggedAt.get(site);
+        if (previous != null && now - previous < LOG_INTERVAL_NANOS) {
+            return;
+        }
+        lastLoggedAt.put(site, now);
+
+        log.warn("📌 [가상 스레드 pinning] {} - {}ms 동안 캐리어 스레드 점유\n{}",
+                site, event.getDuration().toMillis(), abbreviate(event.getStackTrace()));
+    }
+
+    private static String describe(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+    }
+
+    private static String abbreviate(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return "    (스택 없음)";
+        }
+        return stackTrace.getFrames().stream()
+                .limit(LOGGED_FRAMES)
+                .map(frame -> "    at " + describe(frame))
+                .collect(Collectors.joining("\n"));
+    }
+}
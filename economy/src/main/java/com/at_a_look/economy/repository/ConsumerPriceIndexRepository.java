@@ -1,8 +1,11 @@
 package com.at_a_look.economy.repository;
 
+import com.at_a_look.economy.config.HibernateCacheConfig;
 import com.at_a_look.economy.entity.ConsumerPriceIndex;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -11,14 +14,33 @@ import java.util.Optional;
 @Repository
 public interface ConsumerPriceIndexRepository extends JpaRepository<ConsumerPriceIndex, Long> {
 
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = HibernateCacheConfig.QUERY_REGION_CONSUMER_PRICE_INDEX)
+    })
     Optional<ConsumerPriceIndex> findTopByOrderByDateDesc();
 
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = HibernateCacheConfig.QUERY_REGION_CONSUMER_PRICE_INDEX)
+    })
     List<ConsumerPriceIndex> findTop7ByOrderByDateDesc();
     
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = HibernateCacheConfig.QUERY_REGION_CONSUMER_PRICE_INDEX)
+    })
     List<ConsumerPriceIndex> findTop12ByOrderByDateDesc();
     
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = HibernateCacheConfig.QUERY_REGION_CONSUMER_PRICE_INDEX)
+    })
     Optional<ConsumerPriceIndex> findByDate(String date);
 
-    @Query("SELECT c FROM ConsumerPriceIndex c WHERE c.date BETWEEN :startDate AND :endDate ORDER BY c.date")
-    List<ConsumerPriceIndex> findByDateBetween(String startDate, String endDate);
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = HibernateCacheConfig.QUERY_REGION_CONSUMER_PRICE_INDEX)
+    })
+    List<ConsumerPriceIndex> findByPeriodBetweenOrderByPeriodAsc(Integer startPeriod, Integer endPeriod);
 } 
\ No newline at end of file
@@ -4,10 +4,13 @@ import com.at_a_look.economy.entity.EconomicIndex;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
 import java.util.Optional;
 
 @Repository
 public interface EconomicIndexRepository extends JpaRepository<EconomicIndex, Long> {
 
     Optional<EconomicIndex> findTopByOrderByDateDesc();
+
+    Optional<EconomicIndex> findFirstByDate(LocalDate date);
 } 
\ No newline at end of file
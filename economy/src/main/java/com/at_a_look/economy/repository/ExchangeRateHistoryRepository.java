@@ -5,6 +5,7 @@ import com.at_a_look.economy.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -29,4 +30,13 @@ public interface ExchangeRateHistoryRepository extends JpaRepository<ExchangeRat
     
     // 특정 사용자의 저장 기록 개수
     long countByUser(User user);
+
+    // 일괄 처리용: afterId 이후 기록 ID를 오름차순으로 한 묶음 조회 (엔티티를 로드하지 않음)
+    @Query("SELECT e.id FROM ExchangeRateHistory e WHERE e.user.id = :userId AND e.id > :afterId ORDER BY e.id")
+    List<Long> findIdChunk(@Param("userId") Long userId, @Param("afterId") Long afterId, Pageable pageable);
+
+    // 특정 사용자의 ID 구간 기록 일괄 삭제 (단일 DELETE 문)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM ExchangeRateHistory e WHERE e.user.id = :userId AND e.id BETWEEN :fromId AND :toId")
+    int deleteByUserIdAndIdBetween(@Param("userId") Long userId, @Param("fromId") Long fromId, @Param("toId") Long toId);
 } 
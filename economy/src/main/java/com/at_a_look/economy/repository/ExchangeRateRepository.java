@@ -5,6 +5,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
@@ -24,6 +25,8 @@ public interface ExchangeRateRepository extends JpaRepository<ExchangeRate, Long
     
     List<ExchangeRate> findByCurUnitOrderBySearchDateDesc(String curUnit);
     
+    List<ExchangeRate> findByCurUnitOrderBySearchDateDesc(String curUnit, Pageable pageable);
+    
     Page<ExchangeRate> findByCurUnitAndSearchDateBetween(String curUnit, LocalDate startDate, LocalDate endDate, Pageable pageable);
 
     /**
@@ -43,6 +46,16 @@ public interface ExchangeRateRepository extends JpaRepository<ExchangeRate, Long
     @Query("SELECT MAX(e.searchDate) FROM ExchangeRate e")
     Optional<LocalDate> findLatestSearchDate();
     
+    /**
+     * 지정된 날짜 이전(포함)의 가장 최근 날짜를 조회합니다.
+     * 주말/공휴일처럼 고시가 없는 날에는 직전 영업일이 반환됩니다.
+     * 
+     * @param date 기준 날짜
+     * @return 기준 날짜 이전(포함)의 가장 최근 날짜 (Optional)
+     */
+    @Query("SELECT MAX(e.searchDate) FROM ExchangeRate e WHERE e.searchDate <= :date")
+    Optional<LocalDate> findLatestSearchDateOnOrBefore(@Param("date") LocalDate date);
+    
     /**
      * 가장 최근 날짜의 모든 환율 데이터를 조회합니다.
      * 서브쿼리 대신 두 단계로 나누어 조회하여 성능과 안정성을 높입니다.
@@ -1,10 +1,14 @@
 package com.at_a_look.economy.repository;
 
+import com.at_a_look.economy.config.HibernateCacheConfig;
 import com.at_a_look.economy.entity.HelpArticle;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -13,8 +17,16 @@ import java.util.List;
 @Repository
 public interface HelpArticleRepository extends JpaRepository<HelpArticle, Long> {
     
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = HibernateCacheConfig.QUERY_REGION_HELP_ARTICLE)
+    })
     Page<HelpArticle> findByIsActiveTrueOrderByDisplayOrderAsc(Pageable pageable);
     
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = HibernateCacheConfig.QUERY_REGION_HELP_ARTICLE)
+    })
     List<HelpArticle> findByCategoryAndIsActiveTrueOrderByDisplayOrderAsc(HelpArticle.Category category);
     
     @Query("SELECT h FROM HelpArticle h WHERE h.isActive = true AND " +
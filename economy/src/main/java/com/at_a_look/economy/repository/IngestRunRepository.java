@@ -0,0 +1,19 @@
+package com.at_a_look.economy.repository;
+
+import com.at_a_look.economy.entity.IngestRun;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface IngestRunRepository extends JpaRepository<IngestRun, Long> {
+
+    List<IngestRun> findByOrderByStartedAtDesc(Pageable pageable);
+
+    List<IngestRun> findByJobNameOrderByStartedAtDesc(String jobName, Pageable pageable);
+
+    boolean existsByJobNameAndStatusAndStartedAtAfter(String jobName, IngestRun.Status status, LocalDateTime startedAt);
+}
@@ -0,0 +1,9 @@
+package com.at_a_look.economy.repository;
+
+import com.at_a_look.economy.entity.IngestWatermark;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface IngestWatermarkRepository extends JpaRepository<IngestWatermark, String> {
+}
@@ -0,0 +1,17 @@
+package com.at_a_look.economy.repository;
+
+import com.at_a_look.economy.entity.InterestRateLatest;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface InterestRateLatestRepository extends JpaRepository<InterestRateLatest, String> {
+
+    // 국가별 최신/최신 발표일 금리를 한 번에 조회 (기본 키 조인)
+    @Query("SELECT l FROM InterestRateLatest l JOIN FETCH l.latestRate LEFT JOIN FETCH l.latestAnnouncementRate " +
+           "ORDER BY l.countryCode")
+    List<InterestRateLatest> findAllWithRates();
+}
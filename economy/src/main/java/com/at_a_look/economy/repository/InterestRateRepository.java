@@ -19,17 +19,12 @@ public interface InterestRateRepository extends JpaRepository<InterestRate, Long
     // 특정 국가의 최신 금리 조회
     Optional<InterestRate> findFirstByCountryCodeOrderByDateDesc(String countryCode);
     
-    // 모든 국가의 최신 발표일 금리 조회 (is_announcement_date = true인 것 중 가장 최신)
-    @Query("SELECT i FROM InterestRate i WHERE i.isAnnouncementDate = true AND i.date = (" +
-           "SELECT MAX(i2.date) FROM InterestRate i2 WHERE i2.countryCode = i.countryCode AND i2.isAnnouncementDate = true) " +
-           "ORDER BY i.countryCode")
-    List<InterestRate> findLatestRatesByCountry();
+    // 특정 국가의 최신 발표일 금리 조회 (country_code, is_announcement_date, date 인덱스)
+    Optional<InterestRate> findFirstByCountryCodeAndIsAnnouncementDateTrueOrderByDateDesc(String countryCode);
     
-    // 모든 국가의 최신 금리 조회 (발표일 상관없이)
-    @Query("SELECT i FROM InterestRate i WHERE i.date = (" +
-           "SELECT MAX(i2.date) FROM InterestRate i2 WHERE i2.countryCode = i.countryCode) " +
-           "ORDER BY i.countryCode")
-    List<InterestRate> findLatestRatesByCountryAny();
+    // 금리 데이터가 있는 국가 목록
+    @Query("SELECT DISTINCT i.countryCode FROM InterestRate i ORDER BY i.countryCode")
+    List<String> findDistinctCountryCodes();
     
     // 특정 기간 동안의 모든 금리 데이터 조회
     List<InterestRate> findByDateBetweenOrderByDateDescCountryCode(LocalDate startDate, LocalDate endDate);
@@ -42,6 +37,9 @@ public interface InterestRateRepository extends JpaRepository<InterestRate, Long
     @Query("SELECT i FROM InterestRate i WHERE i.date >= :startDate ORDER BY i.date DESC, i.countryCode")
     List<InterestRate> findRecentRatesForHistory(@Param("startDate") LocalDate startDate);
     
+    // 특정 국가의 전체 금리 시계열 조회 (지표 계산용)
+    List<InterestRate> findByCountryCodeOrderByDateAsc(String countryCode);
+    
     // 특정 날짜 범위에서 기존 데이터 존재 여부 확인
     boolean existsByDateBetweenAndCountryCode(LocalDate startDate, LocalDate endDate, String countryCode);
     
@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -28,6 +29,17 @@ public interface PostImageRepository extends JpaRepository<PostImage, Long> {
     // 게시글 삭제 시 관련 이미지들도 삭제
     void deleteByPost(Post post);
 
+    // 업로드 디렉터리 기준 상대 경로 중 게시글 이미지 또는 참조 중인 업로드 파일로 사용 중인 경로 (GC 배치 확인용)
+    // upload_path 는 image_url 에서 계산되어 저장된 인덱스 컬럼 (changelog 031)
+    @Query(value = "SELECT pi.upload_path FROM post_images pi WHERE pi.upload_path IN (:paths) " +
+            "UNION SELECT b.relative_path FROM upload_blobs b WHERE b.relative_path IN (:paths) AND b.ref_count > 0",
+            nativeQuery = true)
+    List<String> findReferencedUploadPaths(@Param("paths") Collection<String> paths);
+
+    // 업로드 상대 경로가 게시글 이미지로 첨부되어 있는지 (업로드 파일 공개 조회 판정용)
+    @Query(value = "SELECT COUNT(*) FROM post_images pi WHERE pi.upload_path = :path", nativeQuery = true)
+    long countByUploadPath(@Param("path") String path);
+
     // 고아 이미지 찾기 (게시글이 없는 이미지)
     @Query("SELECT pi FROM PostImage pi WHERE pi.post IS NULL")
     List<PostImage> findOrphanImages();
@@ -0,0 +1,48 @@
+package com.at_a_look.economy.repository;
+
+import com.at_a_look.economy.entity.UploadBlob;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.Optional;
+
+@Repository
+public interface UploadBlobRepository extends JpaRepository<UploadBlob, String> {
+
+    // 동일 내용이 동시에 업로드되어도 한 행만 생성, 이미 있으면 마지막 업로드 시각만 갱신
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO upload_blobs (content_hash, relative_path, content_type, file_size, ref_count, created_at, last_uploaded_at) " +
+            "VALUES (:hash, :path, :contentType, :fileSize, 0, NOW(), NOW()) " +
+            "ON DUPLICATE KEY UPDATE last_uploaded_at = NOW()", nativeQuery = true)
+    int recordUpload(@Param("hash") String hash, @Param("path") String relativePath,
+                     @Param("contentType") String contentType, @Param("fileSize") long fileSize);
+
+    // 참조 수 증가 (게시글 이미지 연결)
+    @Modifying
+    @Query("UPDATE UploadBlob b SET b.refCount = b.refCount + 1 WHERE b.contentHash = :hash")
+    int incrementRefCount(@Param("hash") String hash);
+
+    // 참조 수 감소 (게시글 이미지 연결 해제)
+    @Modifying
+    @Query("UPDATE UploadBlob b SET b.refCount = b.refCount - 1 WHERE b.contentHash = :hash AND b.refCount > 0")
+    int decrementRefCount(@Param("hash") String hash);
+
+    // GC 최종 삭제 시 참조 없는 메타데이터 정리
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM UploadBlob b WHERE b.contentHash IN :hashes AND b.refCount = 0")
+    int deleteUnreferenced(@Param("hashes") Collection<String> hashes);
+
+    // 삭제 판단 중 참조 추가를 막기 위한 행 잠금 조회
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM UploadBlob b WHERE b.contentHash = :hash")
+    Optional<UploadBlob> findByIdForUpdate(@Param("hash") String hash);
+}
@@ -1,7 +1,11 @@
 package com.at_a_look.economy.repository;
 
+import com.at_a_look.economy.config.HibernateCacheConfig;
 import com.at_a_look.economy.entity.UserNotificationSettings;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -9,6 +13,10 @@ import java.util.Optional;
 @Repository
 public interface UserNotificationSettingsRepository extends JpaRepository<UserNotificationSettings, Long> {
     
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = HibernateCacheConfig.QUERY_REGION_USER_NOTIFICATION_SETTINGS)
+    })
     Optional<UserNotificationSettings> findByUserId(Long userId);
     
     boolean existsByUserId(Long userId);
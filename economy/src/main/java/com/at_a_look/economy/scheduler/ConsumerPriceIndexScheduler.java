@@ -1,6 +1,7 @@
 package com.at_a_look.economy.scheduler;
 
 import com.at_a_look.economy.service.ConsumerPriceIndexService;
+import com.at_a_look.economy.service.IngestLockService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataAccessException;
@@ -10,6 +11,7 @@ import org.springframework.scheduling.TaskScheduler;
 import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestClientException;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -20,6 +22,7 @@ public class ConsumerPriceIndexScheduler {
 
     private final ConsumerPriceIndexService consumerPriceIndexService;
     private final TaskScheduler taskScheduler;
+    private final IngestLockService ingestLockService;
     
     // 재시도 관련 설정
     private static final int MAX_RETRY_ATTEMPTS = 3;
@@ -27,11 +30,14 @@ public class ConsumerPriceIndexScheduler {
     private static final long MAX_RETRY_DELAY_MS = 120000; // 최대 2분까지 백오프 캡
     private final AtomicInteger consecutiveFailures = new AtomicInteger(0);
 
+    // 다중 인스턴스 중 하나만 실행 (피드 락은 IngestOrchestrator 와 공유, 최소 유지 시간으로 시계 차이 흡수)
+    private static final Duration LOCK_AT_MOST = Duration.ofMinutes(30);
+    private static final Duration LOCK_AT_LEAST = Duration.ofMinutes(5);
+
     /**
-     * 매일 오전 11시 30분에 소비자물가지수 데이터 업데이트
-     * 통계청에서 보통 월말~월초에 전월 데이터를 발표하므로 매일 체크하여 최신 데이터 확보
+     * 소비자물가지수 데이터 업데이트 (수동 실행용)
+     * 매일 정기 수집은 IngestOrchestrator 가 리더 락을 얻은 인스턴스에서 다른 지표와 시차를 두고 실행합니다.
      */
-    @Scheduled(cron = "0 30 11 * * *", zone = "Asia/Seoul")
     public void updateConsumerPriceIndexDaily() {
         log.info("📊 [CPI 스케줄러] 일일 소비자물가지수 데이터 업데이트 시작 - {}", LocalDateTime.now());
         
@@ -70,6 +76,10 @@ public class ConsumerPriceIndexScheduler {
      */
     @Scheduled(fixedDelay = Long.MAX_VALUE, initialDelay = 180000) // 3분 후 1회 실행
     public void loadInitialData() {
+        ingestLockService.runLocked(IngestOrchestrator.JOB_CONSUMER_PRICE_INDEX, LOCK_AT_MOST, LOCK_AT_LEAST, this::loadInitialDataLocked);
+    }
+
+    private void loadInitialDataLocked() {
         log.info("🚀 [CPI 스케줄러] 초기 소비자물가지수 데이터 로드 시작");
         
         try {
@@ -103,6 +113,10 @@ public class ConsumerPriceIndexScheduler {
      */
     @Scheduled(cron = "0 0 10 * * MON", zone = "Asia/Seoul")
     public void checkDataStatusWeekly() {
+        ingestLockService.runLocked(IngestOrchestrator.JOB_CONSUMER_PRICE_INDEX, LOCK_AT_MOST, LOCK_AT_LEAST, this::checkDataStatusWeeklyLocked);
+    }
+
+    private void checkDataStatusWeeklyLocked() {
         log.debug("🔍 [CPI 스케줄러] 주간 데이터 상태 체크 - {}", LocalDateTime.now());
         
         try {
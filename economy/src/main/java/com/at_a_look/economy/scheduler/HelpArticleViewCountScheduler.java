@@ -0,0 +1,37 @@
+package com.at_a_look.economy.scheduler;
+
+import com.at_a_look.economy.service.HelpArticleService;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HelpArticleViewCountScheduler {
+
+    private final HelpArticleService helpArticleService;
+
+    /**
+     * 메모리에 누적된 도움말 조회수를 주기적으로 DB에 반영 (기본 30초)
+     */
+    @Scheduled(fixedDelayString = "${help.view-count.flush-interval-ms:30000}",
+            initialDelayString = "${help.view-count.flush-interval-ms:30000}")
+    public void flushViewCounts() {
+        helpArticleService.flushViewCounts();
+    }
+
+    /**
+     * 종료 시 남은 조회수 반영
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        try {
+            helpArticleService.flushViewCounts();
+        } catch (Exception e) {
+            log.warn("⚠️ 종료 시 도움말 조회수 반영 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,258 @@
+package com.at_a_look.economy.scheduler;
+
+import com.at_a_look.economy.entity.IngestRun;
+import com.at_a_look.economy.service.ConsumerPriceIndexService;
+import com.at_a_look.economy.service.EconomicIndexService;
+import com.at_a_look.economy.service.ExchangeRateService;
+import com.at_a_look.economy.service.IngestLockService;
+import com.at_a_look.economy.service.IngestRunService;
+import com.at_a_look.economy.service.InterestRateService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 일일 경제 지표 수집 오케스트레이터
+ * 환율/기준금리/소비자물가지수를 한 번에 11시 30분에 동시 호출하던 개별 스케줄을 대체합니다.
+ *
+ * - 리더 락(ingest_locks): 여러 인스턴스 중 락을 얻은 하나만 실행, 오늘 이미 성공한 경우 건너뜀
+ * - 시작 시각 분산: 전체 파이프라인은 0~max-jitter 초 무작위 지연, 피드끼리는 stagger 초 간격
+ *   (기준금리와 CPI 는 같은 ECOS API 를 쓰므로 동시에 호출하지 않음)
+ * - 피드별 락: 같은 피드를 다른 인스턴스의 상태 체크 작업이 수집 중이면 재시도로 넘김
+ * - 의존 순서: 세 피드가 모두 끝난 뒤(하나 이상 성공 시) 종합 경제 지수 재계산
+ * - 실행 이력: 파이프라인/피드/지수 각각 ingest_runs 에 기록
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IngestOrchestrator {
+
+    public static final String JOB_DAILY = "daily-ingest";
+    public static final String JOB_EXCHANGE_RATE = "exchange-rate";
+    public static final String JOB_INTEREST_RATE = "interest-rate";
+    public static final String JOB_CONSUMER_PRICE_INDEX = "consumer-price-index";
+    public static final String JOB_ECONOMIC_INDEX = "economic-index";
+
+    private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+    private static final long MAX_RETRY_DELAY_MS = 120000; // 최대 2분까지 백오프 캡
+    private static final Duration FEED_LOCK_AT_MOST = Duration.ofMinutes(30);
+
+    private final IngestLockService ingestLockService;
+    private final IngestRunService ingestRunService;
+    private final ExchangeRateService exchangeRateService;
+    private final InterestRateService interestRateService;
+    private final ConsumerPriceIndexService consumerPriceIndexService;
+    private final EconomicIndexService economicIndexService;
+    private final TaskScheduler taskScheduler;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    @Value("${ingest.orchestrator.stagger-seconds:90}")
+    private long staggerSeconds;
+
+    @Value("${ingest.orchestrator.max-jitter-seconds:60}")
+    private long maxJitterSeconds;
+
+    @Value("${ingest.orchestrator.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${ingest.orchestrator.retry-delay-ms:30000}")
+    private long retryDelayMs;
+
+    @Value("${ingest.orchestrator.lock-at-most-minutes:60}")
+    private long lockAtMostMinutes;
+
+    @Value("${ingest.orchestrator.lock-at-least-minutes:10}")
+    private long lockAtLeastMinutes;
+
+    /**
+     * 매일 오전 11시 30분 (한국은행/수출입은행 발표 이후) 일일 수집 시작
+     */
+    @Scheduled(cron = "${ingest.orchestrator.cron:0 30 11 * * *}", zone = "Asia/Seoul")
+    public void runDailyIngest() {
+        // 실행 이력 started_at 은 JVM 시간대(컨테이너는 UTC) 기준이므로 서울 자정을 같은 시간대로 변환해 비교
+        LocalDateTime todayStart = LocalDate.now(SEOUL).atStartOfDay(SEOUL)
+                .withZoneSameInstant(ZoneId.systemDefault())
+                .toLocalDateTime();
+        if (ingestRunService.hasSucceededSince(JOB_DAILY, todayStart)) {
+            log.info("⏭️ [수집 오케스트레이터] 오늘 일일 수집이 이미 완료되어 건너뜁니다.");
+            return;
+        }
+        start(IngestRun.Trigger.SCHEDULED);
+    }
+
+    /**
+     * 파이프라인 시작. 이 인스턴스 또는 다른 인스턴스에서 이미 실행 중이면 false
+     */
+    public boolean start(IngestRun.Trigger trigger) {
+        if (!running.compareAndSet(false, true)) {
+            log.info("⏭️ [수집 오케스트레이터] 이 인스턴스에서 이미 실행 중입니다.");
+            return false;
+        }
+        if (!ingestLockService.tryLock(JOB_DAILY, Duration.ofMinutes(lockAtMostMinutes))) {
+            running.set(false);
+            log.info("⏭️ [수집 오케스트레이터] 다른 인스턴스가 일일 수집을 실행 중이라 건너뜁니다.");
+            return false;
+        }
+
+        try {
+            IngestRun pipelineRun = ingestRunService.start(JOB_DAILY, trigger);
+            long jitterMs = maxJitterSeconds > 0 ? ThreadLocalRandom.current().nextLong(maxJitterSeconds * 1000) : 0;
+            Instant base = Instant.now().plusMillis(jitterMs);
+            log.info("🗓️ [수집 오케스트레이터] 일일 수집 시작 (노드: {}, 지연 {}ms, 피드 간격 {}초)",
+                    ingestLockService.getNodeId(), jitterMs, staggerSeconds);
+
+            CompletableFuture<Boolean> exchangeRate = scheduleFeed(JOB_EXCHANGE_RATE, trigger, base,
+                    () -> exchangeRateService.fetchExchangeRates(LocalDate.now(SEOUL)));
+            CompletableFuture<Boolean> interestRate = scheduleFeed(JOB_INTEREST_RATE, trigger,
+                    base.plusSeconds(staggerSeconds), interestRateService::syncKoreaRatesIncremental);
+            CompletableFuture<Boolean> consumerPriceIndex = scheduleFeed(JOB_CONSUMER_PRICE_INDEX, trigger,
+                    base.plusSeconds(staggerSeconds * 2), consumerPriceIndexService::fetchAndSaveLatestData);
+
+            CompletableFuture.allOf(exchangeRate, interestRate, consumerPriceIndex)
+                    .whenComplete((ignored, error) -> completePipeline(pipelineRun, trigger,
+                            List.of(JOB_EXCHANGE_RATE, JOB_INTEREST_RATE, JOB_CONSUMER_PRICE_INDEX),
+                            List.of(exchangeRate, interestRate, consumerPriceIndex)));
+            return true;
+        } catch (RuntimeException e) {
+            release();
+            throw e;
+        }
+    }
+
+    private void completePipeline(IngestRun pipelineRun, IngestRun.Trigger trigger,
+                                  List<String> feedNames, List<CompletableFuture<Boolean>> feeds) {
+        try {
+            List<String> failed = new ArrayList<>();
+            for (int i = 0; i < feeds.size(); i++) {
+                if (!Boolean.TRUE.equals(feeds.get(i).getNow(false))) {
+                    failed.add(feedNames.get(i));
+                }
+            }
+
+            boolean indexUpdated = false;
+            if (failed.size() < feeds.size()) {
+                indexUpdated = recalculateEconomicIndex(trigger);
+            } else {
+                log.warn("⚠️ [수집 오케스트레이터] 모든 피드가 실패하여 경제 지수 재계산을 건너뜁니다.");
+            }
+
+            if (failed.isEmpty() && indexUpdated) {
+                ingestRunService.finish(pipelineRun, IngestRun.Status.SUCCEEDED, 1, null);
+                log.info("✅ [수집 오케스트레이터] 일일 수집 완료");
+            } else {
+                String reason = failed.isEmpty() ? "경제 지수 재계산 실패" : "실패한 피드: " + String.join(", ", failed);
+                ingestRunService.finish(pipelineRun, IngestRun.Status.FAILED, 1, reason);
+                log.error("❌ [수집 오케스트레이터] 일일 수집 일부 실패 - {}", reason);
+            }
+        } catch (Exception e) {
+            log.error("💥 [수집 오케스트레이터] 파이프라인 마무리 중 오류: {}", e.getMessage(), e);
+        } finally {
+            release();
+        }
+    }
+
+    private boolean recalculateEconomicIndex(IngestRun.Trigger trigger) {
+        IngestRun run = ingestRunService.start(JOB_ECONOMIC_INDEX, trigger);
+        try {
+            var index = economicIndexService.recalculateTodayIndex();
+            ingestRunService.finish(run, IngestRun.Status.SUCCEEDED, 1, null);
+            log.info("📈 [수집 오케스트레이터] 경제 지수 재계산 완료: {} ({})", index.getIndexValue(), index.getIndexStatus());
+            return true;
+        } catch (Exception e) {
+            ingestRunService.finish(run, IngestRun.Status.FAILED, 1, e.getMessage());
+            log.error("❌ [수집 오케스트레이터] 경제 지수 재계산 실패: {}", e.getMessage(), e);
+            return false;
+        }
+    }
+
+    private void release() {
+        ingestLockService.unlock(JOB_DAILY, Duration.ofMinutes(lockAtLeastMinutes));
+        running.set(false);
+    }
+
+    // ==================== 피드 실행 / 재시도 ====================
+
+    private CompletableFuture<Boolean> scheduleFeed(String jobName, IngestRun.Trigger trigger, Instant at, Runnable task) {
+        CompletableFuture<Boolean> result = new CompletableFuture<>();
+        taskScheduler.schedule(() -> runFeed(jobName, trigger, task, 1, null, result), at);
+        return result;
+    }
+
+    private void runFeed(String jobName, IngestRun.Trigger trigger, Runnable task, int attempt,
+                         IngestRun existingRun, CompletableFuture<Boolean> result) {
+        IngestRun run = existingRun;
+        try {
+            if (run == null) {
+                run = ingestRunService.start(jobName, trigger);
+            }
+
+            Exception failure = null;
+            if (ingestLockService.tryLock(jobName, FEED_LOCK_AT_MOST)) {
+                try {
+                    log.info("🚀 [수집 오케스트레이터] {} 수집 시작 (시도 {}/{})", jobName, attempt, maxAttempts);
+                    task.run();
+                } catch (Exception e) {
+                    failure = e;
+                } finally {
+                    ingestLockService.unlock(jobName, Duration.ZERO);
+                }
+            } else {
+                failure = new IllegalStateException("다른 인스턴스에서 " + jobName + " 수집 중");
+            }
+
+            if (failure == null) {
+                ingestRunService.finish(run, IngestRun.Status.SUCCEEDED, attempt, null);
+                log.info("✅ [수집 오케스트레이터] {} 수집 완료", jobName);
+                result.complete(true);
+                return;
+            }
+
+            if (attempt < maxAttempts && isRetryable(failure)) {
+                long delay = computeBackoffDelay(attempt);
+                log.warn("🔄 [수집 오케스트레이터] {} 수집 실패, {}ms 후 재시도 (시도 {}/{}): {}",
+                        jobName, delay, attempt, maxAttempts, failure.getMessage());
+                IngestRun retryRun = run;
+                taskScheduler.schedule(() -> runFeed(jobName, trigger, task, attempt + 1, retryRun, result),
+                        Instant.now().plusMillis(delay));
+                return;
+            }
+
+            ingestRunService.finish(run, IngestRun.Status.FAILED, attempt, failure.getMessage());
+            log.error("❌ [수집 오케스트레이터] {} 수집 최종 실패 (시도 {}회): {}", jobName, attempt, failure.getMessage());
+            result.complete(false);
+        } catch (Exception e) {
+            // 이력 저장/재시도 예약 실패 등 - 파이프라인이 멈추지 않도록 실패로 완료
+            log.error("💥 [수집 오케스트레이터] {} 실행 중 예상치 못한 오류: {}", jobName, e.getMessage(), e);
+            result.complete(false);
+        }
+    }
+
+    /**
+     * 기존 스케줄러와 같은 기준: DB 오류와 잘못된 파라미터는 재시도하지 않음
+     */
+    private boolean isRetryable(Exception e) {
+        return !(e instanceof DataAccessException) && !(e instanceof IllegalArgumentException);
+    }
+
+    private long computeBackoffDelay(int attempt) {
+        // 1회 실패: base, 2회: 2x, 3회: 4x ... (최대 캡 적용)
+        long factor = 1L << Math.max(0, attempt - 1);
+        return Math.min(retryDelayMs * factor, MAX_RETRY_DELAY_MS);
+    }
+}
@@ -1,8 +1,11 @@
 package com.at_a_look.economy.scheduler;
 
+import com.at_a_look.economy.entity.IngestWatermark;
+import com.at_a_look.economy.service.IngestLockService;
 import com.at_a_look.economy.service.InterestRateService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.dao.DataAccessException;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
@@ -10,7 +13,18 @@ import org.springframework.scheduling.TaskScheduler;
 import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestClientException;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
 @Slf4j
@@ -20,6 +34,7 @@ public class InterestRateScheduler {
 
     private final InterestRateService interestRateService;
     private final TaskScheduler taskScheduler;
+    private final IngestLockService ingestLockService;
     
     // 재시도 관련 설정
     private static final int MAX_RETRY_ATTEMPTS = 3;
@@ -27,11 +42,35 @@ public class InterestRateScheduler {
     private static final long MAX_RETRY_DELAY_MS = 120000; // 최대 2분까지 백오프 캡
     private final AtomicInteger consecutiveFailures = new AtomicInteger(0);
 
+    // 다중 인스턴스 중 하나만 실행 (피드 락은 IngestOrchestrator 와 공유, 최소 유지 시간으로 시계 차이 흡수)
+    private static final Duration LOCK_AT_MOST = Duration.ofMinutes(30);
+    private static final Duration LOCK_AT_LEAST = Duration.ofMinutes(5);
+
+    // 기준금리 발표 확인 주기 (회의일 결정 발표는 보통 오전 10시 전후)
+    private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+    private static final LocalTime HOT_WINDOW_START = LocalTime.of(10, 0);
+    private static final LocalTime HOT_WINDOW_END = LocalTime.of(18, 0);
+
+    // 쉼표로 구분한 회의일 (예: 2026-01-15,2026-02-26) - 한국은행이 매년 미리 공개하는 일정
+    @Value("${interest-rate.sync.meeting-dates:}")
+    private String meetingDatesProperty;
+
+    @Value("${interest-rate.sync.hot-interval-minutes:15}")
+    private long hotIntervalMinutes;
+
+    @Value("${interest-rate.sync.quiet-base-interval-minutes:60}")
+    private long quietBaseIntervalMinutes;
+
+    @Value("${interest-rate.sync.quiet-max-interval-hours:24}")
+    private long quietMaxIntervalHours;
+
+    private volatile List<LocalDate> parsedMeetingDates;
+    private volatile Instant nextPollAt = Instant.EPOCH;
+
     /**
-     * 매일 오전 11시 30분에 기준금리 데이터 업데이트
-     * 한국은행 발표 시간을 고려하여 오전 11시 30분으로 설정
+     * 기준금리 데이터 업데이트 (수동 실행용)
+     * 매일 정기 수집은 IngestOrchestrator 가 리더 락을 얻은 인스턴스에서 다른 지표와 시차를 두고 실행합니다.
      */
-    @Scheduled(cron = "0 30 11 * * *", zone = "Asia/Seoul")
     public void updateInterestRateDaily() {
         log.info("🕛 [이자율 스케줄러] 매일 기준금리 데이터 업데이트 시작 - {}", LocalDateTime.now());
         
@@ -70,6 +109,10 @@ public class InterestRateScheduler {
      */
     @Scheduled(fixedDelay = Long.MAX_VALUE, initialDelay = 300000) // 5분 후 1회 실행
     public void loadInitialData() {
+        ingestLockService.runLocked(IngestOrchestrator.JOB_INTEREST_RATE, LOCK_AT_MOST, LOCK_AT_LEAST, this::loadInitialDataLocked);
+    }
+
+    private void loadInitialDataLocked() {
         log.info("🚀 [이자율 스케줄러] 초기 기준금리 데이터 로드 시작");
         
         try {
@@ -97,39 +140,106 @@ public class InterestRateScheduler {
     }
 
     /**
-     * 매시간 정각에 데이터 상태 체크 (평일 9시-18시만)
-     * 금융통화위원회 회의일 등 중요한 발표가 있을 수 있는 시간대
+     * 기준금리 발표 확인 (증분 수집)
+     * 주기적으로 깨어나지만 다음 확인 시각 전이면 DB/외부 API 를 건드리지 않습니다.
+     * - 금융통화위원회 회의일(interest-rate.sync.meeting-dates) 당일~다음 날 업무 시간: 결정이 반영될 때까지 짧은 간격
+     * - 그 외: 금리 변동 없는 확인이 이어질수록 간격을 2배씩 늘려 최대 quiet-max-interval-hours 까지
+     * 확인 시각/연속 무변동 횟수는 ingest_watermarks 에 저장되어 인스턴스 간에 공유됩니다.
      */
-    @Scheduled(cron = "0 0 9-18 * * MON-FRI", zone = "Asia/Seoul")
-    public void checkDataStatusHourly() {
-        log.debug("🔍 [이자율 스케줄러] 시간별 데이터 상태 체크 - {}", LocalDateTime.now());
-        
+    @Scheduled(fixedDelayString = "${interest-rate.sync.tick-ms:300000}",
+               initialDelayString = "${interest-rate.sync.initial-delay-ms:600000}")
+    public void pollForAnnouncements() {
+        if (Instant.now().isBefore(nextPollAt)) {
+            return;
+        }
+        ingestLockService.runLocked(IngestOrchestrator.JOB_INTEREST_RATE, LOCK_AT_MOST, Duration.ZERO, this::pollForAnnouncementsLocked);
+    }
+
+    private void pollForAnnouncementsLocked() {
         try {
-            var koreaData = interestRateService.getAnnouncementDatesByCountry("KR");
-            if (koreaData.isEmpty()) {
-                log.warn("⚠️ 한국 기준금리 발표일 데이터가 없습니다. 긴급 업데이트를 시도합니다.");
-                interestRateService.fetchAndSaveYearlyRates();
-            } else {
-                var latestDate = koreaData.get(0).getDate();
-                log.debug("✅ 한국 기준금리 최신 발표일: {} ({}%)", latestDate, koreaData.get(0).getInterestRate());
-                
-                // 데이터가 너무 오래된 경우 추가 업데이트
-                if (latestDate.isBefore(LocalDateTime.now().toLocalDate().minusDays(30))) {
-                    log.warn("⚠️ 데이터가 30일 이상 오래되었습니다. 업데이트를 시도합니다.");
-                    interestRateService.fetchAndSaveYearlyRates();
-                }
+            Instant due = planNextPoll(interestRateService.getKoreaRateWatermark().orElse(null));
+            if (Instant.now().isBefore(due)) {
+                // 다른 인스턴스가 이미 확인함
+                nextPollAt = due;
+                return;
             }
-            
-            // 성공 시 연속 실패 카운터 리셋
+
+            int received = interestRateService.syncKoreaRatesIncremental();
             consecutiveFailures.set(0);
-            
-        } catch (ResourceAccessException e) {
-            handleNetworkError("시간별 데이터 상태 체크 중 네트워크 연결 실패", e);
-        } catch (DataAccessException e) {
-            handleDatabaseError("시간별 데이터 상태 체크 중 데이터베이스 접근 실패", e);
+            nextPollAt = planNextPoll(interestRateService.getKoreaRateWatermark().orElse(null));
+            log.debug("🔍 [이자율 스케줄러] 발표 확인 완료: 신규 {}일, 다음 확인 {}", received, nextPollAt.atZone(SEOUL));
+
         } catch (Exception e) {
-            handleUnexpectedError("시간별 데이터 상태 체크 중 예상치 못한 에러", e);
+            // 실패 시 다음 틱에 바로 재시도하지 않도록 이 인스턴스에서만 간격을 늘림
+            int failureCount = consecutiveFailures.incrementAndGet();
+            long delay = Math.min(RETRY_DELAY_MS * (1L << Math.min(failureCount - 1, 10)), TimeUnit.MINUTES.toMillis(quietBaseIntervalMinutes));
+            nextPollAt = Instant.now().plusMillis(delay);
+            log.error("❌ [이자율 스케줄러] 발표 확인 실패 (연속 {}회, {}초 후 재확인): {}", failureCount, delay / 1000, e.getMessage());
+        }
+    }
+
+    /**
+     * 기준점 상태로 다음 확인 시각 계산
+     */
+    private Instant planNextPoll(IngestWatermark watermark) {
+        if (watermark == null || watermark.getLastCheckedAt() == null) {
+            return Instant.now();
+        }
+
+        ZonedDateTime lastChecked = watermark.getLastCheckedAt().atZone(ZoneId.systemDefault()).withZoneSameInstant(SEOUL);
+        LocalDate received = watermark.getLastTime() != null
+                ? LocalDate.parse(watermark.getLastTime(), DateTimeFormatter.BASIC_ISO_DATE)
+                : null;
+
+        // 회의일 당일~다음 날 업무 시간이고 아직 회의일 데이터를 받지 못했으면 짧은 간격
+        ZonedDateTime now = ZonedDateTime.now(SEOUL);
+        if (isHotWindow(now, received)) {
+            return lastChecked.plusMinutes(hotIntervalMinutes).toInstant();
+        }
+
+        long backoffMinutes = quietBaseIntervalMinutes << Math.min(watermark.getUnchangedPolls(), 16);
+        ZonedDateTime quietDue = lastChecked.plusMinutes(Math.min(backoffMinutes, TimeUnit.HOURS.toMinutes(quietMaxIntervalHours)));
+
+        // 평시 간격이 길어도 다음 회의 결정 발표 시각에는 깨어남
+        return nextHotWindowStart(now)
+                .filter(start -> start.isBefore(quietDue))
+                .orElse(quietDue)
+                .toInstant();
+    }
+
+    private boolean isHotWindow(ZonedDateTime now, LocalDate received) {
+        LocalTime time = now.toLocalTime();
+        if (time.isBefore(HOT_WINDOW_START) || time.isAfter(HOT_WINDOW_END)) {
+            return false;
+        }
+        LocalDate today = now.toLocalDate();
+        return meetingDates().stream()
+                .filter(meeting -> !today.isBefore(meeting) && !today.isAfter(meeting.plusDays(1)))
+                .anyMatch(meeting -> received == null || received.isBefore(meeting));
+    }
+
+    private Optional<ZonedDateTime> nextHotWindowStart(ZonedDateTime now) {
+        return meetingDates().stream()
+                .map(meeting -> meeting.atTime(HOT_WINDOW_START).atZone(SEOUL))
+                .filter(start -> start.isAfter(now))
+                .min(ZonedDateTime::compareTo);
+    }
+
+    private List<LocalDate> meetingDates() {
+        List<LocalDate> dates = parsedMeetingDates;
+        if (dates == null) {
+            dates = Arrays.stream(meetingDatesProperty.split(","))
+                    .map(String::trim)
+                    .filter(value -> !value.isEmpty())
+                    .map(LocalDate::parse)
+                    .sorted()
+                    .toList();
+            if (dates.isEmpty()) {
+                log.warn("⚠️ [이자율 스케줄러] 금융통화위원회 회의 일정(interest-rate.sync.meeting-dates)이 없어 평시 주기로만 확인합니다.");
+            }
+            parsedMeetingDates = dates;
         }
+        return dates;
     }
 
     /**
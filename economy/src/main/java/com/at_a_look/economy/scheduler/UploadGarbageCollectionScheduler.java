@@ -0,0 +1,30 @@
+package com.at_a_look.economy.scheduler;
+
+import com.at_a_look.economy.config.FileUploadConfig;
+import com.at_a_look.economy.service.UploadGarbageCollectionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UploadGarbageCollectionScheduler {
+
+    private final UploadGarbageCollectionService uploadGarbageCollectionService;
+    private final FileUploadConfig fileUploadConfig;
+
+    /**
+     * 매일 새벽 4시 30분 고아 업로드 파일 정리
+     * 트래픽이 적은 시간대에 배치 단위로 격리/삭제를 수행합니다.
+     */
+    @Scheduled(cron = "${file.upload.gc.cron:0 30 4 * * *}", zone = "Asia/Seoul")
+    public void collectOrphanUploads() {
+        if (!fileUploadConfig.getGc().isEnabled()) {
+            return;
+        }
+        log.info("🧹 [업로드 GC 스케줄러] 고아 업로드 파일 정리 시작");
+        uploadGarbageCollectionService.collect();
+    }
+}
@@ -3,17 +3,23 @@ package com.at_a_look.economy.service;
 import com.at_a_look.economy.dto.ConsumerPriceIndexDto;
 import com.at_a_look.economy.dto.response.ConsumerPriceIndexResponse;
 import com.at_a_look.economy.entity.ConsumerPriceIndex;
+import com.at_a_look.economy.event.EconomicDataChangedEvent;
+import com.at_a_look.economy.metrics.IngestMetrics;
 import com.at_a_look.economy.repository.ConsumerPriceIndexRepository;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.client.RestTemplate;
 
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
 import java.util.stream.Collectors;
@@ -26,10 +32,20 @@ public class ConsumerPriceIndexService {
     private final ConsumerPriceIndexRepository consumerPriceIndexRepository;
     private final RestTemplate restTemplate;
     private final ObjectMapper objectMapper;
+    private final IngestMetrics ingestMetrics;
+    private final ApplicationEventPublisher eventPublisher;
+    private final JdbcTemplate jdbcTemplate;
+    private final SecondLevelCacheService secondLevelCacheService;
 
     @Value("${ecos.api.key}")
     private String ecosApiKey;
 
+    @Value("${ecos.api.base-url:https://ecos.bok.or.kr/api}")
+    private String ecosBaseUrl;
+
+    private static final DateTimeFormatter YYYYMM = DateTimeFormatter.ofPattern("yyyyMM");
+    private static final int UPSERT_CHUNK_SIZE = 500;
+
     // 소비자물가지수 통계표 코드
     private static final String STAT_CODE = "901Y009";
     
@@ -105,12 +121,12 @@ public class ConsumerPriceIndexService {
                 return buildResponse(latestCPI.get());
             } else {
                 log.warn("⚠️ DB에서 데이터를 찾을 수 없어 샘플 데이터 사용");
-                return buildResponse(createSampleData());
+                return buildSampleResponse();
             }
             
         } catch (Exception e) {
             log.error("❌ 소비자물가지수 데이터 조회 실패: {}", e.getMessage(), e);
-            return buildResponse(createSampleData());
+            return buildSampleResponse();
         }
     }
 
@@ -133,7 +149,7 @@ public class ConsumerPriceIndexService {
                 return buildResponse(latestCPI.get());
             } else {
                 log.warn("⚠️ API 호출 후에도 DB에서 데이터를 찾을 수 없어 샘플 데이터 사용");
-                return buildResponse(createSampleData());
+                return buildSampleResponse();
             }
             
         } catch (Exception e) {
@@ -145,23 +161,28 @@ public class ConsumerPriceIndexService {
                 return buildResponse(latestCPI.get());
             } else {
                 log.warn("⚠️ 예외 발생 + DB 데이터 없음, 샘플 데이터 사용");
-                return buildResponse(createSampleData());
+                return buildSampleResponse();
             }
         }
     }
 
     /**
-     * 최근 2년간 월별 소비자물가지수 데이터 조회 및 저장
+     * 최신 월별 소비자물가지수 데이터 조회 및 저장 (증분)
+     * DB 의 마지막 월부터 이번 달까지만 요청합니다. (마지막 월은 수정 발표 반영을 위해 다시 받음)
+     * 변화율 계산에 필요한 이전 12개월은 DB 에서 읽으므로 보통 1~2건만 내려받습니다.
+     * 저장된 데이터가 없으면 최근 2년치를 받습니다.
      */
     @Transactional
+    @Timed(value = IngestMetrics.JOB_TIMER, extraTags = {"source", IngestMetrics.SOURCE_CPI})
     public void fetchAndSaveLatestData() {
-        log.info("📅 최근 2년간 월별 소비자물가지수 데이터 조회 시작");
-        
         LocalDate endDate = LocalDate.now();
-        LocalDate startDate = endDate.minusYears(2);
+        String endDateStr = endDate.format(YYYYMM);
+        String startDateStr = consumerPriceIndexRepository.findTopByOrderByDateDesc()
+                .map(ConsumerPriceIndex::getDate)
+                .filter(latest -> latest.compareTo(endDateStr) <= 0)
+                .orElseGet(() -> endDate.minusYears(2).format(YYYYMM));
         
-        String startDateStr = startDate.format(DateTimeFormatter.ofPattern("yyyyMM"));
-        String endDateStr = endDate.format(DateTimeFormatter.ofPattern("yyyyMM"));
+        log.info("📅 월별 소비자물가지수 증분 조회 시작: {} ~ {}", startDateStr, endDateStr);
         
         fetchAndSaveCPIData(startDateStr, endDateStr, "M"); // 월별 데이터
         
@@ -172,6 +193,7 @@ public class ConsumerPriceIndexService {
      * 특정 기간의 소비자물가지수 데이터 조회 및 저장
      */
     @Transactional
+    @Timed(value = IngestMetrics.JOB_TIMER, extraTags = {"source", IngestMetrics.SOURCE_CPI})
     public void fetchAndSaveCPIData(String startDate, String endDate, String cycle) {
         log.info("📅 CPI 데이터 수집 시작: {} ~ {} (주기: {})", startDate, endDate, cycle);
         
@@ -195,8 +217,8 @@ public class ConsumerPriceIndexService {
         
         // ECOS API URL
         String url = String.format(
-            "https://ecos.bok.or.kr/api/StatisticSearch/%s/json/kr/1/10000/%s/%s/%s/%s/0",
-            ecosApiKey, STAT_CODE, cycle, startDate, endDate
+            "%s/StatisticSearch/%s/json/kr/1/10000/%s/%s/%s/%s/0",
+            ecosBaseUrl, ecosApiKey, STAT_CODE, cycle, startDate, endDate
         );
         
         log.info("🌐 ECOS API 호출 시작");
@@ -484,140 +506,197 @@ public class ConsumerPriceIndexService {
 
     /**
      * 변화율 계산하여 CPI 데이터 저장
+     * - 배치 첫 달 이전 12개월을 DB 에서 읽어 문맥으로 사용하므로 짧은 증분 수집도 변화율이 정확함
+     * - 값/변화율이 그대로인 월은 건너뛰고, 신규·변경 월만 한 번에 JDBC 업서트
+     * - 기존 월의 값이 수정되면 배치 이후 12개월의 변화율도 다시 계산
      */
     private void saveCPIDataWithChanges(List<ConsumerPriceIndex> cpiData) {
-        log.info("💾 CPI 데이터 저장 시작: {}개 데이터", cpiData.size());
-        
         if (cpiData == null || cpiData.isEmpty()) {
             log.warn("⚠️ 저장할 CPI 데이터가 없습니다.");
             return;
         }
+        log.info("💾 CPI 데이터 저장 시작: {}개 데이터", cpiData.size());
+        
+        int errorCount = 0;
+        List<ConsumerPriceIndex> valid = new ArrayList<>(cpiData.size());
+        for (ConsumerPriceIndex cpi : cpiData) {
+            if (cpi == null || cpi.getDate() == null || cpi.getCpiValue() == null) {
+                log.warn("⚠️ 필수 필드가 null인 CPI 데이터 건너뜀: {}", cpi);
+                errorCount++;
+                continue;
+            }
+            valid.add(cpi);
+        }
+        if (valid.isEmpty()) {
+            ingestMetrics.recordFetched(IngestMetrics.SOURCE_CPI, cpiData.size());
+            ingestMetrics.recordFailed(IngestMetrics.SOURCE_CPI, errorCount);
+            return;
+        }
+        
+        // 같은 월은 마지막 값만 남기고 날짜 순으로 정렬 (YYYYMM 문자열 정렬)
+        valid = new ArrayList<>(valid.stream()
+                .collect(Collectors.toMap(ConsumerPriceIndex::getDate, cpi -> cpi, (x, y) -> y, TreeMap::new))
+                .values());
+        YearMonth first = YearMonth.parse(valid.get(0).getDate(), YYYYMM);
+        YearMonth last = YearMonth.parse(valid.get(valid.size() - 1).getDate(), YYYYMM);
         
-        // 날짜 순으로 정렬 (YYYYMM 문자열 정렬)
-        cpiData.sort(Comparator.comparing(ConsumerPriceIndex::getDate));
+        // 이전 12개월 문맥 + 배치 구간의 기존 데이터
+        List<ConsumerPriceIndex> context = consumerPriceIndexRepository.findByPeriodBetweenOrderByPeriodAsc(
+                toPeriod(first.minusMonths(12)), toPeriod(first.minusMonths(1)));
+        Map<String, ConsumerPriceIndex> existingByDate = consumerPriceIndexRepository
+                .findByPeriodBetweenOrderByPeriodAsc(toPeriod(first), toPeriod(last)).stream()
+                .collect(Collectors.toMap(ConsumerPriceIndex::getDate, cpi -> cpi, (x, y) -> x));
         
+        applyChangeRates(valid, context);
+        
+        // 조회한 엔티티는 수정하지 않고 저장할 값만 따로 모아 JDBC 업서트 (JPA 변경 감지로 이중 반영되지 않도록)
+        List<ConsumerPriceIndex> toSave = new ArrayList<>();
         int savedCount = 0;
         int updatedCount = 0;
-        int errorCount = 0;
+        int skippedCount = 0;
+        boolean revised = false;
+        
+        for (ConsumerPriceIndex current : valid) {
+            ConsumerPriceIndex existing = existingByDate.get(current.getDate());
+            if (existing == null) {
+                toSave.add(current);
+                savedCount++;
+            } else if (sameValues(existing, current)) {
+                skippedCount++;
+            } else {
+                revised |= !Objects.equals(existing.getCpiValue(), current.getCpiValue());
+                toSave.add(current);
+                updatedCount++;
+            }
+            log.debug("📊 처리 완료: 날짜={}, CPI={}, 월변화율={}, 년변화율={}",
+                    current.getDate(), current.getCpiValue(), current.getMonthlyChange(), current.getAnnualChange());
+        }
         
-        for (int i = 0; i < cpiData.size(); i++) {
-            try {
-                ConsumerPriceIndex current = cpiData.get(i);
-                
-                // 데이터 유효성 검증
-                if (current == null) {
-                    log.warn("⚠️ null CPI 데이터 건너뜀: 인덱스 {}", i);
-                    errorCount++;
-                    continue;
-                }
-                
-                if (current.getDate() == null || current.getCpiValue() == null) {
-                    log.warn("⚠️ 필수 필드가 null인 CPI 데이터 건너뜀: 인덱스 {}, 날짜={}, 값={}", 
-                            i, current.getDate(), current.getCpiValue());
-                    errorCount++;
-                    continue;
-                }
-                
-                // 월별 변화율 계산 (전월 대비)
-                if (i > 0) {
-                    ConsumerPriceIndex previous = cpiData.get(i - 1);
-                    if (previous != null && previous.getCpiValue() != null && previous.getCpiValue() > 0) {
-                        try {
-                            double monthlyChange = ((current.getCpiValue() - previous.getCpiValue()) / previous.getCpiValue()) * 100;
-                            current.setMonthlyChange(Math.round(monthlyChange * 100.0) / 100.0);
-                        } catch (ArithmeticException e) {
-                            log.warn("⚠️ 월별 변화율 계산 실패: {}", e.getMessage());
-                            current.setMonthlyChange(0.0);
-                        }
-                    } else {
-                        current.setMonthlyChange(0.0);
-                    }
-                }
-                
-                // 연간 변화율 계산 (전년 동월 대비)
-                if (i >= 12) {
-                    ConsumerPriceIndex yearAgo = cpiData.get(i - 12);
-                    if (yearAgo != null && yearAgo.getCpiValue() != null && yearAgo.getCpiValue() > 0) {
-                        try {
-                            double annualChange = ((current.getCpiValue() - yearAgo.getCpiValue()) / yearAgo.getCpiValue()) * 100;
-                            current.setAnnualChange(Math.round(annualChange * 100.0) / 100.0);
-                        } catch (ArithmeticException e) {
-                            log.warn("⚠️ 연간 변화율 계산 실패: {}", e.getMessage());
-                            current.setAnnualChange(0.0);
-                        }
-                    } else {
-                        current.setAnnualChange(0.0);
-                    }
-                }
-                
-                // 저장 또는 업데이트
-                boolean isNew = saveOrUpdateCPI(current);
-                if (isNew) {
-                    savedCount++;
-                } else {
+        // 과거 구간 재수집으로 값이 수정되면 그 값을 기준으로 하는 이후 12개월도 재계산
+        if (revised) {
+            List<ConsumerPriceIndex> downstream = consumerPriceIndexRepository.findByPeriodBetweenOrderByPeriodAsc(
+                    toPeriod(last.plusMonths(1)), toPeriod(last.plusMonths(12)));
+            List<ConsumerPriceIndex> downstreamContext = new ArrayList<>(context);
+            downstreamContext.addAll(valid);
+            for (ConsumerPriceIndex stored : downstream) {
+                ConsumerPriceIndex recalculated = ConsumerPriceIndex.builder()
+                        .date(stored.getDate())
+                        .cpiValue(stored.getCpiValue())
+                        .monthlyChange(stored.getMonthlyChange())
+                        .annualChange(stored.getAnnualChange())
+                        .build();
+                applyChangeRates(List.of(recalculated), downstreamContext);
+                if (!sameValues(stored, recalculated)) {
+                    toSave.add(recalculated);
                     updatedCount++;
                 }
-                
-                log.debug("📊 처리 완료: 날짜={}, CPI={}, 월변화율={}, 년변화율={}", 
-                        current.getDate(), current.getCpiValue(), 
-                        current.getMonthlyChange(), current.getAnnualChange());
-                        
-            } catch (Exception e) {
-                errorCount++;
-                log.error("❌ CPI 데이터 처리 실패 (인덱스 {}): {}", i, e.getMessage());
+                downstreamContext.add(recalculated);
             }
         }
         
-        log.info("✅ CPI 데이터 저장 완료: 신규 {}개, 업데이트 {}개, 에러 {}개", savedCount, updatedCount, errorCount);
+        if (!toSave.isEmpty()) {
+            upsertBatch(toSave);
+            secondLevelCacheService.evictConsumerPriceIndexes();
+            eventPublisher.publishEvent(new EconomicDataChangedEvent(IngestMetrics.SOURCE_CPI, null));
+        }
         
-        if (errorCount > 0) {
-            log.warn("⚠️ {}개의 CPI 데이터 처리 중 에러가 발생했습니다.", errorCount);
+        ingestMetrics.recordFetched(IngestMetrics.SOURCE_CPI, cpiData.size());
+        ingestMetrics.recordInserted(IngestMetrics.SOURCE_CPI, savedCount);
+        ingestMetrics.recordUpdated(IngestMetrics.SOURCE_CPI, updatedCount);
+        ingestMetrics.recordSkipped(IngestMetrics.SOURCE_CPI, skippedCount);
+        ingestMetrics.recordFailed(IngestMetrics.SOURCE_CPI, errorCount);
+        
+        log.info("✅ CPI 데이터 저장 완료: 신규 {}개, 업데이트 {}개, 변경 없음 {}개, 에러 {}개",
+                savedCount, updatedCount, skippedCount, errorCount);
+    }
+
+    /**
+     * 기준월(period) 유니크 키로 여러 달을 한 문장씩 업서트 (UPSERT_CHUNK_SIZE 건 단위 다중 VALUES, MySQL 8.0.19+)
+     * 네이티브 쓰기라 2차 캐시는 호출 측에서 커밋 후 무효화합니다.
+     */
+    private void upsertBatch(List<ConsumerPriceIndex> rows) {
+        for (int from = 0; from < rows.size(); from += UPSERT_CHUNK_SIZE) {
+            List<ConsumerPriceIndex> chunk = rows.subList(from, Math.min(from + UPSERT_CHUNK_SIZE, rows.size()));
+            String sql = "INSERT INTO consumer_price_index (date, period, cpi_value, monthly_change, annual_change) VALUES "
+                    + String.join(", ", Collections.nCopies(chunk.size(), "(?, ?, ?, ?, ?)"))
+                    // 행 별칭 형식 (VALUES() 참조는 MySQL 8.0.20 부터 deprecated)
+                    + " AS new ON DUPLICATE KEY UPDATE cpi_value = new.cpi_value,"
+                    + " monthly_change = new.monthly_change, annual_change = new.annual_change";
+
+            Object[] args = new Object[chunk.size() * 5];
+            int i = 0;
+            for (ConsumerPriceIndex cpi : chunk) {
+                args[i++] = cpi.getDate();
+                args[i++] = Integer.valueOf(cpi.getDate());
+                args[i++] = cpi.getCpiValue();
+                args[i++] = cpi.getMonthlyChange();
+                args[i++] = cpi.getAnnualChange();
+            }
+            jdbcTemplate.update(sql, args);
         }
     }
 
+    private static int toPeriod(YearMonth month) {
+        return month.getYear() * 100 + month.getMonthValue();
+    }
+
+    private static boolean sameValues(ConsumerPriceIndex a, ConsumerPriceIndex b) {
+        return Objects.equals(a.getCpiValue(), b.getCpiValue())
+                && Objects.equals(a.getMonthlyChange(), b.getMonthlyChange())
+                && Objects.equals(a.getAnnualChange(), b.getAnnualChange());
+    }
+
+    /**
+     * 날짜순으로 정렬된 CPI 목록에 전월/전년 동월 대비 변화율을 채웁니다.
+     * DB 접근 없는 순수 계산이므로 벤치마크(src/jmh)에서도 직접 호출합니다.
+     */
+    public static void applyChangeRates(List<ConsumerPriceIndex> sortedCpiData) {
+        applyChangeRates(sortedCpiData, List.of());
+    }
+
     /**
-     * CPI 데이터 저장 또는 업데이트
-     * @return true if new data saved, false if existing data updated
+     * 이전 달 문맥(priorContext)을 함께 참고해 변화율을 채웁니다.
+     * 기준 월은 목록 위치가 아니라 YYYYMM 으로 찾으므로 중간에 빠진 달이 있어도 잘못 계산되지 않으며,
+     * 기준 월이 없으면 기존 값을 유지합니다.
      */
-    private boolean saveOrUpdateCPI(ConsumerPriceIndex newCPI) {
-        if (newCPI == null) {
-            log.error("❌ 저장할 CPI 데이터가 null입니다.");
-            throw new IllegalArgumentException("저장할 CPI 데이터가 null입니다.");
+    public static void applyChangeRates(List<ConsumerPriceIndex> sortedCpiData, List<ConsumerPriceIndex> priorContext) {
+        Map<YearMonth, ConsumerPriceIndex> byMonth = new HashMap<>((priorContext.size() + sortedCpiData.size()) * 2);
+        for (ConsumerPriceIndex cpi : priorContext) {
+            byMonth.put(YearMonth.parse(cpi.getDate(), YYYYMM), cpi);
         }
-        
-        if (newCPI.getDate() == null || newCPI.getCpiValue() == null) {
-            log.error("❌ CPI 데이터의 필수 필드가 null입니다: 날짜={}, 값={}", newCPI.getDate(), newCPI.getCpiValue());
-            throw new IllegalArgumentException("CPI 데이터의 필수 필드가 null입니다.");
+        for (ConsumerPriceIndex cpi : sortedCpiData) {
+            if (cpi != null && cpi.getDate() != null) {
+                byMonth.put(YearMonth.parse(cpi.getDate(), YYYYMM), cpi);
+            }
         }
         
-        try {
-            Optional<ConsumerPriceIndex> existing = consumerPriceIndexRepository.findByDate(newCPI.getDate());
-            
-            if (existing.isPresent()) {
-                ConsumerPriceIndex existingCPI = existing.get();
-                existingCPI.setCpiValue(newCPI.getCpiValue());
-                existingCPI.setMonthlyChange(newCPI.getMonthlyChange());
-                existingCPI.setAnnualChange(newCPI.getAnnualChange());
-                consumerPriceIndexRepository.save(existingCPI);
-                log.debug("📝 CPI 데이터 업데이트: 날짜={}, 값={}", newCPI.getDate(), newCPI.getCpiValue());
-                return false; // 기존 데이터 업데이트
-            } else {
-                consumerPriceIndexRepository.save(newCPI);
-                log.debug("💾 CPI 데이터 신규 저장: 날짜={}, 값={}", newCPI.getDate(), newCPI.getCpiValue());
-                return true; // 신규 데이터 저장
+        for (ConsumerPriceIndex current : sortedCpiData) {
+            if (current == null || current.getDate() == null || current.getCpiValue() == null) {
+                continue;
+            }
+            YearMonth month = YearMonth.parse(current.getDate(), YYYYMM);
+            ConsumerPriceIndex previousMonth = byMonth.get(month.minusMonths(1));
+            ConsumerPriceIndex previousYear = byMonth.get(month.minusYears(1));
+            if (previousMonth != null) {
+                current.setMonthlyChange(changeRate(current, previousMonth));
+            }
+            if (previousYear != null) {
+                current.setAnnualChange(changeRate(current, previousYear));
             }
-        } catch (org.springframework.dao.DataIntegrityViolationException e) {
-            log.error("❌ CPI 데이터 저장 중 데이터 무결성 위반: 날짜={}, 에러={}", newCPI.getDate(), e.getMessage());
-            throw new RuntimeException("CPI 데이터 저장 중 데이터 무결성 위반: " + e.getMessage(), e);
-        } catch (org.springframework.dao.DataAccessException e) {
-            log.error("❌ CPI 데이터 저장 중 데이터베이스 접근 에러: 날짜={}, 에러={}", newCPI.getDate(), e.getMessage());
-            throw new RuntimeException("CPI 데이터 저장 중 데이터베이스 접근 에러: " + e.getMessage(), e);
-        } catch (Exception e) {
-            log.error("❌ CPI 데이터 저장 중 예상치 못한 에러: 날짜={}, 에러={}", newCPI.getDate(), e.getMessage());
-            throw new RuntimeException("CPI 데이터 저장 중 예상치 못한 에러: " + e.getMessage(), e);
         }
     }
 
+    /**
+     * 기준 대비 변화율(%)을 소수 둘째 자리로 반올림, 기준값이 없으면 0.0
+     */
+    private static double changeRate(ConsumerPriceIndex current, ConsumerPriceIndex base) {
+        if (base == null || base.getCpiValue() == null || base.getCpiValue() <= 0) {
+            return 0.0;
+        }
+        double change = ((current.getCpiValue() - base.getCpiValue()) / base.getCpiValue()) * 100;
+        return Math.round(change * 100.0) / 100.0;
+    }
+
     /**
      * 응답 데이터 구성
      */
@@ -647,6 +726,15 @@ public class ConsumerPriceIndexService {
                 .build();
     }
 
+    /**
+     * 샘플 데이터 응답 (조회 실패 대체용, HTTP 캐시에 보관되지 않도록 표시)
+     */
+    private ConsumerPriceIndexResponse buildSampleResponse() {
+        ConsumerPriceIndexResponse response = buildResponse(createSampleData());
+        response.setFallback(true);
+        return response;
+    }
+
     /**
      * 데이터가 오래되었는지 확인 (2개월 이상)
      */
@@ -683,7 +771,8 @@ public class ConsumerPriceIndexService {
 
     // 기존 메서드들 유지
     public List<ConsumerPriceIndexDto> getConsumerPriceIndexByDateRange(String startDate, String endDate) {
-        List<ConsumerPriceIndex> cpiList = consumerPriceIndexRepository.findByDateBetween(startDate, endDate);
+        List<ConsumerPriceIndex> cpiList = consumerPriceIndexRepository.findByPeriodBetweenOrderByPeriodAsc(
+                Integer.valueOf(startDate), Integer.valueOf(endDate));
         return ConsumerPriceIndexDto.fromEntities(cpiList);
     }
 
@@ -701,6 +790,7 @@ public class ConsumerPriceIndexService {
      * 어드민용: 최근 2년간 데이터 수동 호출
      */
     @Transactional
+    @Timed(value = IngestMetrics.JOB_TIMER, extraTags = {"source", IngestMetrics.SOURCE_CPI})
     public void fetchAndSave2YearsData() {
         log.info("📅 최근 2년간 소비자물가지수 데이터 수동 호출");
         
@@ -724,6 +814,7 @@ public class ConsumerPriceIndexService {
      * 어드민용: 최근 1년간 데이터 수동 호출  
      */
     @Transactional
+    @Timed(value = IngestMetrics.JOB_TIMER, extraTags = {"source", IngestMetrics.SOURCE_CPI})
     public void fetchAndSave1YearData() {
         log.info("📅 최근 1년간 소비자물가지수 데이터 수동 호출");
         
@@ -0,0 +1,214 @@
+package com.at_a_look.economy.service;
+
+import com.at_a_look.economy.dto.CurrencyConversionDto;
+import com.at_a_look.economy.entity.ExchangeRate;
+import com.at_a_look.economy.event.EconomicDataChangedEvent;
+import com.at_a_look.economy.metrics.IngestMetrics;
+import com.at_a_look.economy.repository.ExchangeRateRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Currency;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 서버 측 환율 환산 서비스
+ * 날짜별 환율 고시(ExchangeRate)로 모든 통화 쌍의 교차 환율 행렬을 한 번 계산해 캐시하고,
+ * 환산 요청은 행렬 조회 + 곱셈 한 번으로 처리합니다.
+ * - JPY(100), IDR(100) 처럼 100단위로 고시되는 통화는 1단위 기준으로 정규화
+ * - KRW 는 고시 목록에 없으므로 1.0 으로 추가
+ * - 새 환율이 저장되면 EconomicDataChangedEvent 로 해당 날짜 행렬을 무효화
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CurrencyConversionService {
+
+    private static final String KRW = "KRW";
+    private static final MathContext RATE_CONTEXT = MathContext.DECIMAL64;
+    private static final Pattern SCALED_UNIT = Pattern.compile("^([A-Z]{3})\\((\\d+)\\)$");
+    private static final int DEFAULT_FRACTION_DIGITS = 2;
+
+    private final ExchangeRateRepository exchangeRateRepository;
+
+    // 날짜별 교차 환율 행렬 (과거 날짜는 불변이므로 크기 제한만 둠)
+    private final Cache<LocalDate, CrossRateMatrix> matrices = Caffeine.newBuilder()
+            .maximumSize(64)
+            .expireAfterAccess(Duration.ofHours(12))
+            .build();
+
+    // 통화별 소수 자릿수 (CNH 등 ISO 4217 에 없는 코드는 2자리)
+    private final Map<String, Integer> fractionDigits = new ConcurrentHashMap<>();
+
+    @Value("${currency-conversion.max-batch-size:100}")
+    private int maxBatchSize;
+
+    /**
+     * 여러 건의 환산을 한 번에 처리합니다.
+     *
+     * @param request 기준 날짜(없으면 최신)와 환산 항목 목록
+     * @return 실제 적용된 환율 날짜와 항목별 환산 결과 (요청 순서 유지)
+     */
+    public CurrencyConversionDto.BatchResponse convertBatch(CurrencyConversionDto.BatchRequest request) {
+        if (request == null || request.getItems() == null || request.getItems().isEmpty()) {
+            throw new IllegalArgumentException("환산할 항목을 입력해주세요.");
+        }
+        if (request.getItems().size() > maxBatchSize) {
+            throw new IllegalArgumentException("한 번에 최대 " + maxBatchSize + "건까지 환산할 수 있습니다.");
+        }
+
+        LocalDate rateDate = resolveRateDate(request.getDate());
+        CrossRateMatrix matrix = matrices.get(rateDate, this::buildMatrix);
+
+        List<CurrencyConversionDto.ConversionResult> results = new ArrayList<>(request.getItems().size());
+        for (CurrencyConversionDto.ConversionItem item : request.getItems()) {
+            results.add(convert(matrix, item));
+        }
+
+        return CurrencyConversionDto.BatchResponse.builder()
+                .date(rateDate)
+                .results(results)
+                .build();
+    }
+
+    /**
+     * 환율 저장 트랜잭션이 커밋된 뒤 해당 날짜의 행렬을 버립니다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onEconomicDataChanged(EconomicDataChangedEvent event) {
+        if (!IngestMetrics.SOURCE_EXCHANGE_RATE.equals(event.source())) {
+            return;
+        }
+        if (event.date() == null) {
+            matrices.invalidateAll();
+        } else {
+            matrices.invalidate(event.date());
+        }
+        log.debug("🧹 교차 환율 행렬 캐시 무효화: {}", event.date() != null ? event.date() : "전체");
+    }
+
+    private CurrencyConversionDto.ConversionResult convert(CrossRateMatrix matrix, CurrencyConversionDto.ConversionItem item) {
+        if (item == null || item.getAmount() == null) {
+            throw new IllegalArgumentException("환산 금액을 입력해주세요.");
+        }
+        String from = normalizeCurrency(item.getFrom());
+        String to = normalizeCurrency(item.getTo());
+        BigDecimal rate = matrix.rate(from, to);
+
+        BigDecimal converted = item.getAmount().multiply(rate, RATE_CONTEXT)
+                .setScale(fractionDigits(to), RoundingMode.HALF_UP);
+
+        return CurrencyConversionDto.ConversionResult.builder()
+                .from(from)
+                .to(to)
+                .amount(item.getAmount())
+                .rate(rate)
+                .convertedAmount(converted)
+                .build();
+    }
+
+    private LocalDate resolveRateDate(LocalDate requested) {
+        return (requested == null
+                ? exchangeRateRepository.findLatestSearchDate()
+                : exchangeRateRepository.findLatestSearchDateOnOrBefore(requested))
+                .orElseThrow(() -> new IllegalArgumentException(
+                        requested == null ? "환율 데이터가 없습니다." : requested + " 이전의 환율 데이터가 없습니다."));
+    }
+
+    private CrossRateMatrix buildMatrix(LocalDate date) {
+        List<ExchangeRate> rates = exchangeRateRepository.findBySearchDateOrderByCurUnit(date);
+
+        // 통화 1단위당 원화 금액
+        Map<String, BigDecimal> krwPerUnit = new HashMap<>();
+        krwPerUnit.put(KRW, BigDecimal.ONE);
+        for (ExchangeRate rate : rates) {
+            if (rate.getDealBasRate() == null || rate.getDealBasRate() <= 0) {
+                continue;
+            }
+            Matcher matcher = SCALED_UNIT.matcher(rate.getCurUnit());
+            String code = matcher.matches() ? matcher.group(1) : rate.getCurUnit();
+            BigDecimal scale = matcher.matches() ? new BigDecimal(matcher.group(2)) : BigDecimal.ONE;
+            krwPerUnit.put(code, BigDecimal.valueOf(rate.getDealBasRate()).divide(scale, RATE_CONTEXT));
+        }
+
+        CrossRateMatrix matrix = new CrossRateMatrix(krwPerUnit);
+        log.debug("📐 교차 환율 행렬 생성: 날짜={}, 통화 {}개", date, krwPerUnit.size());
+        return matrix;
+    }
+
+    private String normalizeCurrency(String currency) {
+        if (currency == null || currency.isBlank()) {
+            throw new IllegalArgumentException("통화 코드를 입력해주세요.");
+        }
+        String code = currency.trim().toUpperCase(Locale.ROOT);
+        Matcher matcher = SCALED_UNIT.matcher(code);
+        return matcher.matches() ? matcher.group(1) : code;
+    }
+
+    private int fractionDigits(String code) {
+        return fractionDigits.computeIfAbsent(code, c -> {
+            try {
+                int digits = Currency.getInstance(c).getDefaultFractionDigits();
+                return digits >= 0 ? digits : DEFAULT_FRACTION_DIGITS;
+            } catch (IllegalArgumentException e) {
+                return DEFAULT_FRACTION_DIGITS;
+            }
+        });
+    }
+
+    /**
+     * 날짜 하나에 대한 전체 통화 쌍 교차 환율 (rates[i][j] = from i 1단위당 to j 금액)
+     */
+    private static final class CrossRateMatrix {
+
+        private final Map<String, Integer> index;
+        private final BigDecimal[][] rates;
+
+        CrossRateMatrix(Map<String, BigDecimal> krwPerUnit) {
+            List<String> codes = new ArrayList<>(krwPerUnit.keySet());
+            int size = codes.size();
+            this.index = new HashMap<>(size * 2);
+            this.rates = new BigDecimal[size][size];
+
+            for (int i = 0; i < size; i++) {
+                index.put(codes.get(i), i);
+            }
+            for (int i = 0; i < size; i++) {
+                BigDecimal from = krwPerUnit.get(codes.get(i));
+                for (int j = 0; j < size; j++) {
+                    rates[i][j] = i == j ? BigDecimal.ONE : from.divide(krwPerUnit.get(codes.get(j)), RATE_CONTEXT);
+                }
+            }
+        }
+
+        BigDecimal rate(String from, String to) {
+            Integer i = index.get(from);
+            if (i == null) {
+                throw new IllegalArgumentException("지원하지 않는 통화입니다: " + from);
+            }
+            Integer j = index.get(to);
+            if (j == null) {
+                throw new IllegalArgumentException("지원하지 않는 통화입니다: " + to);
+            }
+            return rates[i][j];
+        }
+    }
+}
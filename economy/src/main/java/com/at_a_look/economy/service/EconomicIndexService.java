@@ -7,9 +7,13 @@ import com.at_a_look.economy.dto.InterestRateDto;
 import com.at_a_look.economy.dto.InterestRateResponse;
 import com.at_a_look.economy.dto.response.EconomicIndexResponse;
 import com.at_a_look.economy.entity.EconomicIndex;
+import com.at_a_look.economy.event.EconomicDataChangedEvent;
+import com.at_a_look.economy.metrics.IngestMetrics;
 import com.at_a_look.economy.repository.EconomicIndexRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.Optional;
@@ -22,6 +26,7 @@ public class EconomicIndexService {
     private final ExchangeRateService exchangeRateService;
     private final InterestRateService interestRateService;
     private final ConsumerPriceIndexService consumerPriceIndexService;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 종합 경제 심리 지수 계산 및 가져오기
     public EconomicIndexResponse getEconomicIndex() {
@@ -47,6 +52,25 @@ public class EconomicIndexService {
         return createIndexResponse(savedIndex);
     }
 
+    /**
+     * 오늘 지수를 최신 지표로 다시 계산해 저장 (IngestOrchestrator 가 세 지표 수집 완료 후 호출)
+     * 조회 시점에 먼저 계산된 오늘 지수가 있으면 덮어씁니다.
+     */
+    @Transactional
+    public EconomicIndexDto recalculateTodayIndex() {
+        double indexValue = calculateEconomicIndex();
+        LocalDate today = LocalDate.now();
+
+        EconomicIndex index = economicIndexRepository.findFirstByDate(today)
+                .orElseGet(() -> EconomicIndex.builder().date(today).build());
+        index.setIndexValue(indexValue);
+        index.setIndexStatus(getStatusForIndex(indexValue));
+
+        EconomicIndex saved = economicIndexRepository.save(index);
+        eventPublisher.publishEvent(new EconomicDataChangedEvent(IngestMetrics.SOURCE_ECONOMIC_INDEX, today));
+        return EconomicIndexDto.fromEntity(saved);
+    }
+
     // 경제 지수 계산 (금리, 환율, 물가지수 종합)
     private double calculateEconomicIndex() {
         // 실제 구현 시 각 지표의 가중치와 정규화 방식을 결정해야 함
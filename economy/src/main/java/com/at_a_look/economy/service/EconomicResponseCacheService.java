@@ -0,0 +1,247 @@
+package com.at_a_look.economy.service;
+
+import com.at_a_look.economy.dto.response.ApiResponse;
+import com.at_a_look.economy.dto.response.FallbackResponse;
+import com.at_a_look.economy.event.EconomicDataChangedEvent;
+import com.at_a_look.economy.metrics.IngestMetrics;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.support.CronExpression;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 경제 지표 조회 응답의 HTTP 캐시
+ * 최신 환율/금리/CPI/종합 지수 응답을 데이터 버전별로 한 번만 직렬화해 byte[] 로 보관하고,
+ * ETag/Last-Modified/Cache-Control 을 붙여 반환합니다. (If-None-Match 304 는 Spring MVC 가 처리)
+ *
+ * - 무효화: EconomicDataChangedEvent(수집 커밋 후)로 해당 지표가 바뀐 응답만 제거
+ * - 만료/max-age: 다음 일일 수집(ingest.orchestrator.cron)에 맞추고, 수집 직후 정착 구간에는 짧게 유지
+ *   (다른 인스턴스에서 수집한 변경은 이벤트가 오지 않으므로 이 경계에서 다시 만듭니다)
+ * - ETag: 직렬화 결과의 SHA-256 이므로 인스턴스가 달라도 같은 데이터면 같은 값
+ * - 조회 실패로 만든 샘플 데이터(FallbackResponse)는 보관하지 않고 no-store 로 응답 (CDN/브라우저에 남지 않도록)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class EconomicResponseCacheService {
+
+    private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+    private static final int ETAG_HEX_LENGTH = 32;
+
+    public enum Endpoint {
+        EXCHANGE_RATE(Set.of(IngestMetrics.SOURCE_EXCHANGE_RATE)),
+        INTEREST_RATE(Set.of(IngestMetrics.SOURCE_INTEREST_RATE)),
+        CONSUMER_PRICE_INDEX(Set.of(IngestMetrics.SOURCE_CPI)),
+        ECONOMIC_INDEX(Set.of(IngestMetrics.SOURCE_EXCHANGE_RATE, IngestMetrics.SOURCE_INTEREST_RATE,
+                IngestMetrics.SOURCE_CPI, IngestMetrics.SOURCE_ECONOMIC_INDEX));
+
+        private final Set<String> sources;
+
+        Endpoint(Set<String> sources) {
+            this.sources = sources;
+        }
+    }
+
+    /**
+     * 데이터 버전 하나에 대한 직렬화된 응답 (fallback 이면 etag/lastModified 없음)
+     */
+    private record Entry(byte[] body, String etag, Instant lastModified, Instant expiresAt, boolean fallback) {
+    }
+
+    private final ObjectMapper objectMapper;
+
+    // 엔드포인트별 현재 응답 (항목마다 다음 수집 경계에서 만료)
+    private final Cache<Endpoint, Entry> entries = Caffeine.newBuilder()
+            .expireAfter(new Expiry<Endpoint, Entry>() {
+                @Override
+                public long expireAfterCreate(Endpoint key, Entry entry, long currentTime) {
+                    return Math.max(0, Duration.between(Instant.now(), entry.expiresAt()).toNanos());
+                }
+
+                @Override
+                public long expireAfterUpdate(Endpoint key, Entry entry, long currentTime, long currentDuration) {
+                    return expireAfterCreate(key, entry, currentTime);
+                }
+
+                @Override
+                public long expireAfterRead(Endpoint key, Entry entry, long currentTime, long currentDuration) {
+                    return currentDuration;
+                }
+            })
+            .build();
+
+    // 마지막으로 만든 응답 (내용이 같으면 Last-Modified 를 유지하기 위해 만료 후에도 보관)
+    private final Map<Endpoint, Entry> lastBuilt = new ConcurrentHashMap<>();
+
+    // 엔드포인트별 생성 락 (동시 요청은 한 번만 생성, 가상 스레드 pinning 방지를 위해 ReentrantLock)
+    private final Map<Endpoint, ReentrantLock> buildLocks = new ConcurrentHashMap<>();
+
+    // 무효화 세대 - 생성 중에 무효화되면 결과를 보관하지 않음
+    private final Map<Endpoint, AtomicLong> generations = new ConcurrentHashMap<>();
+
+    @Value("${ingest.orchestrator.cron:0 30 11 * * *}")
+    private String ingestCron;
+
+    // 수집 시작 후 데이터가 바뀔 수 있는 구간 (지연/피드 간격/재시도 포함)
+    @Value("${http-cache.ingest-settle-seconds:900}")
+    private long ingestSettleSeconds;
+
+    // 정착 구간 중 max-age
+    @Value("${http-cache.settle-max-age-seconds:60}")
+    private long settleMaxAgeSeconds;
+
+    // 평상시 max-age 상한 (수시 동기화되는 기준금리 등 반영 지연 한도)
+    @Value("${http-cache.max-age-seconds:3600}")
+    private long maxAgeSeconds;
+
+    /**
+     * 캐시된 직렬화 응답을 반환합니다. 없거나 만료되었으면 loader 결과를 ApiResponse.success 로 직렬화해 보관합니다.
+     * 같은 엔드포인트의 동시 요청은 한 번만 loader 를 호출하며, loader 예외는 보관하지 않고 그대로 전파합니다.
+     * loader 가 대체(샘플) 응답을 돌려주면 보관하지 않고 Cache-Control: no-store 로 반환합니다.
+     */
+    public ResponseEntity<byte[]> respond(Endpoint endpoint, Supplier<?> loader) {
+        Entry entry = entries.getIfPresent(endpoint);
+        if (entry == null) {
+            entry = load(endpoint, loader);
+        }
+        if (entry.fallback()) {
+            return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .cacheControl(CacheControl.noStore())
+                    .body(entry.body());
+        }
+        long maxAge = Math.max(0, Duration.between(Instant.now(), entry.expiresAt()).toSeconds());
+
+        // ETag/Last-Modified 가 있으면 HttpEntityMethodProcessor 가 조건부 요청을 확인해 304 로 응답
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(entry.etag())
+                .lastModified(entry.lastModified())
+                .cacheControl(CacheControl.maxAge(maxAge, TimeUnit.SECONDS).cachePublic())
+                .body(entry.body());
+    }
+
+    /**
+     * 수집 트랜잭션 커밋 후 해당 지표에 의존하는 응답을 제거합니다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onEconomicDataChanged(EconomicDataChangedEvent event) {
+        for (Endpoint endpoint : Endpoint.values()) {
+            if (endpoint.sources.contains(event.source())) {
+                generation(endpoint).incrementAndGet();
+                entries.invalidate(endpoint);
+                log.debug("🧹 HTTP 응답 캐시 무효화: {} ({})", endpoint, event.source());
+            }
+        }
+    }
+
+    /**
+     * loader 가 수집을 유발해 같은 스레드에서 무효화 이벤트가 와도 안전하도록
+     * 캐시 compute 대신 엔드포인트 락 안에서 생성합니다.
+     */
+    private Entry load(Endpoint endpoint, Supplier<?> loader) {
+        ReentrantLock lock = buildLocks.computeIfAbsent(endpoint, key -> new ReentrantLock());
+        lock.lock();
+        try {
+            Entry cached = entries.getIfPresent(endpoint);
+            if (cached != null) {
+                return cached;
+            }
+            long generation = generation(endpoint).get();
+            Entry built = build(endpoint, loader);
+            if (!built.fallback() && generation(endpoint).get() == generation) {
+                entries.put(endpoint, built);
+            }
+            return built;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private AtomicLong generation(Endpoint endpoint) {
+        return generations.computeIfAbsent(endpoint, key -> new AtomicLong());
+    }
+
+    private Entry build(Endpoint endpoint, Supplier<?> loader) {
+        Object result = loader.get();
+        byte[] body;
+        try {
+            body = objectMapper.writeValueAsBytes(ApiResponse.success(result));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("응답 직렬화에 실패했습니다: " + endpoint, e);
+        }
+
+        Instant now = Instant.now();
+        if (result instanceof FallbackResponse fallback && fallback.isFallback()) {
+            log.warn("⚠️ 대체 데이터 응답은 HTTP 캐시에 보관하지 않습니다: {}", endpoint);
+            return new Entry(body, null, null, now, true);
+        }
+
+        String etag = "\"" + sha256Hex(body).substring(0, ETAG_HEX_LENGTH) + "\"";
+        Entry previous = lastBuilt.get(endpoint);
+        Instant lastModified = previous != null && previous.etag().equals(etag) ? previous.lastModified() : now;
+        Entry entry = new Entry(body, etag, lastModified, nextBoundary(now), false);
+        lastBuilt.put(endpoint, entry);
+
+        log.debug("🗂️ HTTP 응답 캐시 생성: {} {}bytes, etag={}, 만료 {}", endpoint, body.length, etag, entry.expiresAt());
+        return entry;
+    }
+
+    /**
+     * 응답을 다시 만들어야 하는 다음 시각
+     * - 수집 정착 구간(수집 시각 ~ +settle) 안: min(정착 구간 끝, 지금 + settle-max-age)
+     * - 그 외: min(다음 수집 시각, 다음 자정, 지금 + max-age)
+     */
+    private Instant nextBoundary(Instant now) {
+        ZonedDateTime current = now.atZone(SEOUL);
+        CronExpression cron = CronExpression.parse(ingestCron);
+        ZonedDateTime ingest = cron.next(current.minusSeconds(ingestSettleSeconds));
+
+        if (ingest != null && !ingest.isAfter(current)) {
+            Instant settleEnd = ingest.plusSeconds(ingestSettleSeconds).toInstant();
+            return min(settleEnd, now.plusSeconds(settleMaxAgeSeconds));
+        }
+
+        Instant boundary = min(now.plusSeconds(maxAgeSeconds),
+                current.toLocalDate().plusDays(1).atStartOfDay(SEOUL).toInstant());
+        return ingest != null ? min(boundary, ingest.toInstant()) : boundary;
+    }
+
+    private static Instant min(Instant a, Instant b) {
+        return a.isBefore(b) ? a : b;
+    }
+
+    private static String sha256Hex(byte[] body) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(body));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+}
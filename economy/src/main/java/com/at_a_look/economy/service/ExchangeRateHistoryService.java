@@ -1,5 +1,6 @@
 package com.at_a_look.economy.service;
 
+import com.at_a_look.economy.dto.ExchangeRateHistoryImportResult;
 import com.at_a_look.economy.dto.ExchangeRateHistoryRequest;
 import com.at_a_look.economy.dto.ExchangeRateHistoryResponse;
 import com.at_a_look.economy.dto.UpdateMemoRequest;
@@ -8,13 +9,28 @@ import com.at_a_look.economy.entity.ExchangeRateHistory;
 import com.at_a_look.economy.entity.User;
 import com.at_a_look.economy.repository.ExchangeRateHistoryRepository;
 import com.at_a_look.economy.repository.UserRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
 @Service
@@ -24,6 +40,37 @@ public class ExchangeRateHistoryService {
 
     private final ExchangeRateHistoryRepository exchangeRateHistoryRepository;
     private final UserRepository userRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    // 일괄 삭제/내보내기 묶음 크기, 가져오기 배치 크기
+    private static final int BULK_CHUNK_SIZE = 1000;
+    private static final int IMPORT_BATCH_SIZE = 500;
+
+    private static final String EXPORT_SQL =
+            "SELECT id, currency_code, currency_name, exchange_rate, krw_amount, foreign_amount, created_at, memo, is_krw_first " +
+            "FROM exchange_rate_history WHERE user_id = ? AND id > ? ORDER BY id LIMIT ?";
+
+    private static final String IMPORT_SQL =
+            "INSERT INTO exchange_rate_history " +
+            "(user_id, currency_code, currency_name, exchange_rate, krw_amount, foreign_amount, created_at, memo, is_krw_first) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final RowMapper<ExchangeRateHistoryResponse> EXPORT_ROW_MAPPER = (rs, rowNum) ->
+            ExchangeRateHistoryResponse.builder()
+                    .id(rs.getLong("id"))
+                    .currencyCode(rs.getString("currency_code"))
+                    .currencyName(rs.getString("currency_name"))
+                    .exchangeRate(rs.getBigDecimal("exchange_rate"))
+                    .krwAmount(rs.getBigDecimal("krw_amount"))
+                    .foreignAmount(rs.getBigDecimal("foreign_amount"))
+                    .createdAt(rs.getTimestamp("created_at").toLocalDateTime())
+                    .memo(rs.getString("memo"))
+                    .isKrwFirst(rs.getBoolean("is_krw_first"))
+                    .build();
+
+    @Value("${exchange-rate-history.import.max-records:10000}")
+    private int maxImportRecords;
 
     /**
      * 환율 계산 결과 저장
@@ -152,22 +199,147 @@ public class ExchangeRateHistoryService {
 
     /**
      * 사용자의 모든 환율 저장 기록 삭제
+     * 엔티티를 로드하지 않고 ID 구간 단위 DELETE 문으로 지움 (묶음당 ID 조회 1회 + DELETE 1회)
      */
     @Transactional
     public void deleteAllExchangeRateHistory(String userEmail) {
         User user = userRepository.findByEmail(userEmail)
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
 
-        List<ExchangeRateHistory> histories = exchangeRateHistoryRepository.findByUser(user);
-        
-        if (!histories.isEmpty()) {
-            exchangeRateHistoryRepository.deleteAll(histories);
-            log.info("사용자 {}의 모든 환율 저장 기록 삭제 완료 - 삭제된 기록 수: {}", userEmail, histories.size());
+        PageRequest chunk = PageRequest.of(0, BULK_CHUNK_SIZE);
+        long afterId = 0L;
+        int deletedCount = 0;
+
+        while (true) {
+            List<Long> ids = exchangeRateHistoryRepository.findIdChunk(user.getId(), afterId, chunk);
+            if (ids.isEmpty()) {
+                break;
+            }
+            long fromId = ids.get(0);
+            long toId = ids.get(ids.size() - 1);
+            deletedCount += exchangeRateHistoryRepository.deleteByUserIdAndIdBetween(user.getId(), fromId, toId);
+            if (ids.size() < BULK_CHUNK_SIZE) {
+                break;
+            }
+            afterId = toId;
+        }
+
+        if (deletedCount > 0) {
+            log.info("사용자 {}의 모든 환율 저장 기록 삭제 완료 - 삭제된 기록 수: {}", userEmail, deletedCount);
         } else {
             log.info("사용자 {}의 삭제할 환율 저장 기록이 없습니다.", userEmail);
         }
     }
 
+    /**
+     * 사용자의 환율 저장 기록 전체를 JSON 배열로 내보내기
+     * ID 순 키셋 페이지 단위로 읽어 바로 쓰므로 기록 수와 관계없이 메모리 사용량이 일정합니다.
+     * 응답 스트림에 쓰는 동안 커넥션을 잡지 않도록 트랜잭션 없이 묶음마다 조회합니다.
+     */
+    public void exportExchangeRateHistory(String userEmail, OutputStream out) throws IOException {
+        User user = userRepository.findByEmail(userEmail)
+                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
+
+        int exportedCount = 0;
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.writeStartArray();
+            long afterId = 0L;
+            while (true) {
+                List<ExchangeRateHistoryResponse> chunk =
+                        jdbcTemplate.query(EXPORT_SQL, EXPORT_ROW_MAPPER, user.getId(), afterId, BULK_CHUNK_SIZE);
+                for (ExchangeRateHistoryResponse history : chunk) {
+                    generator.writeObject(history);
+                }
+                exportedCount += chunk.size();
+                if (chunk.size() < BULK_CHUNK_SIZE) {
+                    break;
+                }
+                afterId = chunk.get(chunk.size() - 1).getId();
+                generator.flush();
+            }
+            generator.writeEndArray();
+        }
+
+        log.info("환율 저장 기록 내보내기 완료 - 사용자: {}, 기록 수: {}", userEmail, exportedCount);
+    }
+
+    /**
+     * 내보낸 JSON 배열(또는 같은 형식)의 환율 저장 기록 가져오기
+     * 항목을 하나씩 읽어 배치 INSERT 하므로 파일 크기와 관계없이 메모리 사용량이 일정합니다.
+     * id 는 무시하고 새 기록으로 추가하며, 필수 값이 빠진 항목은 건너뜁니다. 전체가 한 트랜잭션입니다.
+     */
+    @Transactional
+    public ExchangeRateHistoryImportResult importExchangeRateHistory(String userEmail, InputStream in) throws IOException {
+        User user = userRepository.findByEmail(userEmail)
+                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
+
+        int importedCount = 0;
+        int skippedCount = 0;
+        List<Object[]> batch = new ArrayList<>(IMPORT_BATCH_SIZE);
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IllegalArgumentException("가져올 기록은 JSON 배열 형식이어야 합니다.");
+            }
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                if (importedCount + batch.size() + skippedCount >= maxImportRecords) {
+                    throw new IllegalArgumentException("한 번에 가져올 수 있는 기록은 최대 " + maxImportRecords + "개입니다.");
+                }
+                ExchangeRateHistoryResponse item = objectMapper.readValue(parser, ExchangeRateHistoryResponse.class);
+                if (!isImportable(item)) {
+                    skippedCount++;
+                    continue;
+                }
+                batch.add(toImportArgs(user.getId(), item));
+                if (batch.size() == IMPORT_BATCH_SIZE) {
+                    jdbcTemplate.batchUpdate(IMPORT_SQL, batch);
+                    importedCount += batch.size();
+                    batch.clear();
+                }
+            }
+        }
+
+        if (!batch.isEmpty()) {
+            jdbcTemplate.batchUpdate(IMPORT_SQL, batch);
+            importedCount += batch.size();
+        }
+
+        log.info("환율 저장 기록 가져오기 완료 - 사용자: {}, 저장: {}, 건너뜀: {}", userEmail, importedCount, skippedCount);
+        return ExchangeRateHistoryImportResult.builder()
+                .imported(importedCount)
+                .skipped(skippedCount)
+                .build();
+    }
+
+    private boolean isImportable(ExchangeRateHistoryResponse item) {
+        return item.getCurrencyCode() != null && !item.getCurrencyCode().isBlank() && item.getCurrencyCode().length() <= 3
+                && item.getCurrencyName() != null && !item.getCurrencyName().isBlank() && item.getCurrencyName().length() <= 50
+                && fitsColumn(item.getExchangeRate(), 8)
+                && fitsColumn(item.getKrwAmount(), 13)
+                && fitsColumn(item.getForeignAmount(), 13)
+                && (item.getMemo() == null || item.getMemo().length() <= 200);
+    }
+
+    // DECIMAL(p, 2) 컬럼의 정수부 자릿수 확인
+    private boolean fitsColumn(BigDecimal value, int integerDigits) {
+        return value != null && value.abs().compareTo(BigDecimal.TEN.pow(integerDigits)) < 0;
+    }
+
+    private Object[] toImportArgs(Long userId, ExchangeRateHistoryResponse item) {
+        LocalDateTime createdAt = item.getCreatedAt() != null ? item.getCreatedAt() : LocalDateTime.now();
+        return new Object[]{
+                userId,
+                item.getCurrencyCode(),
+                item.getCurrencyName(),
+                item.getExchangeRate(),
+                item.getKrwAmount(),
+                item.getForeignAmount(),
+                Timestamp.valueOf(createdAt),
+                item.getMemo(),
+                item.getIsKrwFirst() != null ? item.getIsKrwFirst() : true
+        };
+    }
+
     /**
      * 사용자의 총 저장 기록 개수
      */
@@ -0,0 +1,409 @@
+package com.at_a_look.economy.service;
+
+import com.at_a_look.economy.dto.ExchangeRateResponseDTO;
+import com.at_a_look.economy.entity.ExchangeRate;
+import com.at_a_look.economy.event.EconomicDataChangedEvent;
+import com.at_a_look.economy.metrics.IngestMetrics;
+import com.at_a_look.economy.repository.ExchangeRateRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 조회 전용 환율 시계열 메모리 저장소 (통화별 컬럼 배열)
+ * 통화마다 epochDay 정렬 int[] 와 기준율/매입률/매도율/장부가격 double[] 을 두고,
+ * 기간 조회·최근 N건·통계는 이진 탐색으로 구간을 찾아 JPA 엔티티 없이 처리합니다.
+ * - 애플리케이션 시작 시 JDBC 로 전체 적재, 이후 EconomicDataChangedEvent 로 해당 날짜만 병합
+ * - 시리즈와 통화별 맵은 불변이며 변경 시 새 맵을 만들어 volatile 참조 하나로 교체 (조회는 잠금 없이 한 스냅샷을 읽음)
+ * - 적재 전(또는 적재 실패 시)에는 Optional.empty() 를 돌려 호출 측이 DB 조회로 대체
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ExchangeRateSeriesStore {
+
+    private static final String LOAD_SQL =
+            "SELECT cur_unit, cur_nm, search_date, deal_basr, ttb, tts, bkpr FROM exchange_rates ORDER BY cur_unit, search_date";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ExchangeRateRepository exchangeRateRepository;
+
+    // 통화별 시리즈 스냅샷 (null 이면 미적재/적재 실패)
+    private volatile Map<String, Series> seriesByUnit;
+    // 가상 스레드 모드에서 모니터 점유(pinning)가 생기지 않도록 synchronized 대신 ReentrantLock 사용
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    // StartupWarmup 보다 먼저 적재되도록 가장 앞 순서로 실행
+    @Order(0)
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        reload();
+    }
+
+    /**
+     * DB 의 전체 환율 이력을 다시 적재합니다.
+     */
+    public void reload() {
+        writeLock.lock();
+        try {
+            long started = System.nanoTime();
+            Map<String, SeriesBuilder> builders = new HashMap<>();
+            jdbcTemplate.query(LOAD_SQL, (RowCallbackHandler) rs ->
+                    builders.computeIfAbsent(rs.getString("cur_unit"), unit -> new SeriesBuilder()).add(rs));
+
+            // 새 맵을 완성한 뒤 한 번에 교체 (재적재 중에도 조회는 이전 스냅샷 전체를 봄)
+            Map<String, Series> loaded = new HashMap<>();
+            int points = 0;
+            for (Map.Entry<String, SeriesBuilder> entry : builders.entrySet()) {
+                Series series = entry.getValue().build(entry.getKey());
+                loaded.put(entry.getKey(), series);
+                points += series.days.length;
+            }
+            seriesByUnit = Map.copyOf(loaded);
+            log.info("📦 환율 시계열 저장소 적재 완료: 통화 {}개, {}건, {}ms",
+                    loaded.size(), points, (System.nanoTime() - started) / 1_000_000);
+        } catch (Exception e) {
+            seriesByUnit = null;
+            log.error("💥 환율 시계열 저장소 적재 실패 (DB 조회로 대체): {}", e.getMessage(), e);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * 환율 저장 트랜잭션이 커밋된 뒤 해당 날짜 데이터를 시리즈에 병합합니다.
+     * 적재 중에 들어온 이벤트는 적재가 끝날 때까지 기다렸다가 병합됩니다.
+     * 이 저장소를 읽는 캐시(IndicatorService)가 비워지기 전에 병합되도록 먼저 실행합니다.
+     */
+    @Order(0)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onEconomicDataChanged(EconomicDataChangedEvent event) {
+        if (!IngestMetrics.SOURCE_EXCHANGE_RATE.equals(event.source())) {
+            return;
+        }
+        if (event.date() == null) {
+            reload();
+            return;
+        }
+
+        writeLock.lock();
+        try {
+            Map<String, Series> current = seriesByUnit;
+            if (current == null) {
+                return; // 다음 전체 적재에 포함됨
+            }
+            Map<String, Series> merged = new HashMap<>(current);
+            for (ExchangeRate rate : exchangeRateRepository.findBySearchDate(event.date())) {
+                merged.merge(rate.getCurUnit(), Series.of(rate), Series::upsert);
+            }
+            seriesByUnit = Map.copyOf(merged);
+        } catch (Exception e) {
+            log.warn("⚠️ 환율 시계열 병합 실패, 전체 재적재합니다: {} - {}", event.date(), e.getMessage());
+            reload();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public boolean isReady() {
+        return seriesByUnit != null;
+    }
+
+    /**
+     * 기간 내 시리즈 구간 (양 끝 포함)
+     */
+    public Optional<Slice> range(String curUnit, LocalDate startDate, LocalDate endDate) {
+        Map<String, Series> snapshot = seriesByUnit;
+        if (snapshot == null) {
+            return Optional.empty();
+        }
+        return Optional.of(slice(snapshot, curUnit, startDate, endDate));
+    }
+
+    /**
+     * 여러 통화의 기간 구간을 같은 스냅샷에서 잘라 반환 (통화 간 적재 시점이 어긋나지 않음)
+     */
+    public Optional<Map<String, Slice>> ranges(Collection<String> curUnits, LocalDate startDate, LocalDate endDate) {
+        Map<String, Series> snapshot = seriesByUnit;
+        if (snapshot == null) {
+            return Optional.empty();
+        }
+        Map<String, Slice> slices = new HashMap<>();
+        for (String curUnit : curUnits) {
+            slices.put(curUnit, slice(snapshot, curUnit, startDate, endDate));
+        }
+        return Optional.of(slices);
+    }
+
+    private static Slice slice(Map<String, Series> snapshot, String curUnit, LocalDate startDate, LocalDate endDate) {
+        Series series = snapshot.get(curUnit);
+        if (series == null) {
+            return Slice.EMPTY;
+        }
+        int from = series.lowerBound((int) startDate.toEpochDay());
+        int to = series.lowerBound((int) endDate.toEpochDay() + 1);
+        return new Slice(series, from, Math.max(from, to));
+    }
+
+    /**
+     * 가장 최근 N건 구간 (날짜 오름차순)
+     */
+    public Optional<Slice> latest(String curUnit, int limit) {
+        Map<String, Series> snapshot = seriesByUnit;
+        if (snapshot == null) {
+            return Optional.empty();
+        }
+        Series series = snapshot.get(curUnit);
+        if (series == null) {
+            return Optional.of(Slice.EMPTY);
+        }
+        int to = series.days.length;
+        return Optional.of(new Slice(series, Math.max(0, to - limit), to));
+    }
+
+    /**
+     * 한 통화의 날짜별 환율 구간
+     * 인덱스 i 는 0 부터 size() - 1 까지이며 날짜 오름차순입니다.
+     */
+    public static final class Slice {
+
+        static final Slice EMPTY = new Slice(Series.EMPTY, 0, 0);
+
+        private final Series series;
+        private final int from;
+        private final int to;
+
+        private Slice(Series series, int from, int to) {
+            this.series = series;
+            this.from = from;
+            this.to = to;
+        }
+
+        /**
+         * DB 에서 읽은 엔티티(날짜 오름차순)로 임시 구간을 만듭니다. (저장소 적재 전 대체 경로용)
+         */
+        public static Slice of(String curUnit, List<ExchangeRate> ascending) {
+            SeriesBuilder builder = new SeriesBuilder();
+            ascending.forEach(builder::add);
+            Series series = builder.build(curUnit);
+            return new Slice(series, 0, series.days.length);
+        }
+
+        public int size() {
+            return to - from;
+        }
+
+        public boolean isEmpty() {
+            return to == from;
+        }
+
+        public LocalDate date(int i) {
+            return LocalDate.ofEpochDay(series.days[from + i]);
+        }
+
+        public Double dealBasRate(int i) {
+            return boxed(series.dealBasRate[from + i]);
+        }
+
+        public ExchangeRateResponseDTO toResponse(int i) {
+            int idx = from + i;
+            return ExchangeRateResponseDTO.builder()
+                    .date(LocalDate.ofEpochDay(series.days[idx]))
+                    .curUnit(series.curUnit)
+                    .curNm(series.curNm)
+                    .dealBasRate(boxed(series.dealBasRate[idx]))
+                    .bkpr(boxed(series.bkpr[idx]))
+                    .ttb(boxed(series.ttb[idx]))
+                    .tts(boxed(series.tts[idx]))
+                    .build();
+        }
+
+        /**
+         * 구간의 기준율 통계 (원시 배열 한 번 순회, 표준편차는 Welford 방식으로 누적 오차 없이 계산)
+         */
+        public Stats dealBasRateStats() {
+            int count = 0;
+            double mean = 0;
+            double m2 = 0;
+            double min = Double.POSITIVE_INFINITY;
+            double max = Double.NEGATIVE_INFINITY;
+            double first = Double.NaN;
+            double last = Double.NaN;
+            for (int i = from; i < to; i++) {
+                double value = series.dealBasRate[i];
+                if (Double.isNaN(value)) {
+                    continue;
+                }
+                if (count == 0) {
+                    first = value;
+                }
+                count++;
+                double delta = value - mean;
+                mean += delta / count;
+                m2 += delta * (value - mean);
+                last = value;
+                min = Math.min(min, value);
+                max = Math.max(max, value);
+            }
+            if (count == 0) {
+                return new Stats(0, null, null, null, null, null, null, null);
+            }
+            Double changeRate = first != 0 ? (last - first) / first * 100 : null;
+            return new Stats(count, min, max, mean, Math.sqrt(m2 / count), first, last, changeRate);
+        }
+
+        private static Double boxed(double value) {
+            return Double.isNaN(value) ? null : value;
+        }
+    }
+
+    /**
+     * 기준율 통계 (changeRate 는 구간 첫 값 대비 마지막 값 변동률, %)
+     */
+    public record Stats(int count, Double min, Double max, Double average, Double stdDev,
+                        Double first, Double last, Double changeRate) {
+    }
+
+    /**
+     * 불변 통화 시계열 (null 값은 NaN 으로 저장)
+     */
+    private static final class Series {
+
+        static final Series EMPTY = new Series("", "", new int[0], new double[0], new double[0], new double[0], new double[0]);
+
+        final String curUnit;
+        final String curNm;
+        final int[] days;
+        final double[] dealBasRate;
+        final double[] ttb;
+        final double[] tts;
+        final double[] bkpr;
+
+        Series(String curUnit, String curNm, int[] days, double[] dealBasRate, double[] ttb, double[] tts, double[] bkpr) {
+            this.curUnit = curUnit;
+            this.curNm = curNm;
+            this.days = days;
+            this.dealBasRate = dealBasRate;
+            this.ttb = ttb;
+            this.tts = tts;
+            this.bkpr = bkpr;
+        }
+
+        static Series of(ExchangeRate rate) {
+            SeriesBuilder builder = new SeriesBuilder();
+            builder.add(rate);
+            return builder.build(rate.getCurUnit());
+        }
+
+        /**
+         * day 이상인 첫 위치
+         */
+        int lowerBound(int day) {
+            int index = Arrays.binarySearch(days, day);
+            return index >= 0 ? index : -index - 1;
+        }
+
+        /**
+         * 단건 시리즈(other)를 날짜 위치에 삽입하거나 같은 날짜를 교체한 새 시리즈
+         */
+        Series upsert(Series other) {
+            int day = other.days[0];
+            int index = Arrays.binarySearch(days, day);
+            boolean replace = index >= 0;
+            int pos = replace ? index : -index - 1;
+            int length = replace ? days.length : days.length + 1;
+
+            int[] newDays = new int[length];
+            double[][] columns = {new double[length], new double[length], new double[length], new double[length]};
+            double[][] source = {dealBasRate, ttb, tts, bkpr};
+            double[][] inserted = {other.dealBasRate, other.ttb, other.tts, other.bkpr};
+
+            System.arraycopy(days, 0, newDays, 0, pos);
+            newDays[pos] = day;
+            int tail = days.length - (replace ? pos + 1 : pos);
+            System.arraycopy(days, days.length - tail, newDays, pos + 1, tail);
+            for (int c = 0; c < columns.length; c++) {
+                System.arraycopy(source[c], 0, columns[c], 0, pos);
+                columns[c][pos] = inserted[c][0];
+                System.arraycopy(source[c], source[c].length - tail, columns[c], pos + 1, tail);
+            }
+            return new Series(curUnit, other.curNm, newDays, columns[0], columns[1], columns[2], columns[3]);
+        }
+    }
+
+    /**
+     * 날짜 오름차순으로 한 건씩 받아 시리즈 배열을 만드는 빌더
+     */
+    private static final class SeriesBuilder {
+
+        private String curNm = "";
+        private int size;
+        private int[] days = new int[256];
+        private double[] dealBasRate = new double[256];
+        private double[] ttb = new double[256];
+        private double[] tts = new double[256];
+        private double[] bkpr = new double[256];
+
+        void add(ResultSet rs) throws SQLException {
+            append(rs.getString("cur_nm"), rs.getDate("search_date").toLocalDate(),
+                    nullable(rs, "deal_basr"), nullable(rs, "ttb"), nullable(rs, "tts"), nullable(rs, "bkpr"));
+        }
+
+        void add(ExchangeRate rate) {
+            append(rate.getCurNm(), rate.getSearchDate(),
+                    unboxed(rate.getDealBasRate()), unboxed(rate.getTtb()), unboxed(rate.getTts()), unboxed(rate.getBkpr()));
+        }
+
+        Series build(String curUnit) {
+            return new Series(curUnit, curNm, Arrays.copyOf(days, size), Arrays.copyOf(dealBasRate, size),
+                    Arrays.copyOf(ttb, size), Arrays.copyOf(tts, size), Arrays.copyOf(bkpr, size));
+        }
+
+        private void append(String name, LocalDate date, double deal, double buying, double selling, double book) {
+            if (size == days.length) {
+                int capacity = size * 2;
+                days = Arrays.copyOf(days, capacity);
+                dealBasRate = Arrays.copyOf(dealBasRate, capacity);
+                ttb = Arrays.copyOf(ttb, capacity);
+                tts = Arrays.copyOf(tts, capacity);
+                bkpr = Arrays.copyOf(bkpr, capacity);
+            }
+            if (name != null) {
+                curNm = name;
+            }
+            days[size] = (int) date.toEpochDay();
+            dealBasRate[size] = deal;
+            ttb[size] = buying;
+            tts[size] = selling;
+            bkpr[size] = book;
+            size++;
+        }
+
+        private static double nullable(ResultSet rs, String column) throws SQLException {
+            double value = rs.getDouble(column);
+            return rs.wasNull() ? Double.NaN : value;
+        }
+
+        private static double unboxed(Double value) {
+            return value != null ? value : Double.NaN;
+        }
+    }
+}
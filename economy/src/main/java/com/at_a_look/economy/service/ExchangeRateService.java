@@ -2,17 +2,21 @@ package com.at_a_look.economy.service;
 
 import com.at_a_look.economy.dto.ExchangeRateDto;
 import com.at_a_look.economy.dto.ExchangeRateResponseDTO;
+import com.at_a_look.economy.dto.ExchangeRateStatsDto;
 import com.at_a_look.economy.dto.koreaexim.ExchangeRateApiResponse;
 import com.at_a_look.economy.dto.response.ExchangeRateResponse;
 import com.at_a_look.economy.entity.ExchangeRate;
+import com.at_a_look.economy.event.EconomicDataChangedEvent;
+import com.at_a_look.economy.metrics.IngestMetrics;
 import com.at_a_look.economy.repository.ExchangeRateRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.context.annotation.Profile;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -31,9 +35,12 @@ import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.TreeMap;
+import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
 
 /**
@@ -46,6 +53,9 @@ public class ExchangeRateService {
 
     private final ExchangeRateRepository exchangeRateRepository;
     private final RestTemplate restTemplate;
+    private final IngestMetrics ingestMetrics;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ExchangeRateSeriesStore seriesStore;
     
     @Value("${koreaexim.api.authkey}")
     private String authKey;
@@ -53,27 +63,13 @@ public class ExchangeRateService {
     @Value("${koreaexim.api.use-mock:false}")
     private boolean useMock;
     
-    private static final String API_URL = "https://oapi.koreaexim.go.kr/site/program/financial/exchangeJSON";
+    // 부하 테스트 시 업스트림 시뮬레이터(load-test 모듈)로 교체할 수 있도록 설정값으로 분리
+    @Value("${koreaexim.api.url:https://oapi.koreaexim.go.kr/site/program/financial/exchangeJSON}")
+    private String apiUrl;
+    
     private static final String DATA_TYPE = "AP01"; // 환율 정보 타입
     private static final List<String> MAJOR_CURRENCIES = Arrays.asList("USD", "EUR", "JPY(100)", "CNH");
 
-    /**
-     * 매일 오전 11npm 시 30분에 환율 데이터를 자동으로 가져옵니다.
-     * 운영 환경에서만 실행됩니다.
-     */
-    @Scheduled(cron = "0 30 11 * * ?", zone = "Asia/Seoul")
-    @Transactional
-    @Profile("prod")
-    public void fetchDailyExchangeRates() {
-        log.info("일일 환율 데이터 자동 업데이트 시작");
-        try {
-            fetchExchangeRates(LocalDate.now());
-            log.info("일일 환율 데이터 자동 업데이트 완료");
-        } catch (Exception e) {
-            log.error("일일 환율 데이터 업데이트 실패: {}", e.getMessage(), e);
-        }
-    }
-
     /**
      * 특정 날짜의 환율 데이터를 API에서 가져와 저장합니다.
      * 이미 저장된 데이터는 중복 저장하지 않습니다.
@@ -83,6 +79,7 @@ public class ExchangeRateService {
      * @throws RestClientException API 호출 실패 시 발생
      */
     @Transactional
+    @Timed(value = IngestMetrics.JOB_TIMER, extraTags = {"source", IngestMetrics.SOURCE_EXCHANGE_RATE})
     public int fetchExchangeRates(LocalDate date) {
         log.info("📊 환율 데이터 가져오기 시작: 날짜 = {}", date);
         log.info("🕐 현재 시스템 날짜: {}", LocalDate.now());
@@ -100,7 +97,7 @@ public class ExchangeRateService {
      */
     private int tryMultipleApiCalls(LocalDate date, String formattedDate) {
         // 방법 1: 기본 UriComponentsBuilder 사용
-        String url1 = UriComponentsBuilder.fromHttpUrl(API_URL)
+        String url1 = UriComponentsBuilder.fromHttpUrl(apiUrl)
                 .queryParam("authkey", authKey)
                 .queryParam("searchdate", formattedDate)
                 .queryParam("data", DATA_TYPE)
@@ -117,7 +114,7 @@ public class ExchangeRateService {
                 
                 // 방법 2: 수동 URL 구성
                 String url2 = String.format("%s?authkey=%s&searchdate=%s&data=%s", 
-                             API_URL, authKey, formattedDate, DATA_TYPE);
+                             apiUrl, authKey, formattedDate, DATA_TYPE);
                 
                 log.info("🌐 [방법 2] 환율 API 호출: {}", url2);
                 
@@ -128,7 +125,7 @@ public class ExchangeRateService {
                         log.warn("🔄 [방법 2 실패] 리디렉션 문제 지속, 방법 3 시도");
                         
                         // 방법 3: HTTP로 시도 (HTTPS 문제일 수 있음)
-                        String httpUrl = API_URL.replace("https://", "http://");
+                        String httpUrl = apiUrl.replace("https://", "http://");
                         String url3 = String.format("%s?authkey=%s&searchdate=%s&data=%s", 
                                      httpUrl, authKey, formattedDate, DATA_TYPE);
                         
@@ -164,7 +161,7 @@ public class ExchangeRateService {
      * 실제 API 호출을 수행합니다.
      */
     private int attemptApiCall(String url, LocalDate date) {
-        log.debug("🔄 API 호출 시도 - URL: {}, 날짜: {}", API_URL, date);
+        log.debug("🔄 API 호출 시도 - URL: {}, 날짜: {}", apiUrl, date);
         log.info("🌐 실제 호출 URL: {}", url);
         
         try {
@@ -300,6 +297,14 @@ public class ExchangeRateService {
             savedEntities.add(exchangeRateRepository.save(entity));
         }
         
+        ingestMetrics.recordFetched(IngestMetrics.SOURCE_EXCHANGE_RATE, responseData.length);
+        ingestMetrics.recordInserted(IngestMetrics.SOURCE_EXCHANGE_RATE, savedEntities.size());
+        ingestMetrics.recordSkipped(IngestMetrics.SOURCE_EXCHANGE_RATE, responseData.length - savedEntities.size());
+        
+        if (!savedEntities.isEmpty()) {
+            eventPublisher.publishEvent(new EconomicDataChangedEvent(IngestMetrics.SOURCE_EXCHANGE_RATE, date));
+        }
+        
         log.info("{}개의 환율 데이터 저장 완료. 날짜: {}", savedEntities.size(), date);
         return savedEntities.size();
     }
@@ -459,6 +464,11 @@ public class ExchangeRateService {
                 : Sort.by(Sort.Direction.DESC, "searchDate");
         Pageable adjusted = PageRequest.of(safePage, safeSize, sort);
 
+        Optional<Page<ExchangeRateResponseDTO>> fromStore = getExchangeRatesByCurrencyFromStore(curUnit, startDate, endDate, adjusted);
+        if (fromStore.isPresent()) {
+            return fromStore.get();
+        }
+
         Page<ExchangeRate> rates = exchangeRateRepository
                 .findByCurUnitAndSearchDateBetween(curUnit, startDate, endDate, adjusted);
 
@@ -469,6 +479,31 @@ public class ExchangeRateService {
         return rates.map(ExchangeRateResponseDTO::fromEntity);
     }
     
+    /**
+     * 날짜 정렬 페이지는 시계열 저장소 구간에서 바로 잘라 응답합니다.
+     * 날짜 외 정렬이거나 저장소가 적재되지 않았으면 비어 있는 값을 반환합니다.
+     */
+    private Optional<Page<ExchangeRateResponseDTO>> getExchangeRatesByCurrencyFromStore(
+            String curUnit, LocalDate startDate, LocalDate endDate, Pageable pageable) {
+        List<Sort.Order> orders = pageable.getSort().toList();
+        if (orders.size() != 1 || !"searchDate".equals(orders.get(0).getProperty())) {
+            return Optional.empty();
+        }
+        boolean descending = orders.get(0).isDescending();
+        
+        return seriesStore.range(curUnit, startDate, endDate).map(slice -> {
+            int total = slice.size();
+            int from = (int) Math.min(pageable.getOffset(), total);
+            int to = Math.min(from + pageable.getPageSize(), total);
+            
+            List<ExchangeRateResponseDTO> content = new ArrayList<>(to - from);
+            for (int i = from; i < to; i++) {
+                content.add(slice.toResponse(descending ? total - 1 - i : i));
+            }
+            return new PageImpl<>(content, pageable, total);
+        });
+    }
+    
     /**
      * 특정 날짜에 저장된 주요 통화(USD, EUR, JPY)의 환율 데이터를 조회합니다.
      * 
@@ -627,6 +662,11 @@ public class ExchangeRateService {
     public List<ExchangeRateDto> getExchangeRatesByDateRange(
             LocalDate startDate, LocalDate endDate) {
         
+        Optional<List<ExchangeRateDto>> fromStore = getExchangeRatesByDateRangeFromStore(startDate, endDate);
+        if (fromStore.isPresent()) {
+            return fromStore.get();
+        }
+        
         List<ExchangeRate> rates = exchangeRateRepository.findBySearchDateBetweenOrderBySearchDateAsc(
                 startDate, endDate);
         
@@ -663,6 +703,39 @@ public class ExchangeRateService {
         return result;
     }
     
+    /**
+     * 시계열 저장소에서 주요 통화 구간을 이진 탐색으로 잘라 날짜 기준으로 합칩니다.
+     * 모든 통화를 같은 스냅샷에서 읽으며, 저장소가 아직 적재되지 않았으면 비어 있는 값을 반환합니다.
+     */
+    private Optional<List<ExchangeRateDto>> getExchangeRatesByDateRangeFromStore(LocalDate startDate, LocalDate endDate) {
+        Optional<Map<String, ExchangeRateSeriesStore.Slice>> fromStore =
+                seriesStore.ranges(List.of("USD", "EUR", "JPY(100)", "CNH"), startDate, endDate);
+        if (fromStore.isEmpty()) {
+            return Optional.empty();
+        }
+        Map<String, ExchangeRateSeriesStore.Slice> slices = fromStore.get();
+        
+        Map<LocalDate, ExchangeRateDto> byDate = new TreeMap<>();
+        mergeSlice(byDate, slices.get("USD"), ExchangeRateDto::setUsdRate);
+        mergeSlice(byDate, slices.get("EUR"), ExchangeRateDto::setEurRate);
+        mergeSlice(byDate, slices.get("JPY(100)"), ExchangeRateDto::setJpyRate);
+        mergeSlice(byDate, slices.get("CNH"), ExchangeRateDto::setCnyRate);
+        
+        // 하나라도 값이 있는 날짜만 포함
+        return Optional.of(byDate.values().stream()
+                .filter(dto -> dto.getUsdRate() != null || dto.getEurRate() != null
+                        || dto.getJpyRate() != null || dto.getCnyRate() != null)
+                .collect(Collectors.toList()));
+    }
+    
+    private void mergeSlice(Map<LocalDate, ExchangeRateDto> byDate, ExchangeRateSeriesStore.Slice slice,
+                            BiConsumer<ExchangeRateDto, Double> setter) {
+        for (int i = 0; i < slice.size(); i++) {
+            LocalDate date = slice.date(i);
+            setter.accept(byDate.computeIfAbsent(date, d -> ExchangeRateDto.builder().date(d).build()), slice.dealBasRate(i));
+        }
+    }
+    
     /**
      * 특정 날짜의 특정 통화 환율 값을 반환합니다.
      */
@@ -681,6 +754,7 @@ public class ExchangeRateService {
      * @return 저장된 총 환율 데이터 수
      */
     @Transactional
+    @Timed(value = IngestMetrics.JOB_TIMER, extraTags = {"source", IngestMetrics.SOURCE_EXCHANGE_RATE})
     public int fetchExchangeRatesForCountries(List<String> countries) {
         log.info("🌍 국가별 환율 데이터 가져오기 시작: 국가 목록 = {}", countries);
         
@@ -723,6 +797,7 @@ public class ExchangeRateService {
      * @return 저장된 총 환율 데이터 수
      */
     @Transactional
+    @Timed(value = IngestMetrics.JOB_TIMER, extraTags = {"source", IngestMetrics.SOURCE_EXCHANGE_RATE})
     public int fetchYearlyExchangeRates() {
         log.info("📅 최근 1년간 환율 데이터 가져오기 시작");
         
@@ -771,6 +846,7 @@ public class ExchangeRateService {
      * @return 저장된 총 환율 데이터 수
      */
     @Transactional
+    @Timed(value = IngestMetrics.JOB_TIMER, extraTags = {"source", IngestMetrics.SOURCE_EXCHANGE_RATE})
     public int fetchMonthlyExchangeRates() {
         log.info("📅 최근 1개월간 환율 데이터 가져오기 시작");
         
@@ -812,6 +888,60 @@ public class ExchangeRateService {
         log.info("🎉 1개월간 환율 데이터 가져오기 완료: 총 {}개 데이터 저장", totalCount);
         return totalCount;
     }
-} 
-
 
+    /**
+     * 특정 통화의 최근 N건 환율을 최신순으로 조회합니다.
+     * 
+     * @param curUnit 통화 코드 (예: USD, JPY(100))
+     * @param limit 조회 건수 (1~1000)
+     * @return 최신순 환율 데이터 목록
+     */
+    @Transactional(readOnly = true)
+    public List<ExchangeRateResponseDTO> getRecentExchangeRates(String curUnit, int limit) {
+        if (curUnit == null || curUnit.trim().isEmpty()) {
+            throw new IllegalArgumentException("통화 코드를 입력해주세요.");
+        }
+        if (limit < 1 || limit > 1000) {
+            throw new IllegalArgumentException("조회 건수는 1~1000 사이여야 합니다.");
+        }
+        
+        ExchangeRateSeriesStore.Slice slice = seriesStore.latest(curUnit, limit).orElseGet(() -> {
+            List<ExchangeRate> rates = new ArrayList<>(
+                    exchangeRateRepository.findByCurUnitOrderBySearchDateDesc(curUnit, PageRequest.of(0, limit)));
+            Collections.reverse(rates);
+            return ExchangeRateSeriesStore.Slice.of(curUnit, rates);
+        });
+        
+        List<ExchangeRateResponseDTO> result = new ArrayList<>(slice.size());
+        for (int i = slice.size() - 1; i >= 0; i--) {
+            result.add(slice.toResponse(i));
+        }
+        return result;
+    }
+    
+    /**
+     * 특정 통화의 기간 내 기준율 통계(최소/최대/평균/표준편차/변동률)를 계산합니다.
+     * 
+     * @param curUnit 통화 코드 (예: USD, JPY(100))
+     * @param startDate 조회 시작 날짜 (포함)
+     * @param endDate 조회 종료 날짜 (포함)
+     * @return 기준율 통계
+     */
+    @Transactional(readOnly = true)
+    public ExchangeRateStatsDto getExchangeRateStats(String curUnit, LocalDate startDate, LocalDate endDate) {
+        if (curUnit == null || curUnit.trim().isEmpty()) {
+            throw new IllegalArgumentException("통화 코드를 입력해주세요.");
+        }
+        if (startDate == null || endDate == null || startDate.isAfter(endDate)) {
+            throw new IllegalArgumentException("조회 기간이 올바르지 않습니다.");
+        }
+        
+        ExchangeRateSeriesStore.Slice slice = seriesStore.range(curUnit, startDate, endDate).orElseGet(() ->
+                ExchangeRateSeriesStore.Slice.of(curUnit, exchangeRateRepository
+                        .findByCurUnitAndSearchDateBetween(curUnit, startDate, endDate,
+                                Pageable.unpaged(Sort.by(Sort.Direction.ASC, "searchDate")))
+                        .getContent()));
+        
+        return ExchangeRateStatsDto.from(curUnit, startDate, endDate, slice.dealBasRateStats());
+    }
+}
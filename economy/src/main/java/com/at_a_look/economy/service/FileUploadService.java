@@ -12,17 +12,22 @@ import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
 import java.io.IOException;
-import java.io.InputStream;
+import java.io.PushbackInputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.Arrays;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
 
 @Slf4j
 @Service
@@ -30,10 +35,17 @@ import java.util.Arrays;
 public class FileUploadService {
 
     private final FileUploadConfig fileUploadConfig;
+    private final ImageVariantService imageVariantService;
+    private final UploadBlobService uploadBlobService;
 
     @Value("${app.upload.url:http://localhost:8080/uploads}")
     private String configuredUploadUrl;
 
+    private static final String TEMP_CATEGORY = "temp";
+
+    // 시그니처 검증에 사용하는 첫 청크 크기
+    private static final int SIGNATURE_HEADER_SIZE = 64;
+
     private static final List<String> ALLOWED_IMAGE_TYPES = Arrays.asList(
             "image/jpeg", "image/jpg", "image/png", "image/gif", "image/webp"
     );
@@ -50,28 +62,32 @@ public class FileUploadService {
         DetectedImageType(String mime, String extension) { this.mime = mime; this.extension = extension; }
     }
 
+    private record StoredUpload(DetectedImageType type, UploadBlobService.StoredBlob blob) {
+    }
+
     /**
      * 단일 파일 업로드
+     * 내용 주소 저장소에 저장하므로 같은 카테고리 안에서 같은 파일의 재업로드는 새 파일을 만들지 않습니다.
+     * subfolder(카테고리)로 최대 크기와 저장 위치를 정합니다. (post 는 게시글 이미지 저장소 objects/, 그 외는 카테고리 디렉터리)
      */
     public FileUploadDto.UploadResponse uploadFile(MultipartFile file, String subfolder) throws IOException {
-        validateFile(file, fileUploadConfig.getMaxFileSizeBytes());
+        return storeFile(file, subfolder, resolveBaseUploadUrl());
+    }
 
-        String originalFilename = StringUtils.cleanPath(file.getOriginalFilename());
-        DetectedImageType detected = detectImageType(file);
-        if (detected == DetectedImageType.UNKNOWN || !ALLOWED_IMAGE_TYPES.contains(detected.mime)) {
-            throw new IllegalArgumentException("지원하지 않는 파일 형식입니다.");
-        }
-        String filename = generateFilename(detected.extension);
-        
-        Path uploadPath = createUploadPath(subfolder);
-        Path filePath = uploadPath.resolve(filename);
+    /**
+     * 파일 저장 (요청 스레드 외부에서도 호출 가능하도록 베이스 URL을 인자로 받음)
+     */
+    private FileUploadDto.UploadResponse storeFile(MultipartFile file, String subfolder, String baseUrl) throws IOException {
+        validateFile(file, maxFileSizeBytes(subfolder));
 
-        Files.copy(file.getInputStream(), filePath, StandardCopyOption.REPLACE_EXISTING);
+        String originalFilename = StringUtils.cleanPath(file.getOriginalFilename());
+        StoredUpload stored = validateAndStore(file, subfolder);
+        DetectedImageType detected = stored.type();
+        UploadBlobService.StoredBlob blob = stored.blob();
 
-        String baseUrl = resolveBaseUploadUrl();
-        String fileUrl = String.format("%s/%s/%s", baseUrl, subfolder, filename);
+        String fileUrl = String.format("%s/%s", baseUrl, blob.relativePath());
 
-        log.info("파일 업로드 완료: {}", originalFilename);
+        log.info("파일 업로드 완료: {}{}", originalFilename, blob.deduplicated() ? " (기존 파일 재사용)" : "");
         // 내부 경로/서버 IP 노출 방지
         log.debug("파일 저장 완료");
 
@@ -79,25 +95,26 @@ public class FileUploadService {
                 .fileUrl(fileUrl)
                 .originalFilename(originalFilename)
                 .contentType(detected.mime)
-                .fileSize(file.getSize())
+                .fileSize(blob.fileSize())
                 .uploadId(UUID.randomUUID().toString())
+                .variantUrls(ImageVariantService.variantUrls(fileUrl, blob.variantWidths()))
                 .build();
     }
 
     /**
-     * 다중 파일 업로드
+     * 다중 파일 업로드 (병렬 처리, 결과는 요청 순서대로 반환)
      */
     public FileUploadDto.MultipleUploadResponse uploadFiles(List<MultipartFile> files, String subfolder) {
+        FileUploadDto.UploadResult[] results = new FileUploadDto.UploadResult[files.size()];
+        uploadFilesConcurrently(files, subfolder, result -> results[result.getIndex()] = result);
+
         List<FileUploadDto.UploadResponse> successfulUploads = new ArrayList<>();
         List<String> errors = new ArrayList<>();
-
-        for (MultipartFile file : files) {
-            try {
-                FileUploadDto.UploadResponse response = uploadFile(file, subfolder);
-                successfulUploads.add(response);
-            } catch (Exception e) {
-                log.error("파일 업로드 실패: {}", file.getOriginalFilename(), e);
-                errors.add(file.getOriginalFilename() + ": " + e.getMessage());
+        for (FileUploadDto.UploadResult result : results) {
+            if (result.isSuccess()) {
+                successfulUploads.add(result.getFile());
+            } else {
+                errors.add(result.getFilename() + ": " + result.getError());
             }
         }
 
@@ -110,32 +127,83 @@ public class FileUploadService {
     }
 
     /**
-     * 프로필 이미지 업로드
+     * 다중 파일 병렬 업로드
+     * 파일마다 가상 스레드에서 저장하되 요청당 동시 저장 수는 file.upload.post.parallel-uploads 로 제한합니다.
+     * onComplete 는 파일이 끝나는 순서대로 호출 스레드에서 호출됩니다 (응답 스트리밍용).
      */
+    public void uploadFilesConcurrently(List<MultipartFile> files, String subfolder,
+                                        Consumer<FileUploadDto.UploadResult> onComplete) {
+        // RequestContextHolder 는 요청 스레드에서만 유효하므로 미리 계산
+        String baseUrl = resolveBaseUploadUrl();
+        Semaphore permits = new Semaphore(Math.max(1, fileUploadConfig.getPost().getParallelUploads()));
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            CompletionService<FileUploadDto.UploadResult> completionService = new ExecutorCompletionService<>(executor);
+            for (int i = 0; i < files.size(); i++) {
+                int index = i;
+                MultipartFile file = files.get(i);
+                completionService.submit(() -> uploadWithPermit(file, subfolder, index, baseUrl, permits));
+            }
+            for (int i = 0; i < files.size(); i++) {
+                onComplete.accept(completionService.take().get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("파일 업로드가 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            // uploadWithPermit 에서 예외를 결과로 변환하므로 도달하지 않음
+            throw new IllegalStateException("파일 업로드 처리 중 오류가 발생했습니다.", e.getCause());
+        }
+    }
+
+    private FileUploadDto.UploadResult uploadWithPermit(MultipartFile file, String subfolder, int index, String baseUrl,
+                                                        Semaphore permits) throws InterruptedException {
+        String filename = file.getOriginalFilename();
+        permits.acquire();
+        try {
+            return FileUploadDto.UploadResult.builder()
+                    .index(index)
+                    .filename(filename)
+                    .success(true)
+                    .file(storeFile(file, subfolder, baseUrl))
+                    .build();
+        } catch (Exception e) {
+            log.error("파일 업로드 실패: {}", filename, e);
+            return FileUploadDto.UploadResult.builder()
+                    .index(index)
+                    .filename(filename)
+                    .success(false)
+                    .error(e.getMessage())
+                    .build();
+        } finally {
+            permits.release();
+        }
+    }
 
 
     /**
      * 파일 삭제
+     * 내용 주소 파일은 게시글 이미지가 참조하지 않을 때만 실제로 삭제됩니다.
      */
     public boolean deleteFile(String fileUrl) {
         try {
-            // 업로드 도메인 기준으로만 처리하고, 경로 정규화로 상위 이동 차단
-            String relativePath = fileUrl;
-            String baseUrl = resolveBaseUploadUrl();
-            if (relativePath.startsWith(baseUrl)) {
-                relativePath = relativePath.substring(baseUrl.length());
-            } else if (StringUtils.hasText(configuredUploadUrl) && relativePath.startsWith(configuredUploadUrl)) {
-                relativePath = relativePath.substring(configuredUploadUrl.length());
-            }
-            Path baseDir = Paths.get(fileUploadConfig.getDir()).toAbsolutePath().normalize();
-            Path filePath = baseDir.resolve(relativePath).normalize();
-            if (!filePath.startsWith(baseDir)) {
-                log.warn("보안 경고: 업로드 디렉터리 밖의 파일 삭제 시도: {}", filePath);
+            Path filePath = resolveStoredPath(fileUrl);
+            if (filePath == null) {
                 return false;
             }
+
+            String relativePath = baseDir().relativize(filePath).toString().replace('\\', '/');
+            Optional<String> contentHash = UploadBlobService.extractHash(relativePath);
+            if (contentHash.isPresent()) {
+                return uploadBlobService.deleteIfUnreferenced(contentHash.get(), filePath);
+            }
+            if (UploadBlobService.isContentAddressedFilename(filePath.getFileName().toString())) {
+                return uploadBlobService.deleteIfNotRecent(filePath);
+            }
             
             if (Files.exists(filePath)) {
                 Files.delete(filePath);
+                imageVariantService.deleteVariants(filePath);
                 log.info("파일 삭제 완료");
                 return true;
             } else {
@@ -148,45 +216,90 @@ public class FileUploadService {
         }
     }
 
-    private void validateFile(MultipartFile file, long maxFileSizeBytes) throws IOException {
-        if (file.isEmpty()) {
-            throw new IllegalArgumentException("파일이 비어있습니다.");
+    /**
+     * 업로드 URL에 저장된 리사이즈 버전 너비 목록 (게시글 이미지 저장 시 기록)
+     */
+    public List<Integer> findVariantWidths(String fileUrl) {
+        Path filePath = resolveStoredPath(fileUrl);
+        if (filePath == null || !Files.exists(filePath)) {
+            return List.of();
         }
+        return imageVariantService.findExistingVariants(filePath);
+    }
 
-        if (file.getSize() > maxFileSizeBytes) {
-            throw new IllegalArgumentException("파일 크기가 너무 큽니다. (최대 " + (maxFileSizeBytes / (1024 * 1024)) + "MB)");
+    /**
+     * 업로드 URL을 업로드 디렉터리 내부 경로로 변환 (디렉터리 밖이면 null)
+     */
+    private Path resolveStoredPath(String fileUrl) {
+        if (!StringUtils.hasText(fileUrl)) {
+            return null;
         }
-
-        DetectedImageType detected = detectImageType(file);
-        if (detected == DetectedImageType.UNKNOWN) {
-            throw new IllegalArgumentException("지원하지 않는 파일 형식입니다.");
+        // 업로드 도메인 기준으로만 처리하고, 경로 정규화로 상위 이동 차단
+        String relativePath = fileUrl;
+        String baseUrl = resolveBaseUploadUrl();
+        if (relativePath.startsWith(baseUrl)) {
+            relativePath = relativePath.substring(baseUrl.length());
+        } else if (StringUtils.hasText(configuredUploadUrl) && relativePath.startsWith(configuredUploadUrl)) {
+            relativePath = relativePath.substring(configuredUploadUrl.length());
+        }
+        if (relativePath.startsWith("/")) {
+            relativePath = relativePath.substring(1);
         }
+        Path baseDir = baseDir();
+        Path filePath = baseDir.resolve(relativePath).normalize();
+        if (!filePath.startsWith(baseDir)) {
+            log.warn("보안 경고: 업로드 디렉터리 밖의 파일 접근 시도: {}", filePath);
+            return null;
+        }
+        return filePath;
     }
 
-
-    private String generateFilename(String extension) {
-        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss"));
-        String uuid = UUID.randomUUID().toString().substring(0, 8);
-        return String.format("%s_%s%s", timestamp, uuid, extension);
+    /**
+     * 카테고리별 최대 파일 크기 (profile/post 는 전용 설정, 그 외는 일반 설정)
+     */
+    private long maxFileSizeBytes(String subfolder) {
+        if ("profile".equals(subfolder)) {
+            return fileUploadConfig.getProfileMaxSizeBytes();
+        }
+        if ("post".equals(subfolder)) {
+            return fileUploadConfig.getPostMaxSizeBytes();
+        }
+        return fileUploadConfig.getMaxFileSizeBytes();
     }
 
+    private Path baseDir() {
+        return Paths.get(fileUploadConfig.getDir()).toAbsolutePath().normalize();
+    }
 
+    private void validateFile(MultipartFile file, long maxFileSizeBytes) {
+        if (file.isEmpty()) {
+            throw new IllegalArgumentException("파일이 비어있습니다.");
+        }
 
-    private Path createUploadPath(String subfolder) throws IOException {
-        // 서브폴더 정규화 및 베이스 디렉터리 이탈 방지
-        Path baseDir = Paths.get(fileUploadConfig.getDir()).toAbsolutePath().normalize();
-        Path uploadPath = baseDir.resolve(subfolder).normalize();
-        if (!uploadPath.startsWith(baseDir)) {
-            throw new IOException("유효하지 않은 업로드 경로입니다.");
+        if (file.getSize() > maxFileSizeBytes) {
+            throw new IllegalArgumentException("파일 크기가 너무 큽니다. (최대 " + (maxFileSizeBytes / (1024 * 1024)) + "MB)");
         }
-        if (!Files.exists(uploadPath)) {
-            Files.createDirectories(uploadPath);
+    }
+
+    /**
+     * 스트림을 한 번만 열어 첫 청크로 시그니처를 검증한 뒤, 같은 스트림을 이어서 저장소에 기록
+     */
+    private StoredUpload validateAndStore(MultipartFile file, String category) throws IOException {
+        try (PushbackInputStream in = new PushbackInputStream(file.getInputStream(), SIGNATURE_HEADER_SIZE)) {
+            byte[] header = in.readNBytes(SIGNATURE_HEADER_SIZE);
+            DetectedImageType detected = detectImageType(header);
+            if (detected == DetectedImageType.UNKNOWN || !ALLOWED_IMAGE_TYPES.contains(detected.mime)) {
+                throw new IllegalArgumentException("지원하지 않는 파일 형식입니다.");
+            }
+            in.unread(header);
+            // 저장 + 해시 계산 (신규 파일이면 메타데이터 제거 및 리사이즈 버전 생성)
+            return new StoredUpload(detected, uploadBlobService.store(in, detected.mime, detected.extension, category));
         }
-        return uploadPath;
     }
 
 
 
+
     // 컨트롤러에서 요구하는 메서드 오버로드들
     
     /**
@@ -217,17 +330,10 @@ public class FileUploadService {
      */
     public String generateTempImageUrl(MultipartFile file, String username) {
         try {
-            // 임시 파일로 저장
-            DetectedImageType detected = detectImageType(file);
-            if (detected == DetectedImageType.UNKNOWN) {
-                throw new IllegalArgumentException("지원하지 않는 파일 형식입니다.");
-            }
-            String tempFilename = "temp_" + UUID.randomUUID().toString() + detected.extension;
-            Path tempPath = createUploadPath("temp").resolve(tempFilename);
+            // 임시 카테고리 저장소에 저장 (게시글 이미지 저장소와 분리)
+            UploadBlobService.StoredBlob blob = validateAndStore(file, TEMP_CATEGORY).blob();
             
-            Files.copy(file.getInputStream(), tempPath, StandardCopyOption.REPLACE_EXISTING);
-            
-            String tempUrl = resolveBaseUploadUrl() + "/temp/" + tempFilename;
+            String tempUrl = resolveBaseUploadUrl() + "/" + blob.relativePath();
             log.info("임시 이미지 URL 생성: {}", tempUrl);
             
             return tempUrl;
@@ -333,23 +439,19 @@ public class FileUploadService {
         return ":" + port;
     }
 
-    private DetectedImageType detectImageType(MultipartFile file) throws IOException {
-        // 별도의 스트림에서 헤더만 읽고 즉시 닫아, 이후 파일 저장용 스트림에 영향이 없도록 함
-        try (InputStream in = file.getInputStream()) {
-            byte[] header = in.readNBytes(64);
-            if (header.length >= 3 && header[0] == (byte)0xFF && header[1] == (byte)0xD8 && header[2] == (byte)0xFF) {
-                return DetectedImageType.JPEG;
-            }
-            if (header.length >= 8 && header[0] == (byte)0x89 && header[1] == (byte)0x50 && header[2] == (byte)0x4E && header[3] == (byte)0x47 && header[4] == (byte)0x0D && header[5] == (byte)0x0A && header[6] == (byte)0x1A && header[7] == (byte)0x0A) {
-                return DetectedImageType.PNG;
-            }
-            if (header.length >= 6 && header[0] == 'G' && header[1] == 'I' && header[2] == 'F' && header[3] == '8' && (header[4] == '7' || header[4] == '9') && header[5] == 'a') {
-                return DetectedImageType.GIF;
-            }
-            if (header.length >= 12 && header[0] == 'R' && header[1] == 'I' && header[2] == 'F' && header[3] == 'F' && header[8] == 'W' && header[9] == 'E' && header[10] == 'B' && header[11] == 'P') {
-                return DetectedImageType.WEBP;
-            }
-            return DetectedImageType.UNKNOWN;
+    private DetectedImageType detectImageType(byte[] header) {
+        if (header.length >= 3 && header[0] == (byte)0xFF && header[1] == (byte)0xD8 && header[2] == (byte)0xFF) {
+            return DetectedImageType.JPEG;
+        }
+        if (header.length >= 8 && header[0] == (byte)0x89 && header[1] == (byte)0x50 && header[2] == (byte)0x4E && header[3] == (byte)0x47 && header[4] == (byte)0x0D && header[5] == (byte)0x0A && header[6] == (byte)0x1A && header[7] == (byte)0x0A) {
+            return DetectedImageType.PNG;
+        }
+        if (header.length >= 6 && header[0] == 'G' && header[1] == 'I' && header[2] == 'F' && header[3] == '8' && (header[4] == '7' || header[4] == '9') && header[5] == 'a') {
+            return DetectedImageType.GIF;
+        }
+        if (header.length >= 12 && header[0] == 'R' && header[1] == 'I' && header[2] == 'F' && header[3] == 'F' && header[8] == 'W' && header[9] == 'E' && header[10] == 'B' && header[11] == 'P') {
+            return DetectedImageType.WEBP;
         }
+        return DetectedImageType.UNKNOWN;
     }
 } 
@@ -5,15 +5,24 @@ import com.at_a_look.economy.dto.HelpArticleDto;
 import com.at_a_look.economy.dto.HelpArticleUpdateRequest;
 import com.at_a_look.economy.entity.HelpArticle;
 import com.at_a_look.economy.repository.HelpArticleRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.dao.DataAccessException;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -23,6 +32,15 @@ import java.util.stream.Collectors;
 public class HelpArticleService {
 
     private final HelpArticleRepository helpArticleRepository;
+    private final SecondLevelCacheService secondLevelCacheService;
+    private final HelpArticleViewCountBuffer viewCountBuffer;
+    private final JdbcTemplate jdbcTemplate;
+
+    // 상세 조회용 불변 스냅샷 (다른 인스턴스의 수정은 만료 시간 내 반영)
+    private final Cache<Long, HelpArticleSnapshot> articleSnapshots = Caffeine.newBuilder()
+            .maximumSize(1_000)
+            .expireAfterWrite(Duration.ofMinutes(10))
+            .build();
 
     public Page<HelpArticleDto> getHelpArticles(int page, int size) {
         Pageable pageable = PageRequest.of(page, size);
@@ -37,19 +55,54 @@ public class HelpArticleService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 도움말 상세 조회
+     * 스냅샷이 있으면 DB를 거치지 않고, 조회수는 메모리 버퍼에만 누적합니다 (flushViewCounts 에서 일괄 반영).
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public HelpArticleDto getHelpArticle(Long id) {
-        HelpArticle article = helpArticleRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("도움말 게시글을 찾을 수 없습니다."));
+        HelpArticleSnapshot snapshot = articleSnapshots.get(id, key -> helpArticleRepository.findById(key)
+                .map(HelpArticleSnapshot::from)
+                .orElse(null));
+        if (snapshot == null) {
+            throw new RuntimeException("도움말 게시글을 찾을 수 없습니다.");
+        }
 
-        if (!article.getIsActive()) {
+        if (!snapshot.isActive()) {
             throw new RuntimeException("비활성화된 도움말 게시글입니다.");
         }
 
         // 조회수 증가
-        article.setViewCount(article.getViewCount() + 1);
-        helpArticleRepository.save(article);
+        viewCountBuffer.increment(id);
 
-        return HelpArticleDto.fromEntity(article);
+        return snapshot.toDto(snapshot.viewCount() + viewCountBuffer.pending(id));
+    }
+
+    /**
+     * 누적된 도움말 조회수를 한 번의 JDBC 배치 UPDATE 로 반영
+     * 엔티티를 거치지 않으므로 쿼리 캐시는 유지하고, 해당 글의 엔티티 캐시와 스냅샷만 비웁니다.
+     */
+    public void flushViewCounts() {
+        Map<Long, Long> counts = viewCountBuffer.drain();
+        if (counts.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> batchArgs = new ArrayList<>(counts.size());
+        counts.forEach((articleId, count) -> batchArgs.add(new Object[]{count, articleId}));
+
+        try {
+            jdbcTemplate.batchUpdate("UPDATE help_articles SET view_count = view_count + ? WHERE id = ?", batchArgs);
+        } catch (DataAccessException e) {
+            viewCountBuffer.restore(counts);
+            log.warn("⚠️ 도움말 조회수 반영 실패, 다음 주기에 재시도: {}", e.getMessage());
+            return;
+        }
+
+        secondLevelCacheService.evictHelpArticleEntities(counts.keySet());
+        secondLevelCacheService.afterCommit(() -> articleSnapshots.invalidateAll(counts.keySet()));
+        log.debug("👀 도움말 조회수 반영: {}개 글, {}회", counts.size(),
+                counts.values().stream().mapToLong(Long::longValue).sum());
     }
 
     public Page<HelpArticleDto> searchHelpArticles(String keyword, int page, int size) {
@@ -130,6 +183,8 @@ public class HelpArticleService {
                 .build();
         
         HelpArticle savedArticle = helpArticleRepository.save(article);
+        secondLevelCacheService.evictHelpArticles();
+        secondLevelCacheService.afterCommit(() -> articleSnapshots.invalidate(savedArticle.getId()));
         return HelpArticleDto.fromEntity(savedArticle);
     }
 
@@ -155,6 +210,8 @@ public class HelpArticleService {
         }
         
         HelpArticle savedArticle = helpArticleRepository.save(article);
+        secondLevelCacheService.evictHelpArticles();
+        secondLevelCacheService.afterCommit(() -> articleSnapshots.invalidate(savedArticle.getId()));
         return HelpArticleDto.fromEntity(savedArticle);
     }
 
@@ -163,6 +220,8 @@ public class HelpArticleService {
                 .orElseThrow(() -> new RuntimeException("도움말 게시글을 찾을 수 없습니다."));
         
         helpArticleRepository.delete(article);
+        secondLevelCacheService.evictHelpArticles();
+        secondLevelCacheService.afterCommit(() -> articleSnapshots.invalidate(id));
     }
 
     public HelpArticleDto toggleHelpArticle(Long id) {
@@ -171,6 +230,38 @@ public class HelpArticleService {
         
         article.setIsActive(!article.getIsActive());
         HelpArticle savedArticle = helpArticleRepository.save(article);
+        secondLevelCacheService.evictHelpArticles();
+        secondLevelCacheService.afterCommit(() -> articleSnapshots.invalidate(savedArticle.getId()));
         return HelpArticleDto.fromEntity(savedArticle);
     }
-} 
\ No newline at end of file
+
+    /**
+     * 도움말 상세 불변 스냅샷 (조회수는 스냅샷 시점 값, 이후 증가분은 버퍼에서 더함)
+     */
+    private record HelpArticleSnapshot(Long id, String title, String content, HelpArticle.Category category,
+                                       Integer displayOrder, boolean isActive, long viewCount,
+                                       LocalDateTime createdAt, LocalDateTime updatedAt) {
+
+        static HelpArticleSnapshot from(HelpArticle article) {
+            return new HelpArticleSnapshot(article.getId(), article.getTitle(), article.getContent(),
+                    article.getCategory(), article.getDisplayOrder(), Boolean.TRUE.equals(article.getIsActive()),
+                    article.getViewCount() != null ? article.getViewCount() : 0,
+                    article.getCreatedAt(), article.getUpdatedAt());
+        }
+
+        HelpArticleDto toDto(long currentViewCount) {
+            return HelpArticleDto.builder()
+                    .id(id)
+                    .title(title)
+                    .content(content)
+                    .category(category.name())
+                    .categoryDisplayName(category.getDisplayName())
+                    .displayOrder(displayOrder)
+                    .isActive(isActive)
+                    .viewCount((int) currentViewCount)
+                    .createdAt(createdAt)
+                    .updatedAt(updatedAt)
+                    .build();
+        }
+    }
+}
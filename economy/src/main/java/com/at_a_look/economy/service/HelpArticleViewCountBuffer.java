@@ -0,0 +1,49 @@
+package com.at_a_look.economy.service;
+
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 도움말 조회수 메모리 버퍼
+ * 조회 시점에는 메모리에서만 증가시키고, HelpArticleService.flushViewCounts 가 주기적으로 모아서 한 번에 반영합니다.
+ */
+@Component
+public class HelpArticleViewCountBuffer {
+
+    private final ConcurrentHashMap<Long, Long> pending = new ConcurrentHashMap<>();
+
+    public void increment(Long articleId) {
+        pending.merge(articleId, 1L, Long::sum);
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 조회수
+     */
+    public long pending(Long articleId) {
+        return pending.getOrDefault(articleId, 0L);
+    }
+
+    /**
+     * 누적된 조회수를 꺼내고 버퍼를 비움 (키 단위 원자적 제거라 꺼내는 도중의 증가분은 다음 반영으로 넘어감)
+     */
+    public Map<Long, Long> drain() {
+        Map<Long, Long> drained = new HashMap<>();
+        for (Long articleId : pending.keySet()) {
+            Long count = pending.remove(articleId);
+            if (count != null && count > 0) {
+                drained.put(articleId, count);
+            }
+        }
+        return drained;
+    }
+
+    /**
+     * 반영 실패 시 꺼낸 조회수를 되돌림
+     */
+    public void restore(Map<Long, Long> counts) {
+        counts.forEach((articleId, count) -> pending.merge(articleId, count, Long::sum));
+    }
+}
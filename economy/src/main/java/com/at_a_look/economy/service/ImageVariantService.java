@@ -0,0 +1,510 @@
+package com.at_a_look.economy.service;
+
+import com.at_a_look.economy.config.FileUploadConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글 이미지 후처리 서비스
+ * - 원본의 EXIF/XMP/텍스트 메타데이터 제거 (JPEG 회전 정보만 유지)
+ * - 고정 너비(320/720/1280 등) 리사이즈 버전을 원본 옆에 {이름}_w{너비}{확장자} 로 저장
+ * JPEG/PNG만 처리하며, GIF(애니메이션)/WEBP는 원본만 사용합니다.
+ */
+@Slf4j
+@Service
+public class ImageVariantService {
+
+    /** 목록 화면 미리보기에 사용하는 기준 너비 */
+    public static final int PREVIEW_WIDTH = 720;
+
+    private static final String JPEG = "image/jpeg";
+    private static final String PNG = "image/png";
+
+    // 제거 대상 PNG 보조 청크 (텍스트, EXIF, 수정 시각)
+    private static final Set<String> PNG_METADATA_CHUNKS = Set.of("tEXt", "zTXt", "iTXt", "eXIf", "tIME");
+
+    private final FileUploadConfig fileUploadConfig;
+    private final ThreadPoolTaskExecutor imageProcessingExecutor;
+
+    public ImageVariantService(FileUploadConfig fileUploadConfig,
+                               @Qualifier("imageProcessingExecutor") ThreadPoolTaskExecutor imageProcessingExecutor) {
+        this.fileUploadConfig = fileUploadConfig;
+        this.imageProcessingExecutor = imageProcessingExecutor;
+    }
+
+    /**
+     * 이미지 워커 풀에서 후처리를 수행하고 완료를 기다립니다.
+     * 풀이 포화되었거나 시간 초과 시 원본만 남기고 빈 목록을 반환합니다.
+     *
+     * @return 생성된 리사이즈 너비 목록 (오름차순)
+     */
+    public List<Integer> processOnWorker(Path original, String mimeType) {
+        if (!isSupported(mimeType)) {
+            return Collections.emptyList();
+        }
+        Future<List<Integer>> future;
+        try {
+            future = imageProcessingExecutor.submit(() -> process(original, mimeType));
+        } catch (TaskRejectedException e) {
+            log.warn("이미지 워커 풀 포화로 리사이즈를 건너뜁니다: {}", original.getFileName());
+            return Collections.emptyList();
+        }
+
+        try {
+            return future.get(fileUploadConfig.getImage().getTimeoutSeconds(), TimeUnit.SECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            log.warn("이미지 후처리 시간 초과: {}", original.getFileName());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            log.warn("이미지 후처리 실패: {} - {}", original.getFileName(), e.getCause().getMessage());
+        }
+        return Collections.emptyList();
+    }
+
+    /**
+     * 메타데이터 제거 후 리사이즈 버전 생성 (호출 스레드에서 실행)
+     */
+    public List<Integer> process(Path original, String mimeType) throws IOException {
+        int orientation = JPEG.equals(mimeType) ? stripJpegMetadata(original) : 1;
+        if (PNG.equals(mimeType)) {
+            stripPngMetadata(original);
+        }
+        return generateVariants(original, mimeType, orientation);
+    }
+
+    public boolean isSupported(String mimeType) {
+        return JPEG.equals(mimeType) || PNG.equals(mimeType);
+    }
+
+    /**
+     * 원본 URL(또는 경로)에서 리사이즈 버전 URL 생성: a/b/name.jpg → a/b/name_w320.jpg
+     */
+    public static String variantUrl(String imageUrl, int width) {
+        int slash = imageUrl.lastIndexOf('/');
+        int dot = imageUrl.lastIndexOf('.');
+        if (dot <= slash) {
+            return imageUrl + "_w" + width;
+        }
+        return imageUrl.substring(0, dot) + "_w" + width + imageUrl.substring(dot);
+    }
+
+    /**
+     * "w320" → URL 형태의 리사이즈 버전 맵 (너비 오름차순)
+     */
+    public static Map<String, String> variantUrls(String imageUrl, List<Integer> widths) {
+        Map<String, String> variants = new LinkedHashMap<>();
+        if (imageUrl == null || widths == null) {
+            return variants;
+        }
+        widths.stream().sorted().forEach(w -> variants.put("w" + w, variantUrl(imageUrl, w)));
+        return variants;
+    }
+
+    /**
+     * 목표 너비 이상인 가장 작은 리사이즈 버전, 없으면 원본 URL
+     * (리사이즈 버전은 원본보다 작은 너비만 생성되므로 원본이 곧 다음 단계 크기)
+     */
+    public static String pickVariantUrl(String imageUrl, List<Integer> widths, int targetWidth) {
+        if (imageUrl == null || widths == null || widths.isEmpty()) {
+            return imageUrl;
+        }
+        return widths.stream()
+                .filter(w -> w >= targetWidth)
+                .sorted()
+                .findFirst()
+                .map(w -> variantUrl(imageUrl, w))
+                .orElse(imageUrl);
+    }
+
+    /**
+     * 디스크에 존재하는 리사이즈 버전 너비 조회
+     */
+    public List<Integer> findExistingVariants(Path original) {
+        return fileUploadConfig.getImage().getVariantWidths().stream()
+                .filter(w -> Files.exists(original.resolveSibling(variantUrl(original.getFileName().toString(), w))))
+                .sorted()
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 원본 삭제 시 함께 생성된 리사이즈 버전 삭제
+     */
+    public void deleteVariants(Path original) {
+        for (Integer width : fileUploadConfig.getImage().getVariantWidths()) {
+            Path variant = original.resolveSibling(variantUrl(original.getFileName().toString(), width));
+            try {
+                Files.deleteIfExists(variant);
+            } catch (IOException e) {
+                log.warn("리사이즈 이미지 삭제 실패: {}", variant.getFileName(), e);
+            }
+        }
+    }
+
+    private List<Integer> generateVariants(Path original, String mimeType, int orientation) throws IOException {
+        FileUploadConfig.Image config = fileUploadConfig.getImage();
+        if (exceedsPixelLimit(original, config.getMaxPixels())) {
+            log.warn("이미지 해상도가 너무 커 리사이즈를 건너뜁니다: {}", original.getFileName());
+            return Collections.emptyList();
+        }
+
+        BufferedImage source = ImageIO.read(original.toFile());
+        if (source == null) {
+            return Collections.emptyList();
+        }
+        boolean jpeg = JPEG.equals(mimeType);
+        source = applyOrientation(toCompatibleType(source, jpeg), orientation);
+
+        // 큰 너비부터 생성하여 다음 단계의 입력으로 재사용
+        List<Integer> widths = config.getVariantWidths().stream()
+                .filter(w -> w > 0)
+                .distinct()
+                .sorted(Collections.reverseOrder())
+                .collect(Collectors.toList());
+
+        List<Integer> generated = new ArrayList<>();
+        BufferedImage current = source;
+        for (int width : widths) {
+            if (width >= source.getWidth()) {
+                continue;
+            }
+            BufferedImage resized = resize(current, width);
+            Path target = original.resolveSibling(variantUrl(original.getFileName().toString(), width));
+            writeAtomically(target, out -> {
+                if (jpeg) {
+                    writeJpeg(resized, out, config.getJpegQuality());
+                } else {
+                    ImageIO.write(resized, "png", out);
+                }
+            });
+            current = resized;
+            generated.add(width);
+        }
+        Collections.sort(generated);
+        return generated;
+    }
+
+    private boolean exceedsPixelLimit(Path file, long maxPixels) throws IOException {
+        try (ImageInputStream in = ImageIO.createImageInputStream(file.toFile())) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(in);
+            if (!readers.hasNext()) {
+                return true;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                return (long) reader.getWidth(0) * reader.getHeight(0) > maxPixels;
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private BufferedImage toCompatibleType(BufferedImage image, boolean jpeg) {
+        int type = jpeg ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB;
+        if (image.getType() == type) {
+            return image;
+        }
+        BufferedImage converted = new BufferedImage(image.getWidth(), image.getHeight(), type);
+        Graphics2D g = converted.createGraphics();
+        try {
+            g.drawImage(image, 0, 0, null);
+        } finally {
+            g.dispose();
+        }
+        return converted;
+    }
+
+    /**
+     * EXIF Orientation(1~8)에 맞춰 픽셀을 회전/반전 (리사이즈 버전은 메타데이터 없이 저장되므로)
+     */
+    private BufferedImage applyOrientation(BufferedImage image, int orientation) {
+        if (orientation <= 1 || orientation > 8) {
+            return image;
+        }
+        int w = image.getWidth();
+        int h = image.getHeight();
+        AffineTransform t = switch (orientation) {
+            case 2 -> new AffineTransform(-1, 0, 0, 1, w, 0);
+            case 3 -> new AffineTransform(-1, 0, 0, -1, w, h);
+            case 4 -> new AffineTransform(1, 0, 0, -1, 0, h);
+            case 5 -> new AffineTransform(0, 1, 1, 0, 0, 0);
+            case 6 -> new AffineTransform(0, 1, -1, 0, h, 0);
+            case 7 -> new AffineTransform(0, -1, -1, 0, h, w);
+            default -> new AffineTransform(0, -1, 1, 0, 0, w);
+        };
+        boolean swap = orientation >= 5;
+        BufferedImage rotated = new BufferedImage(swap ? h : w, swap ? w : h, image.getType());
+        Graphics2D g = rotated.createGraphics();
+        try {
+            g.drawImage(image, t, null);
+        } finally {
+            g.dispose();
+        }
+        return rotated;
+    }
+
+    /**
+     * 2배 이상 축소는 절반씩 단계적으로 줄여 품질을 유지
+     */
+    private BufferedImage resize(BufferedImage image, int targetWidth) {
+        BufferedImage current = image;
+        int targetHeight = Math.max(1, (int) Math.round((double) image.getHeight() * targetWidth / image.getWidth()));
+        while (current.getWidth() / 2 >= targetWidth) {
+            current = draw(current, current.getWidth() / 2, Math.max(1, current.getHeight() / 2));
+        }
+        if (current.getWidth() != targetWidth) {
+            current = draw(current, targetWidth, targetHeight);
+        }
+        return current;
+    }
+
+    private BufferedImage draw(BufferedImage image, int width, int height) {
+        BufferedImage scaled = new BufferedImage(width, height, image.getType());
+        Graphics2D g = scaled.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.drawImage(image, 0, 0, width, height, null);
+        } finally {
+            g.dispose();
+        }
+        return scaled;
+    }
+
+    private void writeJpeg(BufferedImage image, OutputStream out, float quality) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        try (ImageOutputStream ios = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(ios);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(quality);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+    }
+
+    /**
+     * JPEG 원본에서 APP1~APP13/APP15(EXIF, XMP, IPTC 등)와 COM 세그먼트를 무손실로 제거합니다.
+     * 화면 표시에 필요한 회전 정보는 최소 EXIF(Orientation 태그 하나)로 다시 기록합니다.
+     *
+     * @return 원본의 EXIF Orientation 값 (없으면 1)
+     */
+    private int stripJpegMetadata(Path file) throws IOException {
+        int[] orientation = {1};
+        writeAtomically(file, out -> {
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+                if (in.readUnsignedByte() != 0xFF || in.readUnsignedByte() != 0xD8) {
+                    throw new IOException("JPEG SOI 마커가 없습니다.");
+                }
+                out.write(0xFF);
+                out.write(0xD8);
+                boolean orientationWritten = false;
+                while (true) {
+                    int marker = readMarker(in);
+                    boolean appOrComment = (marker >= 0xE0 && marker <= 0xEF) || marker == 0xFE;
+                    if (!appOrComment && !orientationWritten) {
+                        writeOrientationSegment(out, orientation[0]);
+                        orientationWritten = true;
+                    }
+                    if (marker == 0xDA) {
+                        // SOS 이후는 엔트로피 코딩 데이터이므로 그대로 복사
+                        out.write(0xFF);
+                        out.write(marker);
+                        in.transferTo(out);
+                        return;
+                    }
+                    if (marker == 0x01 || (marker >= 0xD0 && marker <= 0xD7)) {
+                        out.write(0xFF);
+                        out.write(marker);
+                        continue;
+                    }
+                    int length = in.readUnsignedShort();
+                    if (length < 2) {
+                        throw new IOException("잘못된 JPEG 세그먼트 길이");
+                    }
+                    byte[] payload = new byte[length - 2];
+                    in.readFully(payload);
+                    boolean keep = marker == 0xE0 || marker == 0xEE || !appOrComment;
+                    if (marker == 0xE1) {
+                        orientation[0] = readExifOrientation(payload, orientation[0]);
+                    }
+                    if (keep) {
+                        out.write(0xFF);
+                        out.write(marker);
+                        out.write(length >> 8);
+                        out.write(length & 0xFF);
+                        out.write(payload);
+                    }
+                }
+            }
+        });
+        return orientation[0];
+    }
+
+    private int readMarker(DataInputStream in) throws IOException {
+        int b = in.readUnsignedByte();
+        if (b != 0xFF) {
+            throw new IOException("잘못된 JPEG 마커");
+        }
+        int marker;
+        do {
+            marker = in.readUnsignedByte();
+        } while (marker == 0xFF);
+        return marker;
+    }
+
+    private int readExifOrientation(byte[] payload, int fallback) {
+        // "Exif\0\0" + TIFF 헤더(II/MM, 42, IFD0 오프셋) + IFD0 엔트리
+        if (payload.length < 14 || payload[0] != 'E' || payload[1] != 'x' || payload[2] != 'i' || payload[3] != 'f') {
+            return fallback;
+        }
+        int tiff = 6;
+        boolean little = payload[tiff] == 'I';
+        // IFD0 오프셋은 부호 없는 32비트 값 - 음수/오버플로우/세그먼트 밖을 가리키면 방향 정보 없음으로 처리
+        long ifdOffset = tiff + Integer.toUnsignedLong(readInt(payload, tiff + 4, little));
+        if (ifdOffset < tiff + 8 || ifdOffset + 2 > payload.length) {
+            return fallback;
+        }
+        int ifd = (int) ifdOffset;
+        int entries = readShort(payload, ifd, little);
+        for (int i = 0; i < entries; i++) {
+            int entry = ifd + 2 + i * 12;
+            if (entry + 12 > payload.length) {
+                break;
+            }
+            if (readShort(payload, entry, little) == 0x0112) {
+                int value = readShort(payload, entry + 8, little);
+                return value >= 1 && value <= 8 ? value : fallback;
+            }
+        }
+        return fallback;
+    }
+
+    private void writeOrientationSegment(OutputStream out, int orientation) throws IOException {
+        if (orientation <= 1) {
+            return;
+        }
+        byte[] segment = {
+                (byte) 0xFF, (byte) 0xE1, 0x00, 0x22,               // APP1, 길이 34
+                'E', 'x', 'i', 'f', 0x00, 0x00,
+                'M', 'M', 0x00, 0x2A, 0x00, 0x00, 0x00, 0x08,      // TIFF 헤더 (big endian)
+                0x00, 0x01,                                        // IFD0 엔트리 1개
+                0x01, 0x12, 0x00, 0x03, 0x00, 0x00, 0x00, 0x01,    // Orientation, SHORT, count 1
+                0x00, (byte) orientation, 0x00, 0x00,
+                0x00, 0x00, 0x00, 0x00                             // 다음 IFD 없음
+        };
+        out.write(segment);
+    }
+
+    /**
+     * PNG 원본에서 텍스트/EXIF/시각 보조 청크 제거
+     */
+    private void stripPngMetadata(Path file) throws IOException {
+        writeAtomically(file, out -> {
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+                byte[] signature = new byte[8];
+                in.readFully(signature);
+                out.write(signature);
+                while (true) {
+                    int length;
+                    try {
+                        length = in.readInt();
+                    } catch (EOFException e) {
+                        return;
+                    }
+                    if (length < 0 || length > Files.size(file)) {
+                        throw new IOException("잘못된 PNG 청크 길이");
+                    }
+                    byte[] type = new byte[4];
+                    in.readFully(type);
+                    String chunkType = new String(type, StandardCharsets.US_ASCII);
+                    byte[] dataAndCrc = new byte[length + 4];
+                    in.readFully(dataAndCrc);
+                    if (!PNG_METADATA_CHUNKS.contains(chunkType)) {
+                        out.write(length >>> 24);
+                        out.write(length >>> 16);
+                        out.write(length >>> 8);
+                        out.write(length);
+                        out.write(type);
+                        out.write(dataAndCrc);
+                    }
+                    if ("IEND".equals(chunkType)) {
+                        return;
+                    }
+                }
+            }
+        });
+    }
+
+    private int readShort(byte[] b, int offset, boolean little) {
+        return little
+                ? (b[offset] & 0xFF) | (b[offset + 1] & 0xFF) << 8
+                : (b[offset] & 0xFF) << 8 | (b[offset + 1] & 0xFF);
+    }
+
+    private int readInt(byte[] b, int offset, boolean little) {
+        return little
+                ? readShort(b, offset, true) | readShort(b, offset + 2, true) << 16
+                : readShort(b, offset, false) << 16 | readShort(b, offset + 2, false);
+    }
+
+    /**
+     * 같은 디렉터리의 임시 파일에 쓴 뒤 원자적으로 교체하여, 서빙 중인 파일이 반쯤 쓰인 상태로 노출되지 않게 함
+     */
+    private void writeAtomically(Path target, StreamWriter writer) throws IOException {
+        Path temp = Files.createTempFile(target.getParent(), ".img-", ".tmp");
+        try {
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(temp))) {
+                writer.write(out);
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    @FunctionalInterface
+    private interface StreamWriter {
+        void write(OutputStream out) throws IOException;
+    }
+}
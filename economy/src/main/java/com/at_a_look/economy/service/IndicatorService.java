@@ -0,0 +1,305 @@
+package com.at_a_look.economy.service;
+
+import com.at_a_look.economy.dto.IndicatorSeriesDto;
+import com.at_a_look.economy.entity.ExchangeRate;
+import com.at_a_look.economy.entity.InterestRate;
+import com.at_a_look.economy.event.EconomicDataChangedEvent;
+import com.at_a_look.economy.metrics.IngestMetrics;
+import com.at_a_look.economy.repository.ExchangeRateRepository;
+import com.at_a_look.economy.repository.InterestRateRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 환율/금리 시계열 지표 계산 서비스
+ * 이동평균(SMA/EMA), 이동 표준편차, 창 내 최저/최고, 최고점 대비 하락률, 변동률을
+ * 시계열 전체에 대해 한 번에(점당 O(1)) 계산하고 (시계열, 창 크기) 단위로 캐시합니다.
+ * 새 데이터가 저장되면 EconomicDataChangedEvent 로 해당 종류의 캐시를 비웁니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class IndicatorService {
+
+    public enum SeriesType {
+        EXCHANGE_RATE("exchange-rate", IngestMetrics.SOURCE_EXCHANGE_RATE),
+        INTEREST_RATE("interest-rate", IngestMetrics.SOURCE_INTEREST_RATE);
+
+        private final String path;
+        private final String source;
+
+        SeriesType(String path, String source) {
+            this.path = path;
+            this.source = source;
+        }
+
+        public static SeriesType fromPath(String path) {
+            for (SeriesType type : values()) {
+                if (type.path.equalsIgnoreCase(path)) {
+                    return type;
+                }
+            }
+            throw new IllegalArgumentException("지원하지 않는 시계열입니다: " + path + " (exchange-rate, interest-rate)");
+        }
+    }
+
+    private record IndicatorKey(SeriesType type, String code, int window) {
+    }
+
+    private final ExchangeRateSeriesStore seriesStore;
+    private final ExchangeRateRepository exchangeRateRepository;
+    private final InterestRateRepository interestRateRepository;
+
+    // (시계열, 창 크기) 별 전체 기간 지표 (수집 이벤트로 무효화)
+    private final Cache<IndicatorKey, Indicators> indicators = Caffeine.newBuilder()
+            .maximumSize(200)
+            .expireAfterAccess(Duration.ofHours(24))
+            .build();
+
+    @Value("${indicators.max-window:260}")
+    private int maxWindow;
+
+    /**
+     * 기간 내 지표 시계열을 조회합니다. 이동 지표는 조회 기간 이전 데이터까지 포함해 계산된 값입니다.
+     *
+     * @param series    exchange-rate 또는 interest-rate
+     * @param code      통화 코드(USD, JPY(100) 등) 또는 국가 코드(KR, US 등)
+     * @param window    이동 창 크기 (데이터 건수)
+     * @param startDate 조회 시작 날짜 (포함)
+     * @param endDate   조회 종료 날짜 (포함)
+     */
+    public IndicatorSeriesDto getIndicators(String series, String code, int window, LocalDate startDate, LocalDate endDate) {
+        SeriesType type = SeriesType.fromPath(series);
+        if (code == null || code.isBlank()) {
+            throw new IllegalArgumentException("통화 또는 국가 코드를 입력해주세요.");
+        }
+        if (window < 2 || window > maxWindow) {
+            throw new IllegalArgumentException("창 크기는 2~" + maxWindow + " 사이여야 합니다.");
+        }
+        if (startDate == null || endDate == null || startDate.isAfter(endDate)) {
+            throw new IllegalArgumentException("조회 기간이 올바르지 않습니다.");
+        }
+
+        String normalizedCode = code.trim().toUpperCase();
+        Indicators computed = indicators.get(new IndicatorKey(type, normalizedCode, window), this::compute);
+
+        int from = computed.lowerBound((int) startDate.toEpochDay());
+        int to = computed.lowerBound((int) endDate.toEpochDay() + 1);
+        List<IndicatorSeriesDto.Point> points = new ArrayList<>(Math.max(0, to - from));
+        for (int i = from; i < to; i++) {
+            points.add(computed.toPoint(i));
+        }
+
+        return IndicatorSeriesDto.builder()
+                .series(type.path)
+                .code(normalizedCode)
+                .window(window)
+                .startDate(startDate)
+                .endDate(endDate)
+                .points(points)
+                .build();
+    }
+
+    /**
+     * 수집 트랜잭션 커밋 후 해당 종류의 지표 캐시를 비웁니다.
+     * (기본 순서라 환율은 ExchangeRateSeriesStore 병합 이후에 실행됨)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onEconomicDataChanged(EconomicDataChangedEvent event) {
+        for (SeriesType type : SeriesType.values()) {
+            if (type.source.equals(event.source())) {
+                indicators.asMap().keySet().removeIf(key -> key.type() == type);
+                log.debug("🧹 지표 캐시 무효화: {}", type.path);
+            }
+        }
+    }
+
+    private Indicators compute(IndicatorKey key) {
+        long started = System.nanoTime();
+        Indicators computed = switch (key.type()) {
+            case EXCHANGE_RATE -> computeExchangeRate(key.code(), key.window());
+            case INTEREST_RATE -> computeInterestRate(key.code(), key.window());
+        };
+        log.debug("📈 지표 계산: {} {} window={}, {}건, {}μs", key.type().path, key.code(), key.window(),
+                computed.days.length, (System.nanoTime() - started) / 1_000);
+        return computed;
+    }
+
+    private Indicators computeExchangeRate(String curUnit, int window) {
+        ExchangeRateSeriesStore.Slice slice = seriesStore.latest(curUnit, Integer.MAX_VALUE).orElseGet(() -> {
+            List<ExchangeRate> rates = new ArrayList<>(exchangeRateRepository.findByCurUnitOrderBySearchDateDesc(curUnit));
+            Collections.reverse(rates);
+            return ExchangeRateSeriesStore.Slice.of(curUnit, rates);
+        });
+        if (slice.isEmpty()) {
+            throw new IllegalArgumentException("환율 데이터가 없는 통화입니다: " + curUnit);
+        }
+
+        int[] days = new int[slice.size()];
+        double[] values = new double[slice.size()];
+        int size = 0;
+        for (int i = 0; i < slice.size(); i++) {
+            Double value = slice.dealBasRate(i);
+            if (value != null) {
+                days[size] = (int) slice.date(i).toEpochDay();
+                values[size++] = value;
+            }
+        }
+        return Indicators.compute(Arrays.copyOf(days, size), Arrays.copyOf(values, size), window);
+    }
+
+    private Indicators computeInterestRate(String countryCode, int window) {
+        List<InterestRate> rates = interestRateRepository.findByCountryCodeOrderByDateAsc(countryCode);
+        if (rates.isEmpty()) {
+            throw new IllegalArgumentException("금리 데이터가 없는 국가입니다: " + countryCode);
+        }
+
+        int[] days = new int[rates.size()];
+        double[] values = new double[rates.size()];
+        int size = 0;
+        for (InterestRate rate : rates) {
+            if (rate.getInterestRate() != null) {
+                days[size] = (int) rate.getDate().toEpochDay();
+                values[size++] = rate.getInterestRate();
+            }
+        }
+        return Indicators.compute(Arrays.copyOf(days, size), Arrays.copyOf(values, size), window);
+    }
+
+    /**
+     * 시계열 전체의 지표 배열 (값이 없는 위치는 NaN)
+     */
+    private static final class Indicators {
+
+        final int[] days;
+        final double[] values;
+        final double[] sma;
+        final double[] ema;
+        final double[] stdDev;
+        final double[] min;
+        final double[] max;
+        final double[] drawdown;
+        final double[] changeRate;
+
+        private Indicators(int[] days, double[] values) {
+            int n = days.length;
+            this.days = days;
+            this.values = values;
+            this.sma = nanArray(n);
+            this.ema = nanArray(n);
+            this.stdDev = nanArray(n);
+            this.min = nanArray(n);
+            this.max = nanArray(n);
+            this.drawdown = nanArray(n);
+            this.changeRate = nanArray(n);
+        }
+
+        /**
+         * 한 번의 순회로 모든 지표를 계산합니다.
+         * - SMA/표준편차: 창에서 빠지는 값과 들어오는 값만 반영하는 Welford 갱신
+         * - 최저/최고: 단조 덱(인덱스 배열)으로 점당 분할상환 O(1)
+         * - EMA: 첫 창의 SMA 로 시작해 alpha = 2 / (window + 1) 로 갱신
+         */
+        static Indicators compute(int[] days, double[] values, int window) {
+            int n = values.length;
+            Indicators result = new Indicators(days, values);
+            double alpha = 2.0 / (window + 1);
+
+            int count = 0;
+            double mean = 0;
+            double m2 = 0;
+            double peak = Double.NEGATIVE_INFINITY;
+            int[] minDeque = new int[n];
+            int[] maxDeque = new int[n];
+            int minHead = 0, minTail = 0, maxHead = 0, maxTail = 0;
+
+            for (int i = 0; i < n; i++) {
+                double value = values[i];
+
+                if (i >= window) {
+                    double removed = values[i - window];
+                    count--;
+                    double delta = removed - mean;
+                    mean -= delta / count;
+                    m2 -= delta * (removed - mean);
+                }
+                count++;
+                double delta = value - mean;
+                mean += delta / count;
+                m2 += delta * (value - mean);
+
+                while (minTail > minHead && values[minDeque[minTail - 1]] >= value) {
+                    minTail--;
+                }
+                minDeque[minTail++] = i;
+                while (maxTail > maxHead && values[maxDeque[maxTail - 1]] <= value) {
+                    maxTail--;
+                }
+                maxDeque[maxTail++] = i;
+                if (minDeque[minHead] <= i - window) {
+                    minHead++;
+                }
+                if (maxDeque[maxHead] <= i - window) {
+                    maxHead++;
+                }
+
+                peak = Math.max(peak, value);
+                result.drawdown[i] = peak != 0 ? (value - peak) / peak * 100 : 0;
+
+                if (i >= window - 1) {
+                    result.sma[i] = mean;
+                    result.stdDev[i] = Math.sqrt(Math.max(0, m2 / window));
+                    result.min[i] = values[minDeque[minHead]];
+                    result.max[i] = values[maxDeque[maxHead]];
+                    result.ema[i] = i == window - 1 ? mean : alpha * value + (1 - alpha) * result.ema[i - 1];
+                }
+                if (i >= window && values[i - window] != 0) {
+                    result.changeRate[i] = (value - values[i - window]) / values[i - window] * 100;
+                }
+            }
+            return result;
+        }
+
+        int lowerBound(int day) {
+            int index = Arrays.binarySearch(days, day);
+            return index >= 0 ? index : -index - 1;
+        }
+
+        IndicatorSeriesDto.Point toPoint(int i) {
+            return IndicatorSeriesDto.Point.builder()
+                    .date(LocalDate.ofEpochDay(days[i]))
+                    .value(values[i])
+                    .sma(boxed(sma[i]))
+                    .ema(boxed(ema[i]))
+                    .stdDev(boxed(stdDev[i]))
+                    .min(boxed(min[i]))
+                    .max(boxed(max[i]))
+                    .drawdown(boxed(drawdown[i]))
+                    .changeRate(boxed(changeRate[i]))
+                    .build();
+        }
+
+        private static double[] nanArray(int n) {
+            double[] array = new double[n];
+            Arrays.fill(array, Double.NaN);
+            return array;
+        }
+
+        private static Double boxed(double value) {
+            return Double.isNaN(value) ? null : value;
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.at_a_look.economy.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+
+/**
+ * 다중 인스턴스 환경의 수집 작업 리더 락 (ingest_locks 테이블, MySQL 전용)
+ * - 획득: 만료된 행을 조건부 UPDATE 하거나, 행이 없으면 INSERT IGNORE (PK 충돌로 한 인스턴스만 성공)
+ * - 해제: lock_until 을 "획득 시각 + 최소 유지 시간"으로 당겨, 시계가 조금 어긋난 다른 인스턴스가 같은 스케줄을 다시 실행하지 않게 함
+ * - 최대 유지 시간(lockAtMostFor)은 인스턴스가 작업 중 죽었을 때 락이 풀리는 시점
+ * 시각 비교는 모두 DB 시계(NOW(3))로 하므로 인스턴스 간 시계 차이의 영향을 받지 않습니다.
+ *
+ * 트랜잭션 밖에서 호출해야 합니다 (각 문장이 자동 커밋되어야 다른 인스턴스에 즉시 보임).
+ */
+@Slf4j
+@Service
+public class IngestLockService {
+
+    private static final String UPDATE_EXPIRED_SQL =
+            "UPDATE ingest_locks SET lock_until = TIMESTAMPADD(MICROSECOND, ?, NOW(3)), locked_at = NOW(3), locked_by = ? " +
+            "WHERE lock_name = ? AND lock_until <= NOW(3)";
+
+    private static final String INSERT_SQL =
+            "INSERT IGNORE INTO ingest_locks (lock_name, lock_until, locked_at, locked_by) " +
+            "VALUES (?, TIMESTAMPADD(MICROSECOND, ?, NOW(3)), NOW(3), ?)";
+
+    private static final String UNLOCK_SQL =
+            "UPDATE ingest_locks SET lock_until = GREATEST(NOW(3), TIMESTAMPADD(MICROSECOND, ?, locked_at)) " +
+            "WHERE lock_name = ? AND locked_by = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String nodeId;
+
+    public IngestLockService(JdbcTemplate jdbcTemplate, @Value("${ingest.node-id:}") String nodeId) {
+        this.jdbcTemplate = jdbcTemplate;
+        // 기본값: PID@호스트명 (컨테이너에서는 호스트명이 파드/컨테이너 이름)
+        this.nodeId = StringUtils.hasText(nodeId) ? nodeId : ManagementFactory.getRuntimeMXBean().getName();
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * 락 획득 시도. 다른 인스턴스가 보유 중이거나 DB 오류 시 false
+     */
+    public boolean tryLock(String lockName, Duration lockAtMostFor) {
+        long micros = toMicros(lockAtMostFor);
+        try {
+            if (jdbcTemplate.update(UPDATE_EXPIRED_SQL, micros, nodeId, lockName) == 1) {
+                return true;
+            }
+            return jdbcTemplate.update(INSERT_SQL, lockName, micros, nodeId) == 1;
+        } catch (DataAccessException e) {
+            log.warn("⚠️ 수집 락 획득 실패 ({}): {}", lockName, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 락 해제. 획득 후 lockAtLeastFor 가 지나기 전이면 그 시각까지 유지
+     */
+    public void unlock(String lockName, Duration lockAtLeastFor) {
+        try {
+            jdbcTemplate.update(UNLOCK_SQL, toMicros(lockAtLeastFor), lockName, nodeId);
+        } catch (DataAccessException e) {
+            // 해제 실패 시 lockAtMostFor 이후 자동 만료
+            log.warn("⚠️ 수집 락 해제 실패 ({}): {}", lockName, e.getMessage());
+        }
+    }
+
+    /**
+     * 락을 얻은 경우에만 작업 실행. 실행했으면 true, 다른 인스턴스가 보유 중이라 건너뛰었으면 false
+     */
+    public boolean runLocked(String lockName, Duration lockAtMostFor, Duration lockAtLeastFor, Runnable task) {
+        if (!tryLock(lockName, lockAtMostFor)) {
+            log.debug("⏭️ 다른 인스턴스가 수집 락을 보유 중이라 건너뜁니다: {}", lockName);
+            return false;
+        }
+        try {
+            task.run();
+            return true;
+        } finally {
+            unlock(lockName, lockAtLeastFor);
+        }
+    }
+
+    private static long toMicros(Duration duration) {
+        return duration.toNanos() / 1_000;
+    }
+}
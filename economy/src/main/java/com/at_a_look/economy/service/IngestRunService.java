@@ -0,0 +1,81 @@
+package com.at_a_look.economy.service;
+
+import com.at_a_look.economy.dto.IngestRunDto;
+import com.at_a_look.economy.entity.IngestRun;
+import com.at_a_look.economy.repository.IngestRunRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 수집 작업 실행 이력 기록/조회
+ * 기록 실패가 수집 자체를 막지 않도록 저장 오류는 로그만 남깁니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class IngestRunService {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final IngestRunRepository ingestRunRepository;
+    private final IngestLockService ingestLockService;
+
+    public IngestRun start(String jobName, IngestRun.Trigger trigger) {
+        IngestRun run = IngestRun.builder()
+                .jobName(jobName)
+                .trigger(trigger)
+                .status(IngestRun.Status.RUNNING)
+                .nodeId(ingestLockService.getNodeId())
+                .startedAt(LocalDateTime.now())
+                .build();
+        try {
+            return ingestRunRepository.save(run);
+        } catch (Exception e) {
+            log.warn("⚠️ 수집 실행 이력 저장 실패 ({}): {}", jobName, e.getMessage());
+            return run;
+        }
+    }
+
+    public void finish(IngestRun run, IngestRun.Status status, int attempts, String errorMessage) {
+        LocalDateTime finishedAt = LocalDateTime.now();
+        run.setStatus(status);
+        run.setAttempts(attempts);
+        run.setFinishedAt(finishedAt);
+        run.setDurationMs(Duration.between(run.getStartedAt(), finishedAt).toMillis());
+        run.setErrorMessage(truncate(errorMessage));
+        try {
+            ingestRunRepository.save(run);
+        } catch (Exception e) {
+            log.warn("⚠️ 수집 실행 이력 갱신 실패 ({}): {}", run.getJobName(), e.getMessage());
+        }
+    }
+
+    // 중복 실행 방지 판정이므로 복제 지연이 있는 읽기 전용 replica 가 아닌 primary 에서 조회
+    @Transactional
+    public boolean hasSucceededSince(String jobName, LocalDateTime since) {
+        return ingestRunRepository.existsByJobNameAndStatusAndStartedAtAfter(jobName, IngestRun.Status.SUCCEEDED, since);
+    }
+
+    @Transactional(readOnly = true)
+    public List<IngestRunDto> getRecentRuns(String jobName, int limit) {
+        PageRequest page = PageRequest.of(0, limit);
+        List<IngestRun> runs = jobName == null
+                ? ingestRunRepository.findByOrderByStartedAtDesc(page)
+                : ingestRunRepository.findByJobNameOrderByStartedAtDesc(jobName, page);
+        return runs.stream().map(IngestRunDto::fromEntity).toList();
+    }
+
+    private static String truncate(String message) {
+        if (message == null || message.length() <= MAX_ERROR_LENGTH) {
+            return message;
+        }
+        return message.substring(0, MAX_ERROR_LENGTH);
+    }
+}
@@ -2,18 +2,28 @@ package com.at_a_look.economy.service;
 
 import com.at_a_look.economy.dto.InterestRateDto;
 import com.at_a_look.economy.dto.InterestRateResponse;
+import com.at_a_look.economy.entity.IngestWatermark;
 import com.at_a_look.economy.entity.InterestRate;
+import com.at_a_look.economy.entity.InterestRateLatest;
+import com.at_a_look.economy.event.EconomicDataChangedEvent;
+import com.at_a_look.economy.metrics.IngestMetrics;
+import com.at_a_look.economy.repository.IngestWatermarkRepository;
+import com.at_a_look.economy.repository.InterestRateLatestRepository;
 import com.at_a_look.economy.repository.InterestRateRepository;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.client.RestTemplate;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
 import java.util.*;
@@ -25,12 +35,24 @@ import java.util.stream.Collectors;
 public class InterestRateService {
 
     private final InterestRateRepository interestRateRepository;
+    private final InterestRateLatestRepository interestRateLatestRepository;
     private final RestTemplate restTemplate;
     private final ObjectMapper objectMapper;
+    private final IngestMetrics ingestMetrics;
+    private final IngestWatermarkRepository ingestWatermarkRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 한국 기준금리 일별 시계열 (통계표 722Y001, 항목 0101000) 증분 수집 기준점 키
+    public static final String KOREA_BASE_RATE_SERIES = "ecos:722Y001:0101000";
+    private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+    private static final DateTimeFormatter ECOS_DAILY_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
 
     @Value("${ecos.api.key}")
     private String ecosApiKey;
 
+    @Value("${ecos.api.base-url:https://ecos.bok.or.kr/api}")
+    private String ecosBaseUrl;
+
     // 국가 코드 및 정보
     private static final Map<String, CountryInfo> COUNTRIES = Map.of(
         "KR", new CountryInfo("KR", "한국", "한국은행", "기준금리")
@@ -74,12 +96,12 @@ public class InterestRateService {
             }
             
             // 일반 조회: DB에서만 가져오기 (발표일 기준 최신 데이터)
-            List<InterestRate> latestRates = interestRateRepository.findLatestRatesByCountry();
+            List<InterestRate> latestRates = findLatestRates(true);
             
             // 발표일 데이터가 없는 경우 일반 최신 데이터로 fallback
             if (latestRates.isEmpty()) {
                 log.warn("⚠️ 발표일 기준 최신 데이터가 없습니다. 일반 최신 데이터로 대체합니다.");
-                latestRates = interestRateRepository.findLatestRatesByCountryAny();
+                latestRates = findLatestRates(false);
                 log.info("🔍 일반 최신 데이터 조회 결과: {}개", latestRates.size());
                 latestRates.forEach(rate -> 
                     log.info("  - {}: {}% ({}일, 발표일: {})", 
@@ -113,12 +135,12 @@ public class InterestRateService {
             fetchAndSaveYearlyRates();
             
             // 업데이트된 데이터 조회
-            List<InterestRate> latestRates = interestRateRepository.findLatestRatesByCountry();
+            List<InterestRate> latestRates = findLatestRates(true);
             
             // 여전히 발표일 데이터가 없는 경우 일반 데이터로 fallback
             if (latestRates.isEmpty()) {
                 log.warn("⚠️ 업데이트 후에도 발표일 기준 데이터가 없습니다. 일반 최신 데이터로 대체합니다.");
-                latestRates = interestRateRepository.findLatestRatesByCountryAny();
+                latestRates = findLatestRates(false);
             }
             
             return buildResponse(latestRates);
@@ -171,6 +193,7 @@ public class InterestRateService {
      * 최근 1년간 금리 데이터 조회 및 저장
      */
     @Transactional
+    @Timed(value = IngestMetrics.JOB_TIMER, extraTags = {"source", IngestMetrics.SOURCE_INTEREST_RATE})
     public void fetchAndSaveYearlyRates() {
         log.info("📅 최근 1년간 금리 데이터 조회 시작");
         
@@ -214,6 +237,7 @@ public class InterestRateService {
      * 최근 1개월간 금리 데이터 조회 및 저장 (어드민 전용)
      */
     @Transactional
+    @Timed(value = IngestMetrics.JOB_TIMER, extraTags = {"source", IngestMetrics.SOURCE_INTEREST_RATE})
     public void fetchAndSaveMonthlyRates() {
         log.info("📅 최근 1개월간 금리 데이터 조회 시작");
         
@@ -257,6 +281,7 @@ public class InterestRateService {
      * 커스텀 연도만큼의 금리 데이터 조회 및 저장 (어드민 전용)
      */
     @Transactional
+    @Timed(value = IngestMetrics.JOB_TIMER, extraTags = {"source", IngestMetrics.SOURCE_INTEREST_RATE})
     public void fetchAndSaveCustomYearsRates(int years) {
         log.info("📅 최근 {}년간 금리 데이터 조회 시작", years);
         
@@ -300,6 +325,70 @@ public class InterestRateService {
         log.info("📈 최근 {}년간 금리 데이터 조회 완료 ({}개 국가 성공)", years, successCount);
     }
 
+    /**
+     * 한국 기준금리 증분 수집
+     * 기준점(마지막으로 받은 ECOS TIME) 다음 날부터 오늘까지만 요청하고, 이미 오늘까지 받았으면 API 를 호출하지 않습니다.
+     * 기준점이 없으면 DB 의 최신 날짜에서 이어 받고, DB 도 비어 있으면 최근 1년을 받습니다.
+     *
+     * @return 새로 받은 일자 수
+     */
+    @Transactional
+    @Timed(value = IngestMetrics.JOB_TIMER, extraTags = {"source", IngestMetrics.SOURCE_INTEREST_RATE})
+    public int syncKoreaRatesIncremental() {
+        CountryInfo countryInfo = COUNTRIES.get("KR");
+        LocalDate today = LocalDate.now(SEOUL);
+
+        IngestWatermark watermark = ingestWatermarkRepository.findById(KOREA_BASE_RATE_SERIES)
+                .orElseGet(() -> IngestWatermark.builder().seriesKey(KOREA_BASE_RATE_SERIES).build());
+
+        LocalDate from;
+        if (watermark.getLastTime() != null) {
+            from = LocalDate.parse(watermark.getLastTime(), ECOS_DAILY_FORMAT).plusDays(1);
+        } else {
+            from = interestRateRepository.findFirstByCountryCodeOrderByDateDesc(countryInfo.code)
+                    .map(rate -> rate.getDate().plusDays(1))
+                    .orElse(today.minusYears(1));
+        }
+
+        watermark.setLastCheckedAt(LocalDateTime.now());
+
+        List<InterestRate> rateData = from.isAfter(today)
+                ? List.of()
+                : requestKoreaDailyRates(countryInfo.code, countryInfo, from, today, true);
+
+        boolean changed = false;
+        if (!rateData.isEmpty()) {
+            saveActualDataOnly(rateData, countryInfo.code);
+            LocalDate latest = rateData.stream().map(InterestRate::getDate).max(LocalDate::compareTo).orElseThrow();
+            watermark.setLastTime(latest.format(ECOS_DAILY_FORMAT));
+            // 발표일(직전 값과 다른 금리)이 포함되어 있으면 값 변경으로 봄
+            changed = rateData.stream().anyMatch(rate -> Boolean.TRUE.equals(rate.getIsAnnouncementDate()));
+        } else if (watermark.getLastTime() == null && from.isAfter(today)) {
+            // DB 에서 이어 받은 경우 기준점 기록
+            watermark.setLastTime(from.minusDays(1).format(ECOS_DAILY_FORMAT));
+        }
+
+        if (changed) {
+            watermark.setLastChangedAt(LocalDateTime.now());
+            watermark.setUnchangedPolls(0);
+        } else {
+            watermark.setUnchangedPolls(watermark.getUnchangedPolls() + 1);
+        }
+        ingestWatermarkRepository.save(watermark);
+
+        log.info("📈 한국 기준금리 증분 수집 완료: 구간 {}~{}, 신규 {}일, 금리 변경 {}, 기준점 {}",
+                from, today, rateData.size(), changed ? "있음" : "없음", watermark.getLastTime());
+        return rateData.size();
+    }
+
+    /**
+     * 한국 기준금리 증분 수집 기준점 (스케줄러의 확인 주기 계산용)
+     */
+    @Transactional(readOnly = true)
+    public Optional<IngestWatermark> getKoreaRateWatermark() {
+        return ingestWatermarkRepository.findById(KOREA_BASE_RATE_SERIES);
+    }
+
     /**
      * 한국 금리 데이터 조회 및 저장
      */
@@ -348,12 +437,26 @@ public class InterestRateService {
             log.warn("⚠️ 기존 데이터 확인 중 데이터베이스 에러 발생, API 호출을 진행합니다: {}", e.getMessage());
         }
         
+        List<InterestRate> rateData = requestKoreaDailyRates(countryCode, countryInfo, startDate, endDate, false);
+        
+        // 실제 데이터만 저장 (발표일 식별)
+        saveActualDataOnly(rateData, countryCode);
+        
+        log.info("✅ {} 국가 일별 데이터 처리 완료: {}일", countryCode, rateData.size());
+    }
+
+    /**
+     * ECOS 한국 일별 기준금리 구간 조회 (저장하지 않음)
+     * allowEmpty 가 true 이면 해당 기간 데이터 없음(INFO-200)을 빈 목록으로 반환 (증분 수집에서 아직 발표 전인 경우)
+     */
+    private List<InterestRate> requestKoreaDailyRates(String countryCode, CountryInfo countryInfo,
+                                                      LocalDate startDate, LocalDate endDate, boolean allowEmpty) {
         String startDateStr = startDate.format(DateTimeFormatter.ofPattern("yyyyMMdd"));
         String endDateStr = endDate.format(DateTimeFormatter.ofPattern("yyyyMMdd"));
         
         String url = String.format(
-            "https://ecos.bok.or.kr/api/StatisticSearch/%s/json/kr/1/10000/722Y001/D/%s/%s/0101000",
-            ecosApiKey, startDateStr, endDateStr
+            "%s/StatisticSearch/%s/json/kr/1/10000/722Y001/D/%s/%s/0101000",
+            ecosBaseUrl, ecosApiKey, startDateStr, endDateStr
         );
         
         log.info("🔗 ECOS API 한국 일별 기준금리 호출: {}", url.replaceAll(ecosApiKey, "***API_KEY***"));
@@ -367,17 +470,16 @@ public class InterestRateService {
             
             // API 응답 검증
             String errorMessage = validateEcosApiResponse(response);
+            if (errorMessage != null && allowEmpty && errorMessage.startsWith("[INFO-200]")) {
+                log.info("📭 {} 국가 {}~{} 구간에 아직 새 데이터가 없습니다.", countryCode, startDateStr, endDateStr);
+                return new ArrayList<>();
+            }
             if (errorMessage != null) {
                 log.error("❌ ECOS API 에러 응답: {}", errorMessage);
                 throw new RuntimeException("한국은행 API 에러: " + errorMessage);
             }
             
-            List<InterestRate> rateData = parseEcosDailyResponse(response, countryInfo);
-            
-            // 실제 데이터만 저장 (발표일 식별)
-            saveActualDataOnly(rateData, countryCode);
-            
-            log.info("✅ {} 국가 일별 데이터 처리 완료: {}일", countryCode, rateData.size());
+            return parseEcosDailyResponse(response, countryInfo);
             
         } catch (org.springframework.web.client.ResourceAccessException e) {
             // 네트워크 연결 실패
@@ -389,11 +491,6 @@ public class InterestRateService {
             String errorMsg = "한국은행 API 호출 중 오류가 발생했습니다: " + e.getMessage();
             log.error("❌ {} 국가 REST API 호출 실패: {}", countryCode, e.getMessage());
             throw new RuntimeException(errorMsg, e);
-        } catch (org.springframework.dao.DataAccessException e) {
-            // 데이터베이스 접근 실패
-            String errorMsg = "데이터베이스 접근 중 오류가 발생했습니다: " + e.getMessage();
-            log.error("❌ {} 국가 데이터베이스 접근 실패: {}", countryCode, e.getMessage());
-            throw new RuntimeException(errorMsg, e);
         } catch (RuntimeException e) {
             // 이미 처리된 런타임 에러 (API 에러 등)
             if (e.getMessage() != null && e.getMessage().startsWith("한국은행 API 에러:")) {
@@ -522,6 +619,16 @@ public class InterestRateService {
             }
         }
         
+        ingestMetrics.recordFetched(IngestMetrics.SOURCE_INTEREST_RATE, rateData.size());
+        ingestMetrics.recordInserted(IngestMetrics.SOURCE_INTEREST_RATE, savedCount);
+        ingestMetrics.recordUpdated(IngestMetrics.SOURCE_INTEREST_RATE, updatedCount);
+        ingestMetrics.recordFailed(IngestMetrics.SOURCE_INTEREST_RATE, errorCount);
+        
+        if (savedCount + updatedCount > 0) {
+            refreshLatestPointer(countryCode);
+            eventPublisher.publishEvent(new EconomicDataChangedEvent(IngestMetrics.SOURCE_INTEREST_RATE, null));
+        }
+        
         log.info("✅ {} 국가 실제 데이터 저장 완료: 신규 {}개, 업데이트 {}개, 발표일 {}개, 에러 {}개", 
                 countryCode, savedCount, updatedCount, announcementCount, errorCount);
         
@@ -530,6 +637,53 @@ public class InterestRateService {
         }
     }
 
+    /**
+     * 국가별 최신 금리 조회 (interest_rate_latest 포인터의 기본 키 조인)
+     * 포인터가 아직 없으면 국가별 최신 1건 인덱스 조회로 대체합니다.
+     *
+     * @param announcementOnly true 면 최신 발표일 금리, false 면 발표일 상관없이 최신 금리
+     */
+    private List<InterestRate> findLatestRates(boolean announcementOnly) {
+        List<InterestRateLatest> pointers = interestRateLatestRepository.findAllWithRates();
+        if (!pointers.isEmpty()) {
+            return pointers.stream()
+                .map(pointer -> announcementOnly ? pointer.getLatestAnnouncementRate() : pointer.getLatestRate())
+                .filter(Objects::nonNull)
+                .toList();
+        }
+        
+        log.debug("🔍 최신 금리 포인터가 없어 국가별 최신 데이터를 직접 조회합니다.");
+        return interestRateRepository.findDistinctCountryCodes().stream()
+            .map(code -> announcementOnly
+                ? interestRateRepository.findFirstByCountryCodeAndIsAnnouncementDateTrueOrderByDateDesc(code)
+                : interestRateRepository.findFirstByCountryCodeOrderByDateDesc(code))
+            .flatMap(Optional::stream)
+            .toList();
+    }
+
+    /**
+     * 수집 트랜잭션 안에서 해당 국가의 최신 금리 포인터를 갱신
+     */
+    private void refreshLatestPointer(String countryCode) {
+        Optional<InterestRate> latest = interestRateRepository.findFirstByCountryCodeOrderByDateDesc(countryCode);
+        if (latest.isEmpty()) {
+            interestRateLatestRepository.deleteById(countryCode);
+            return;
+        }
+        
+        InterestRateLatest pointer = interestRateLatestRepository.findById(countryCode)
+            .orElseGet(() -> InterestRateLatest.builder().countryCode(countryCode).build());
+        pointer.setLatestRate(latest.get());
+        pointer.setLatestAnnouncementRate(interestRateRepository
+            .findFirstByCountryCodeAndIsAnnouncementDateTrueOrderByDateDesc(countryCode)
+            .orElse(null));
+        pointer.setUpdatedAt(LocalDateTime.now());
+        interestRateLatestRepository.save(pointer);
+        
+        log.debug("📌 {} 최신 금리 포인터 갱신: {} ({}%)", countryCode,
+                latest.get().getDate(), latest.get().getInterestRate());
+    }
+
     /**
      * 한국 기준금리 통계표 코드 반환
      */
@@ -955,6 +1109,7 @@ public class InterestRateService {
             .history(Collections.emptyList())
             .lastUpdated(LocalDate.now())
             .message("샘플 데이터 (API 연결 실패, 한국 금리만)")
+            .fallback(true)
                 .build();
     }
 
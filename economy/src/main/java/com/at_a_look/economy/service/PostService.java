@@ -40,6 +40,8 @@ public class PostService {
     private final PostLikeRepository postLikeRepository;
     private final PostBookmarkRepository postBookmarkRepository;
     private final NotificationService notificationService;
+    private final FileUploadService fileUploadService;
+    private final UploadBlobService uploadBlobService;
     private final ObjectMapper objectMapper;
 
     /**
@@ -115,10 +117,13 @@ public class PostService {
                             .fileSize(imageInfo.getFileSize())
                             .contentType(imageInfo.getContentType())
                             .displayOrder(imageInfo.getDisplayOrder())
+                            .variantWidths(PostImage.joinVariantWidths(
+                                    fileUploadService.findVariantWidths(imageInfo.getUploadedImageUrl())))
                             .build())
                     .collect(Collectors.toList());
 
             postImageRepository.saveAll(postImages);
+            postImages.forEach(img -> uploadBlobService.addReference(img.getImageUrl()));
         }
 
         return convertToResponseDto(savedPost, userEmail);
@@ -148,7 +153,12 @@ public class PostService {
             // 기존 이미지 삭제 처리
             request.getImages().stream()
                     .filter(img -> img.getId() != null && Boolean.TRUE.equals(img.getIsDeleted()))
-                    .forEach(img -> postImageRepository.deleteById(img.getId()));
+                    .forEach(img -> postImageRepository.findById(img.getId())
+                            .filter(existing -> existing.getPost().getId().equals(post.getId()))
+                            .ifPresent(existing -> {
+                                uploadBlobService.releaseReference(existing.getImageUrl());
+                                postImageRepository.delete(existing);
+                            }));
 
             // 새 이미지 추가
             List<PostImage> newImages = request.getImages().stream()
@@ -160,11 +170,14 @@ public class PostService {
                             .fileSize(imageInfo.getFileSize())
                             .contentType(imageInfo.getContentType())
                             .displayOrder(imageInfo.getDisplayOrder())
+                            .variantWidths(PostImage.joinVariantWidths(
+                                    fileUploadService.findVariantWidths(imageInfo.getUploadedImageUrl())))
                             .build())
                     .collect(Collectors.toList());
 
             if (!newImages.isEmpty()) {
                 postImageRepository.saveAll(newImages);
+                newImages.forEach(img -> uploadBlobService.addReference(img.getImageUrl()));
             }
         }
 
@@ -481,6 +494,7 @@ public class PostService {
                         .originalFilename(img.getOriginalFilename())
                         .fileSize(img.getFileSize())
                         .displayOrder(img.getDisplayOrder())
+                        .variants(ImageVariantService.variantUrls(img.getImageUrl(), img.getVariantWidthList()))
                         .build())
                 .collect(Collectors.toList());
 
@@ -527,7 +541,9 @@ public class PostService {
         String thumbnailImageUrl = null;
         List<PostImage> images = postImageRepository.findFirstImageByPost(post);
         if (!images.isEmpty()) {
-            thumbnailImageUrl = images.get(0).getImageUrl();
+            PostImage first = images.get(0);
+            thumbnailImageUrl = ImageVariantService.pickVariantUrl(
+                    first.getImageUrl(), first.getVariantWidthList(), ImageVariantService.PREVIEW_WIDTH);
         }
 
         PostDto.SummaryResponse.AuthorInfo authorInfo = PostDto.SummaryResponse.AuthorInfo.builder()
@@ -577,6 +593,7 @@ public class PostService {
                 .commentCount(summary.getCommentCount())
                 .createdAt(summary.getCreatedAt())
                 .author(authorInfo)
+                .thumbnailImageUrl(summary.getThumbnailImageUrl())
                 .userInteraction(userInteraction)
                 .build();
     }
@@ -0,0 +1,89 @@
+package com.at_a_look.economy.service;
+
+import com.at_a_look.economy.config.HibernateCacheConfig;
+import com.at_a_look.economy.entity.ConsumerPriceIndex;
+import com.at_a_look.economy.entity.HelpArticle;
+import com.at_a_look.economy.entity.UserNotificationSettings;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+
+/**
+ * Hibernate 2차 캐시 명시적 무효화
+ * Hibernate 를 거친 쓰기는 캐시가 자동 갱신되지만, 관리자 쓰기 경로에서는 목록/쿼리 캐시까지 확실히 비우고
+ * 네이티브/벌크 쿼리로 테이블을 수정한 경우에도 호출합니다.
+ * 트랜잭션 안에서 호출되면 커밋 이후에 비워서 커밋 전 값이 다시 캐시되는 것을 막습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SecondLevelCacheService {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    public void evictHelpArticles() {
+        afterCommit(() -> {
+            Cache cache = cache();
+            cache.evictEntityData(HelpArticle.class);
+            cache.evictQueryRegion(HibernateCacheConfig.QUERY_REGION_HELP_ARTICLE);
+            log.debug("🧹 도움말 캐시 무효화");
+        });
+    }
+
+    /**
+     * 조회수 일괄 반영처럼 목록 구성은 그대로이고 행 값만 바뀐 경우 엔티티만 비움 (쿼리 리전 유지)
+     */
+    public void evictHelpArticleEntities(Collection<Long> articleIds) {
+        afterCommit(() -> {
+            Cache cache = cache();
+            articleIds.forEach(id -> cache.evictEntityData(HelpArticle.class, id));
+        });
+    }
+
+    public void evictNotificationSettings(Long settingsId) {
+        afterCommit(() -> {
+            Cache cache = cache();
+            if (settingsId != null) {
+                cache.evictEntityData(UserNotificationSettings.class, settingsId);
+            }
+            cache.evictQueryRegion(HibernateCacheConfig.QUERY_REGION_USER_NOTIFICATION_SETTINGS);
+            log.debug("🧹 알림 설정 캐시 무효화: settingsId={}", settingsId);
+        });
+    }
+
+    public void evictConsumerPriceIndexes() {
+        afterCommit(() -> {
+            Cache cache = cache();
+            cache.evictEntityData(ConsumerPriceIndex.class);
+            cache.evictQueryRegion(HibernateCacheConfig.QUERY_REGION_CONSUMER_PRICE_INDEX);
+            log.debug("🧹 소비자물가지수 캐시 무효화");
+        });
+    }
+
+    private Cache cache() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getCache();
+    }
+
+    /**
+     * 트랜잭션 커밋 이후 실행 (트랜잭션 밖이면 즉시 실행) - 서비스 자체 캐시 무효화에도 사용
+     */
+    public void afterCommit(Runnable eviction) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    eviction.run();
+                }
+            });
+        } else {
+            eviction.run();
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.at_a_look.economy.service;
+
+import com.at_a_look.economy.repository.PostImageRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+
+/**
+ * 업로드 파일 공개 여부 판정 서비스
+ * 저장 위치(objects/ 등)가 아니라 파일이 게시글에 첨부되어 있는지로 익명 조회 가능 여부를 결정합니다.
+ * 게시글 첨부 이미지만 공개(public 캐시), 프로필/임시/일반 업로드는 인증 사용자에게만 서빙합니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class UploadAccessService {
+
+    private final PostImageRepository postImageRepository;
+
+    // 상대 경로별 게시글 첨부 여부 (이미지 요청마다 DB 를 조회하지 않도록 짧게 캐시)
+    private final Cache<String, Boolean> postAttached = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(Duration.ofSeconds(60))
+            .build();
+
+    /**
+     * 업로드 디렉터리 기준 상대 경로가 게시글 이미지(또는 그 리사이즈 변형)인지 확인
+     */
+    public boolean isPostAttached(String relativePath) {
+        String ownerPath = UploadGarbageCollectionService.ownerPath(relativePath);
+        return postAttached.get(ownerPath, path -> postImageRepository.countByUploadPath(path) > 0);
+    }
+}
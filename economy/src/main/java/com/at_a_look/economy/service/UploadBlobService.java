@@ -0,0 +1,228 @@
+package com.at_a_look.economy.service;
+
+import com.at_a_look.economy.config.FileUploadConfig;
+import com.at_a_look.economy.entity.UploadBlob;
+import com.at_a_look.economy.repository.UploadBlobRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 내용 주소 기반(SHA-256) 업로드 저장소
+ * - 스트림을 임시 파일에 쓰면서 동시에 해시 계산 (단일 패스)
+ * - 게시글 이미지(post)는 objects/{해시 앞 2자리}/{해시}{확장자}, 그 외 카테고리는 {카테고리}/{해시 앞 2자리}/{해시}{확장자} 로
+ *   원자적 이동 (중복 제거는 카테고리 안에서만 - 프로필/임시 파일이 게시글 이미지 저장소와 섞이지 않음)
+ * - upload_blobs 메타데이터와 ref_count 는 게시글 이미지 저장소(objects/)만 기록하며, post_images 연결/해제 시 증감
+ * - 참조 수가 0이어도 최근 업로드(중복 업로드 포함)된 파일은 게시글 연결 전일 수 있으므로 보호 기간 동안 삭제하지 않음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UploadBlobService {
+
+    public static final String OBJECTS_DIR = "objects";
+    public static final String STAGING_DIR = ".staging";
+    public static final String POST_CATEGORY = "post";
+
+    // 게시글 이미지 저장소의 objects/ab/{해시}.ext 또는 리사이즈 버전 objects/ab/{해시}_w320.ext
+    private static final Pattern HASH_FILENAME =
+            Pattern.compile("(?:^|/)" + OBJECTS_DIR + "/[0-9a-f]{2}/([0-9a-f]{64})(?:_w\\d+)?\\.[A-Za-z0-9]+$");
+    // 카테고리 저장소 파일명 ({해시}.ext / {해시}_w320.ext)
+    private static final Pattern CONTENT_ADDRESSED_FILENAME = Pattern.compile("^[0-9a-f]{64}(?:_w\\d+)?\\.[A-Za-z0-9]+$");
+    private static final Pattern CATEGORY_NAME = Pattern.compile("^[a-z]+$");
+
+    private final FileUploadConfig fileUploadConfig;
+    private final ImageVariantService imageVariantService;
+    private final UploadBlobRepository uploadBlobRepository;
+
+    public record StoredBlob(String contentHash, String relativePath, long fileSize,
+                             List<Integer> variantWidths, boolean deduplicated) {
+    }
+
+    /**
+     * 업로드 스트림 저장
+     * DB 트랜잭션 없이 파일 작업을 수행하고, 게시글 이미지면 마지막에 메타데이터 행만 멱등하게 기록합니다.
+     */
+    public StoredBlob store(InputStream in, String mimeType, String extension, String category) throws IOException {
+        String storageDir = storageDir(category);
+        Path baseDir = baseDir();
+        Path stagingRoot = baseDir.resolve(STAGING_DIR);
+        Files.createDirectories(stagingRoot);
+        Path stagingDir = Files.createTempDirectory(stagingRoot, "up-");
+        try {
+            MessageDigest digest = sha256();
+            Path raw = stagingDir.resolve("raw" + extension);
+            try (DigestInputStream digestIn = new DigestInputStream(in, digest)) {
+                Files.copy(digestIn, raw);
+            }
+            String hash = HexFormat.of().formatHex(digest.digest());
+            String relativePath = storageDir + "/" + hash.substring(0, 2) + "/" + hash + extension;
+            Path target = baseDir.resolve(relativePath);
+
+            boolean deduplicated = Files.exists(target);
+            List<Integer> variantWidths;
+            if (deduplicated) {
+                variantWidths = imageVariantService.findExistingVariants(target);
+                // GC 는 수정 시각으로 보호 기간을 판단하므로, 게시글 연결 전 격리되지 않도록 재업로드 시각으로 갱신
+                touch(target, variantWidths);
+            } else {
+                Path staged = stagingDir.resolve(hash + extension);
+                Files.move(raw, staged, StandardCopyOption.ATOMIC_MOVE);
+                variantWidths = imageVariantService.processOnWorker(staged, mimeType);
+
+                // 리사이즈 버전을 먼저 옮기고 원본은 마지막에 이동 (원본 존재 = 저장 완료)
+                Files.createDirectories(target.getParent());
+                for (Integer width : variantWidths) {
+                    String variantName = ImageVariantService.variantUrl(staged.getFileName().toString(), width);
+                    Files.move(staged.resolveSibling(variantName), target.resolveSibling(variantName),
+                            StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+                }
+                Files.move(staged, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            }
+
+            long fileSize = Files.size(target);
+            if (OBJECTS_DIR.equals(storageDir)) {
+                uploadBlobRepository.recordUpload(hash, relativePath, mimeType, fileSize);
+            }
+            return new StoredBlob(hash, relativePath, fileSize, variantWidths, deduplicated);
+        } finally {
+            FileSystemUtils.deleteRecursively(stagingDir);
+        }
+    }
+
+    /**
+     * 게시글 이미지 연결 시 참조 수 증가 (내용 주소 파일이 아닌 URL은 무시)
+     */
+    @Transactional
+    public void addReference(String fileUrl) {
+        extractHash(fileUrl).ifPresent(uploadBlobRepository::incrementRefCount);
+    }
+
+    /**
+     * 게시글 이미지 연결 해제 시 참조 수 감소
+     */
+    @Transactional
+    public void releaseReference(String fileUrl) {
+        extractHash(fileUrl).ifPresent(uploadBlobRepository::decrementRefCount);
+    }
+
+    /**
+     * 참조되지 않고 보호 기간(file.upload.gc.min-age-hours)이 지난 경우에만 파일(및 리사이즈 버전)과 메타데이터 삭제
+     * 내용 주소 파일은 여러 사용자가 공유하므로, 다른 사용자가 방금 업로드해 게시글 연결 전인 파일은 지우지 않습니다.
+     * (보호 기간이 지난 미참조 파일은 GC 가 정리) 행 잠금으로 판단 도중 새 참조/업로드가 반영되는 것을 막습니다.
+     */
+    @Transactional
+    public boolean deleteIfUnreferenced(String hash, Path file) throws IOException {
+        Optional<UploadBlob> blob = uploadBlobRepository.findByIdForUpdate(hash);
+        if (blob.isPresent() && blob.get().getRefCount() > 0) {
+            log.info("참조 중인 업로드 파일은 삭제하지 않습니다: {} (참조 {}건)", hash, blob.get().getRefCount());
+            return false;
+        }
+        LocalDateTime protectedSince = LocalDateTime.now().minusHours(fileUploadConfig.getGc().getMinAgeHours());
+        if (blob.isPresent() && blob.get().getLastUploadedAt().isAfter(protectedSince)) {
+            log.info("최근 업로드된 파일은 보호 기간 동안 삭제하지 않습니다: {}", hash);
+            return false;
+        }
+        boolean deleted = Files.deleteIfExists(file);
+        imageVariantService.deleteVariants(file);
+        blob.ifPresent(uploadBlobRepository::delete);
+        return deleted;
+    }
+
+    /**
+     * 카테고리 저장소(프로필/임시 등)의 내용 주소 파일 삭제
+     * 같은 카테고리에서 다른 사용자가 같은 내용을 방금 업로드했을 수 있으므로, 수정 시각(재업로드 시 갱신)이
+     * 보호 기간 안이면 삭제하지 않습니다.
+     */
+    public boolean deleteIfNotRecent(Path file) throws IOException {
+        if (!Files.exists(file)) {
+            return false;
+        }
+        Instant protectedSince = Instant.now().minus(Duration.ofHours(fileUploadConfig.getGc().getMinAgeHours()));
+        if (Files.getLastModifiedTime(file).toInstant().isAfter(protectedSince)) {
+            log.info("최근 업로드된 파일은 보호 기간 동안 삭제하지 않습니다: {}", file.getFileName());
+            return false;
+        }
+        boolean deleted = Files.deleteIfExists(file);
+        imageVariantService.deleteVariants(file);
+        return deleted;
+    }
+
+    private void touch(Path target, List<Integer> variantWidths) {
+        FileTime now = FileTime.from(Instant.now());
+        try {
+            Files.setLastModifiedTime(target, now);
+            for (Integer width : variantWidths) {
+                Path variant = target.resolveSibling(ImageVariantService.variantUrl(target.getFileName().toString(), width));
+                Files.setLastModifiedTime(variant, now);
+            }
+        } catch (IOException e) {
+            // 업로드 자체는 성공이므로 실패해도 진행 (last_uploaded_at 은 DB에 기록됨)
+            log.warn("업로드 파일 수정 시각 갱신 실패: {} - {}", target.getFileName(), e.getMessage());
+        }
+    }
+
+    /**
+     * 카테고리 저장 디렉터리 (게시글 이미지는 objects/, 그 외는 카테고리 이름)
+     */
+    private String storageDir(String category) {
+        if (category == null || POST_CATEGORY.equals(category)) {
+            return OBJECTS_DIR;
+        }
+        if (!CATEGORY_NAME.matcher(category).matches() || OBJECTS_DIR.equals(category)) {
+            throw new IllegalArgumentException("지원하지 않는 카테고리입니다.");
+        }
+        return category;
+    }
+
+    /**
+     * 카테고리 저장소의 내용 주소 파일명인지 여부 (게시글 이미지 저장소 파일은 extractHash 로 판별)
+     */
+    public static boolean isContentAddressedFilename(String filename) {
+        return filename != null && CONTENT_ADDRESSED_FILENAME.matcher(filename).matches();
+    }
+
+    /**
+     * 게시글 이미지 저장소(objects/) URL/경로에서 내용 해시 추출
+     */
+    public static Optional<String> extractHash(String fileUrlOrName) {
+        if (fileUrlOrName == null) {
+            return Optional.empty();
+        }
+        Matcher matcher = HASH_FILENAME.matcher(fileUrlOrName);
+        return matcher.find() ? Optional.of(matcher.group(1)) : Optional.empty();
+    }
+
+    private Path baseDir() {
+        return Paths.get(fileUploadConfig.getDir()).toAbsolutePath().normalize();
+    }
+
+    private MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,308 @@
+package com.at_a_look.economy.service;
+
+import com.at_a_look.economy.config.FileUploadConfig;
+import com.at_a_look.economy.repository.PostImageRepository;
+import com.at_a_look.economy.repository.UploadBlobRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * 업로드 디렉터리 고아 파일 정리 (GC)
+ * 1) 격리: 디렉터리를 배치 단위로 순회하며, 배치마다 한 번의 쿼리로 참조 여부를 확인하고
+ *    게시글 이미지가 참조하지 않는 오래된 파일을 .quarantine/{yyyyMMdd}/ 로 이동
+ * 2) 삭제: 유예 기간이 지난 격리 파일을 다시 확인하여, 그 사이 참조된 파일은 복원하고 나머지는 삭제
+ * 전체 목록을 메모리에 올리지 않으며 배치 사이에 쉬어 서비스 트래픽과 I/O를 나눠 씁니다.
+ */
+@Slf4j
+@Service
+public class UploadGarbageCollectionService {
+
+    public static final String QUARANTINE_DIR = ".quarantine";
+
+    private static final DateTimeFormatter DAY_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    // 리사이즈 버전은 원본 경로 기준으로 참조 여부를 판단 (name_w320.jpg → name.jpg)
+    private static final Pattern VARIANT_PATH = Pattern.compile("^(.*)_w\\d+(\\.[A-Za-z0-9]+)$");
+
+    private final FileUploadConfig fileUploadConfig;
+    private final PostImageRepository postImageRepository;
+    private final UploadBlobRepository uploadBlobRepository;
+
+    private final Counter scannedCounter;
+    private final Counter quarantinedCounter;
+    private final Counter restoredCounter;
+    private final Counter deletedCounter;
+    private final Counter reclaimedBytesCounter;
+    private final Timer runTimer;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    public UploadGarbageCollectionService(FileUploadConfig fileUploadConfig,
+                                          PostImageRepository postImageRepository,
+                                          UploadBlobRepository uploadBlobRepository,
+                                          MeterRegistry meterRegistry) {
+        this.fileUploadConfig = fileUploadConfig;
+        this.postImageRepository = postImageRepository;
+        this.uploadBlobRepository = uploadBlobRepository;
+        this.scannedCounter = Counter.builder("upload.gc.files.scanned").register(meterRegistry);
+        this.quarantinedCounter = Counter.builder("upload.gc.files.quarantined").register(meterRegistry);
+        this.restoredCounter = Counter.builder("upload.gc.files.restored").register(meterRegistry);
+        this.deletedCounter = Counter.builder("upload.gc.files.deleted").register(meterRegistry);
+        this.reclaimedBytesCounter = Counter.builder("upload.gc.reclaimed")
+                .baseUnit("bytes")
+                .description("GC로 삭제되어 회수된 업로드 파일 용량")
+                .register(meterRegistry);
+        this.runTimer = Timer.builder("upload.gc.run").register(meterRegistry);
+    }
+
+    public record GcResult(long scanned, long quarantined, long restored, long deleted, long reclaimedBytes) {
+    }
+
+    private record Candidate(Path file, String relativePath, String ownerPath, long size) {
+    }
+
+    /**
+     * GC 1회 실행 (이미 실행 중이면 null)
+     */
+    public GcResult collect() {
+        if (!running.compareAndSet(false, true)) {
+            log.info("업로드 GC가 이미 실행 중입니다.");
+            return null;
+        }
+        Timer.Sample sample = Timer.start();
+        try {
+            Path baseDir = baseDir();
+            if (!Files.isDirectory(baseDir)) {
+                return new GcResult(0, 0, 0, 0, 0);
+            }
+            GcStats stats = new GcStats();
+            quarantineUnreferenced(baseDir, stats);
+            purgeExpiredQuarantine(baseDir, stats);
+
+            GcResult result = stats.toResult();
+            log.info("업로드 GC 완료: 검사 {}건, 격리 {}건, 복원 {}건, 삭제 {}건, 회수 {} bytes",
+                    result.scanned(), result.quarantined(), result.restored(), result.deleted(), result.reclaimedBytes());
+            return result;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("업로드 GC가 중단되었습니다.");
+            return null;
+        } catch (IOException e) {
+            log.error("업로드 GC 실패", e);
+            return null;
+        } finally {
+            sample.stop(runTimer);
+            running.set(false);
+        }
+    }
+
+    /**
+     * 1단계: 참조되지 않는 오래된 파일 격리
+     */
+    private void quarantineUnreferenced(Path baseDir, GcStats stats) throws IOException, InterruptedException {
+        FileUploadConfig.Gc config = fileUploadConfig.getGc();
+        Instant cutoff = Instant.now().minus(config.getMinAgeHours(), ChronoUnit.HOURS);
+        Path quarantineDay = baseDir.resolve(QUARANTINE_DIR).resolve(LocalDate.now(ZONE).format(DAY_FORMAT));
+
+        walkInBatches(baseDir, baseDir, attrs -> attrs.lastModifiedTime().toInstant().isBefore(cutoff), batch -> {
+            stats.scanned += batch.size();
+            scannedCounter.increment(batch.size());
+            Set<String> referenced = findReferenced(batch);
+            for (Candidate candidate : batch) {
+                if (referenced.contains(candidate.ownerPath())) {
+                    continue;
+                }
+                Path target = quarantineDay.resolve(candidate.relativePath());
+                Files.createDirectories(target.getParent());
+                Files.move(candidate.file(), target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+                stats.quarantined++;
+                quarantinedCounter.increment();
+            }
+        });
+    }
+
+    /**
+     * 2단계: 유예 기간이 지난 격리 파일 재확인 후 삭제 (그 사이 참조되었으면 복원)
+     */
+    private void purgeExpiredQuarantine(Path baseDir, GcStats stats) throws IOException, InterruptedException {
+        Path quarantineRoot = baseDir.resolve(QUARANTINE_DIR);
+        if (!Files.isDirectory(quarantineRoot)) {
+            return;
+        }
+        LocalDate expiry = LocalDate.now(ZONE).minusDays(fileUploadConfig.getGc().getQuarantineDays());
+
+        List<Path> expiredDays = new ArrayList<>();
+        try (DirectoryStream<Path> days = Files.newDirectoryStream(quarantineRoot, Files::isDirectory)) {
+            for (Path day : days) {
+                try {
+                    if (!LocalDate.parse(day.getFileName().toString(), DAY_FORMAT).isAfter(expiry)) {
+                        expiredDays.add(day);
+                    }
+                } catch (RuntimeException e) {
+                    log.warn("알 수 없는 격리 디렉터리 무시: {}", day.getFileName());
+                }
+            }
+        }
+
+        for (Path day : expiredDays) {
+            walkInBatches(day, day, attrs -> true, batch -> {
+                Set<String> referenced = findReferenced(batch);
+                Set<String> purgedHashes = new HashSet<>();
+                for (Candidate candidate : batch) {
+                    Path original = baseDir.resolve(candidate.relativePath());
+                    if (referenced.contains(candidate.ownerPath()) && !Files.exists(original)) {
+                        Files.createDirectories(original.getParent());
+                        Files.move(candidate.file(), original, StandardCopyOption.ATOMIC_MOVE);
+                        stats.restored++;
+                        restoredCounter.increment();
+                        log.info("격리 중 참조된 업로드 파일 복원: {}", candidate.relativePath());
+                        continue;
+                    }
+                    Files.deleteIfExists(candidate.file());
+                    stats.deleted++;
+                    stats.reclaimedBytes += candidate.size();
+                    deletedCounter.increment();
+                    reclaimedBytesCounter.increment(candidate.size());
+                    UploadBlobService.extractHash(candidate.ownerPath()).ifPresent(purgedHashes::add);
+                }
+                if (!purgedHashes.isEmpty()) {
+                    uploadBlobRepository.deleteUnreferenced(purgedHashes);
+                }
+            });
+            deleteEmptyDirectories(day);
+        }
+    }
+
+    private Set<String> findReferenced(List<Candidate> batch) {
+        Set<String> ownerPaths = batch.stream().map(Candidate::ownerPath).collect(Collectors.toSet());
+        return new HashSet<>(postImageRepository.findReferencedUploadPaths(ownerPaths));
+    }
+
+    /**
+     * walkFileTree 로 순회하면서 batchSize 만큼 모일 때마다 처리 (숨김 디렉터리는 건너뜀)
+     */
+    private void walkInBatches(Path root, Path relativeTo, FileFilter filter, BatchHandler handler)
+            throws IOException, InterruptedException {
+        FileUploadConfig.Gc config = fileUploadConfig.getGc();
+        int batchSize = Math.max(1, config.getBatchSize());
+        List<Candidate> batch = new ArrayList<>(batchSize);
+        InterruptedException[] interrupted = new InterruptedException[1];
+
+        Files.walkFileTree(root, new SimpleFileVisitor<>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) {
+                if (!dir.equals(root) && dir.getFileName().toString().startsWith(".")) {
+                    return FileVisitResult.SKIP_SUBTREE;
+                }
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+                if (!attrs.isRegularFile() || file.getFileName().toString().startsWith(".") || !filter.accept(attrs)) {
+                    return FileVisitResult.CONTINUE;
+                }
+                String relativePath = relativeTo.relativize(file).toString().replace('\\', '/');
+                batch.add(new Candidate(file, relativePath, ownerPath(relativePath), attrs.size()));
+                if (batch.size() >= batchSize) {
+                    handler.handle(batch);
+                    batch.clear();
+                    try {
+                        Thread.sleep(config.getBatchPauseMillis());
+                    } catch (InterruptedException e) {
+                        interrupted[0] = e;
+                        return FileVisitResult.TERMINATE;
+                    }
+                }
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFileFailed(Path file, IOException e) {
+                log.warn("업로드 GC 파일 접근 실패: {} - {}", file, e.getMessage());
+                return FileVisitResult.CONTINUE;
+            }
+        });
+
+        if (interrupted[0] != null) {
+            throw interrupted[0];
+        }
+        if (!batch.isEmpty()) {
+            handler.handle(batch);
+        }
+    }
+
+    private void deleteEmptyDirectories(Path root) throws IOException {
+        Files.walkFileTree(root, new SimpleFileVisitor<>() {
+            @Override
+            public FileVisitResult postVisitDirectory(Path dir, IOException e) throws IOException {
+                try (DirectoryStream<Path> entries = Files.newDirectoryStream(dir)) {
+                    if (!entries.iterator().hasNext()) {
+                        Files.delete(dir);
+                    }
+                }
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+
+    /**
+     * 리사이즈 변형(_wNNN) 경로를 원본 경로로 변환 (원본이면 그대로 반환)
+     */
+    static String ownerPath(String relativePath) {
+        Matcher matcher = VARIANT_PATH.matcher(relativePath);
+        return matcher.matches() ? matcher.group(1) + matcher.group(2) : relativePath;
+    }
+
+    private Path baseDir() {
+        return Paths.get(fileUploadConfig.getDir()).toAbsolutePath().normalize();
+    }
+
+    @FunctionalInterface
+    private interface FileFilter {
+        boolean accept(BasicFileAttributes attrs);
+    }
+
+    @FunctionalInterface
+    private interface BatchHandler {
+        void handle(List<Candidate> batch) throws IOException;
+    }
+
+    private static class GcStats {
+        long scanned;
+        long quarantined;
+        long restored;
+        long deleted;
+        long reclaimedBytes;
+
+        GcResult toResult() {
+            return new GcResult(scanned, quarantined, restored, deleted, reclaimedBytes);
+        }
+    }
+}
@@ -18,6 +18,7 @@ public class UserNotificationSettingsService {
 
     private final UserNotificationSettingsRepository notificationSettingsRepository;
     private final UserRepository userRepository;
+    private final SecondLevelCacheService secondLevelCacheService;
 
     public UserNotificationSettingsDto getNotificationSettings(Long userId) {
         User user = userRepository.findById(userId)
@@ -52,6 +53,7 @@ public class UserNotificationSettingsService {
         }
 
         UserNotificationSettings savedSettings = notificationSettingsRepository.save(settings);
+        secondLevelCacheService.evictNotificationSettings(savedSettings.getId());
         return UserNotificationSettingsDto.fromEntity(savedSettings);
     }
 
@@ -0,0 +1,164 @@
+package com.at_a_look.economy.controller;
+
+import com.at_a_look.economy.config.FileUploadConfig;
+import com.at_a_look.economy.service.UploadAccessService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class UploadResourceControllerTest {
+
+	private static final String HASH = "a".repeat(64);
+	private static final String POST_IMAGE = "objects/aa/" + HASH + ".jpg";
+	private static final String PROFILE_IMAGE = "profile/aa/" + HASH + ".jpg";
+	private static final String BODY = "0123456789";
+	// 파일명 stem + "-" + 16진수 길이
+	private static final String ETAG = "\"" + HASH + "-a\"";
+
+	@TempDir
+	Path uploadDir;
+
+	private UploadAccessService uploadAccessService;
+	private MockMvc mockMvc;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		for (String relativePath : new String[]{POST_IMAGE, PROFILE_IMAGE, ".staging/" + HASH + ".jpg"}) {
+			Path file = uploadDir.resolve(relativePath);
+			Files.createDirectories(file.getParent());
+			Files.writeString(file, BODY, StandardCharsets.US_ASCII);
+		}
+
+		FileUploadConfig config = new FileUploadConfig();
+		config.setDir(uploadDir.toString());
+		uploadAccessService = mock(UploadAccessService.class);
+		when(uploadAccessService.isPostAttached(anyString())).thenReturn(false);
+		when(uploadAccessService.isPostAttached(POST_IMAGE)).thenReturn(true);
+
+		mockMvc = MockMvcBuilders.standaloneSetup(new UploadResourceController(config, uploadAccessService)).build();
+	}
+
+	@AfterEach
+	void clearSecurityContext() {
+		SecurityContextHolder.clearContext();
+	}
+
+	@Test
+	void servesWholeFileWithPublicCacheForPostImage() throws Exception {
+		mockMvc.perform(get("/uploads/" + POST_IMAGE))
+				.andExpect(status().isOk())
+				.andExpect(header().string(HttpHeaders.ETAG, ETAG))
+				.andExpect(header().string(HttpHeaders.CACHE_CONTROL, "public, max-age=31536000, immutable"))
+				.andExpect(header().string(HttpHeaders.ACCEPT_RANGES, "bytes"))
+				.andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, 10))
+				.andExpect(content().string(BODY));
+	}
+
+	@Test
+	void servesPartialContentForSingleRange() throws Exception {
+		mockMvc.perform(get("/uploads/" + POST_IMAGE).header(HttpHeaders.RANGE, "bytes=2-5"))
+				.andExpect(status().isPartialContent())
+				.andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 2-5/10"))
+				.andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, 4))
+				.andExpect(content().string("2345"));
+	}
+
+	@Test
+	void servesSuffixRangeAndClampsOpenEndedRange() throws Exception {
+		mockMvc.perform(get("/uploads/" + POST_IMAGE).header(HttpHeaders.RANGE, "bytes=-3"))
+				.andExpect(status().isPartialContent())
+				.andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 7-9/10"))
+				.andExpect(content().string("789"));
+
+		mockMvc.perform(get("/uploads/" + POST_IMAGE).header(HttpHeaders.RANGE, "bytes=8-100"))
+				.andExpect(status().isPartialContent())
+				.andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 8-9/10"))
+				.andExpect(content().string("89"));
+	}
+
+	@Test
+	void rejectsRangeStartingPastEndOfFile() throws Exception {
+		mockMvc.perform(get("/uploads/" + POST_IMAGE).header(HttpHeaders.RANGE, "bytes=10-"))
+				.andExpect(status().isRequestedRangeNotSatisfiable())
+				.andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes */10"));
+	}
+
+	@Test
+	void ignoresInvalidOrMultipleRanges() throws Exception {
+		for (String range : new String[]{"bytes=5-2", "bytes=0-1,4-5", "items=0-1", "bytes=abc"}) {
+			mockMvc.perform(get("/uploads/" + POST_IMAGE).header(HttpHeaders.RANGE, range))
+					.andExpect(status().isOk())
+					.andExpect(header().doesNotExist(HttpHeaders.CONTENT_RANGE))
+					.andExpect(content().string(BODY));
+		}
+	}
+
+	@Test
+	void ignoresRangeWhenIfRangeDoesNotMatch() throws Exception {
+		mockMvc.perform(get("/uploads/" + POST_IMAGE)
+						.header(HttpHeaders.RANGE, "bytes=2-5")
+						.header(HttpHeaders.IF_RANGE, "\"other-a\""))
+				.andExpect(status().isOk())
+				.andExpect(content().string(BODY));
+
+		mockMvc.perform(get("/uploads/" + POST_IMAGE)
+						.header(HttpHeaders.RANGE, "bytes=2-5")
+						.header(HttpHeaders.IF_RANGE, ETAG))
+				.andExpect(status().isPartialContent())
+				.andExpect(content().string("2345"));
+	}
+
+	@Test
+	void returnsNotModifiedForMatchingETag() throws Exception {
+		for (String ifNoneMatch : new String[]{ETAG, "W/" + ETAG, "\"other-a\", " + ETAG, "*"}) {
+			mockMvc.perform(get("/uploads/" + POST_IMAGE).header(HttpHeaders.IF_NONE_MATCH, ifNoneMatch))
+					.andExpect(status().isNotModified())
+					.andExpect(header().string(HttpHeaders.ETAG, ETAG))
+					.andExpect(content().string(""));
+		}
+
+		mockMvc.perform(get("/uploads/" + POST_IMAGE).header(HttpHeaders.IF_NONE_MATCH, "\"other-a\""))
+				.andExpect(status().isOk());
+	}
+
+	@Test
+	void requiresAuthenticationForUploadsNotAttachedToPost() throws Exception {
+		mockMvc.perform(get("/uploads/" + PROFILE_IMAGE))
+				.andExpect(status().isUnauthorized());
+
+		SecurityContextHolder.getContext().setAuthentication(
+				new UsernamePasswordAuthenticationToken("user@example.com", null, AuthorityUtils.createAuthorityList("ROLE_USER")));
+
+		mockMvc.perform(get("/uploads/" + PROFILE_IMAGE))
+				.andExpect(status().isOk())
+				.andExpect(header().string(HttpHeaders.CACHE_CONTROL, "private, max-age=31536000, immutable"))
+				.andExpect(content().string(BODY));
+	}
+
+	@Test
+	void doesNotServeHiddenOrEscapingPaths() throws Exception {
+		mockMvc.perform(get("/uploads/.staging/" + HASH + ".jpg"))
+				.andExpect(status().isNotFound());
+		mockMvc.perform(get("/uploads/missing.jpg"))
+				.andExpect(status().isNotFound());
+	}
+}
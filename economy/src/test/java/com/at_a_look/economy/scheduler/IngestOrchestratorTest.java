@@ -0,0 +1,148 @@
+package com.at_a_look.economy.scheduler;
+
+import com.at_a_look.economy.dto.EconomicIndexDto;
+import com.at_a_look.economy.entity.IngestRun;
+import com.at_a_look.economy.service.ConsumerPriceIndexService;
+import com.at_a_look.economy.service.EconomicIndexService;
+import com.at_a_look.economy.service.ExchangeRateService;
+import com.at_a_look.economy.service.IngestLockService;
+import com.at_a_look.economy.service.IngestRunService;
+import com.at_a_look.economy.service.InterestRateService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class IngestOrchestratorTest {
+
+	private IngestLockService ingestLockService;
+	private IngestRunService ingestRunService;
+	private ExchangeRateService exchangeRateService;
+	private InterestRateService interestRateService;
+	private ConsumerPriceIndexService consumerPriceIndexService;
+	private EconomicIndexService economicIndexService;
+	private IngestOrchestrator orchestrator;
+
+	// 예약된 피드 작업 (테스트에서 원하는 순서로 직접 실행)
+	private final List<Runnable> scheduled = new ArrayList<>();
+
+	@BeforeEach
+	void setUp() {
+		ingestLockService = mock(IngestLockService.class);
+		ingestRunService = mock(IngestRunService.class);
+		exchangeRateService = mock(ExchangeRateService.class);
+		interestRateService = mock(InterestRateService.class);
+		consumerPriceIndexService = mock(ConsumerPriceIndexService.class);
+		economicIndexService = mock(EconomicIndexService.class);
+		TaskScheduler taskScheduler = mock(TaskScheduler.class);
+
+		when(taskScheduler.schedule(any(Runnable.class), any(Instant.class))).thenAnswer(invocation -> {
+			scheduled.add(invocation.getArgument(0));
+			return null;
+		});
+		when(ingestLockService.tryLock(anyString(), any())).thenReturn(true);
+		when(ingestRunService.start(anyString(), any())).thenAnswer(invocation -> IngestRun.builder()
+				.jobName(invocation.getArgument(0))
+				.startedAt(LocalDateTime.now())
+				.build());
+		when(economicIndexService.recalculateTodayIndex()).thenReturn(EconomicIndexDto.builder()
+				.indexValue(55.0)
+				.indexStatus("NORMAL")
+				.build());
+
+		orchestrator = new IngestOrchestrator(ingestLockService, ingestRunService, exchangeRateService,
+				interestRateService, consumerPriceIndexService, economicIndexService, taskScheduler);
+		ReflectionTestUtils.setField(orchestrator, "staggerSeconds", 0L);
+		ReflectionTestUtils.setField(orchestrator, "maxJitterSeconds", 0L);
+		ReflectionTestUtils.setField(orchestrator, "maxAttempts", 1);
+		ReflectionTestUtils.setField(orchestrator, "lockAtMostMinutes", 60L);
+		ReflectionTestUtils.setField(orchestrator, "lockAtLeastMinutes", 10L);
+	}
+
+	@Test
+	void recalculatesEconomicIndexOnlyAfterEveryFeedFinished() {
+		assertThat(orchestrator.start(IngestRun.Trigger.MANUAL)).isTrue();
+		assertThat(scheduled).hasSize(3);
+
+		// 예약 순서와 다르게 끝나도 마지막 피드가 끝나기 전에는 재계산하지 않음
+		scheduled.get(2).run();
+		scheduled.get(0).run();
+		verify(economicIndexService, never()).recalculateTodayIndex();
+
+		scheduled.get(1).run();
+		verify(economicIndexService).recalculateTodayIndex();
+		verify(ingestRunService).finish(pipelineRun(), eq(IngestRun.Status.SUCCEEDED), eq(1), isNull());
+		verify(ingestLockService).unlock(eq(IngestOrchestrator.JOB_DAILY), any());
+	}
+
+	@Test
+	void recalculatesIndexWhenSomeFeedsFailButMarksPipelineFailed() {
+		doThrow(new IllegalArgumentException("잘못된 파라미터")).when(interestRateService).syncKoreaRatesIncremental();
+
+		orchestrator.start(IngestRun.Trigger.MANUAL);
+		scheduled.forEach(Runnable::run);
+
+		verify(economicIndexService).recalculateTodayIndex();
+		verify(ingestRunService).finish(pipelineRun(), eq(IngestRun.Status.FAILED), eq(1),
+				eq("실패한 피드: " + IngestOrchestrator.JOB_INTEREST_RATE));
+	}
+
+	@Test
+	void skipsEconomicIndexWhenEveryFeedFailed() {
+		doThrow(new IllegalArgumentException("x")).when(exchangeRateService).fetchExchangeRates(any());
+		doThrow(new IllegalArgumentException("x")).when(interestRateService).syncKoreaRatesIncremental();
+		doThrow(new IllegalArgumentException("x")).when(consumerPriceIndexService).fetchAndSaveLatestData();
+
+		orchestrator.start(IngestRun.Trigger.MANUAL);
+		scheduled.forEach(Runnable::run);
+
+		verify(economicIndexService, never()).recalculateTodayIndex();
+		verify(ingestLockService).unlock(eq(IngestOrchestrator.JOB_DAILY), any());
+	}
+
+	@Test
+	void doesNotStartWhenAnotherInstanceHoldsDailyLock() {
+		when(ingestLockService.tryLock(eq(IngestOrchestrator.JOB_DAILY), any())).thenReturn(false);
+
+		assertThat(orchestrator.start(IngestRun.Trigger.SCHEDULED)).isFalse();
+		assertThat(scheduled).isEmpty();
+	}
+
+	@Test
+	void scheduledRunChecksSuccessSinceSeoulMidnight() {
+		when(ingestRunService.hasSucceededSince(anyString(), any())).thenReturn(true);
+
+		orchestrator.runDailyIngest();
+
+		ArgumentCaptor<LocalDateTime> since = ArgumentCaptor.forClass(LocalDateTime.class);
+		verify(ingestRunService).hasSucceededSince(eq(IngestOrchestrator.JOB_DAILY), since.capture());
+		ZoneId seoul = ZoneId.of("Asia/Seoul");
+		assertThat(since.getValue().atZone(ZoneId.systemDefault()).toInstant())
+				.isEqualTo(LocalDate.now(seoul).atStartOfDay(seoul).toInstant());
+		verify(ingestLockService, never()).tryLock(anyString(), any());
+	}
+
+	private static IngestRun pipelineRun() {
+		return argThat(run -> run != null && IngestOrchestrator.JOB_DAILY.equals(run.getJobName()));
+	}
+}
@@ -0,0 +1,121 @@
+package com.at_a_look.economy.service;
+
+import com.at_a_look.economy.entity.ConsumerPriceIndex;
+import org.junit.jupiter.api.Test;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ConsumerPriceIndexService.applyChangeRates (YYYYMM 기준 전월/전년 동월 변화율) 검증
+ */
+class ConsumerPriceIndexChangeRateTest {
+
+	private static final DateTimeFormatter YYYYMM = DateTimeFormatter.ofPattern("yyyyMM");
+
+	@Test
+	void singleMonthBatchUsesTwelveContextMonths() {
+		// 2023-06 ~ 2024-05: 100, 101, ..., 111
+		List<ConsumerPriceIndex> context = series(YearMonth.of(2023, 6), 100, 101, 102, 103, 104, 105, 106, 107, 108, 109, 110, 111);
+		ConsumerPriceIndex june = cpi("202406", 112.2);
+
+		ConsumerPriceIndexService.applyChangeRates(List.of(june), context);
+
+		assertThat(june.getMonthlyChange()).isEqualTo(1.08);   // 112.2 / 111 (2024-05)
+		assertThat(june.getAnnualChange()).isEqualTo(12.2);    // 112.2 / 100 (2023-06)
+		// 문맥 데이터는 변경하지 않음
+		assertThat(context).allSatisfy(cpi -> {
+			assertThat(cpi.getMonthlyChange()).isZero();
+			assertThat(cpi.getAnnualChange()).isZero();
+		});
+	}
+
+	@Test
+	void missingBaseMonthKeepsExistingRateInsteadOfUsingListNeighbour() {
+		List<ConsumerPriceIndex> context = List.of(cpi("202301", 98), cpi("202303", 100), cpi("202312", 110));
+		ConsumerPriceIndex january = cpi("202401", 111);
+		// 2024-02 가 빠진 배치: 목록상 바로 앞(2024-01)을 전월로 쓰면 안 됨
+		ConsumerPriceIndex march = cpi("202403", 115);
+		march.setMonthlyChange(0.7);
+
+		ConsumerPriceIndexService.applyChangeRates(List.of(january, march), context);
+
+		assertThat(january.getMonthlyChange()).isEqualTo(0.91);  // 111 / 110
+		assertThat(january.getAnnualChange()).isEqualTo(13.27);  // 111 / 98
+		assertThat(march.getMonthlyChange()).isEqualTo(0.7);
+		assertThat(march.getAnnualChange()).isEqualTo(15.0);     // 115 / 100 (2023-03)
+	}
+
+	@Test
+	void withoutContextFirstMonthKeepsExistingRates() {
+		ConsumerPriceIndex january = cpi("202401", 111);
+		january.setMonthlyChange(0.3);
+		january.setAnnualChange(2.9);
+		ConsumerPriceIndex february = cpi("202402", 112.11);
+
+		ConsumerPriceIndexService.applyChangeRates(List.of(january, february));
+
+		assertThat(january.getMonthlyChange()).isEqualTo(0.3);
+		assertThat(january.getAnnualChange()).isEqualTo(2.9);
+		assertThat(february.getMonthlyChange()).isEqualTo(1.0);
+	}
+
+	@Test
+	void revisedMonthRecomputesFollowingTwelveMonths() {
+		// 2023-01 ~ 2023-11 문맥, 2023-12 가 기존 110 → 121 로 수정되어 재수집됨
+		List<ConsumerPriceIndex> context = series(YearMonth.of(2023, 1), 100, 101, 102, 103, 104, 105, 106, 107, 108, 109, 110);
+		ConsumerPriceIndex revised = cpi("202312", 121);
+		ConsumerPriceIndexService.applyChangeRates(List.of(revised), context);
+		assertThat(revised.getMonthlyChange()).isEqualTo(10.0);  // 121 / 110 (2023-11)
+		assertThat(revised.getAnnualChange()).isZero();          // 2022-12 없음 → 유지
+
+		// 이후 저장분: 수정 전 값(110) 기준으로 계산되어 있던 2024-01, 2024-12 (2024-11 은 없음)
+		ConsumerPriceIndex january = cpi("202401", 121);
+		january.setMonthlyChange(10.0);
+		ConsumerPriceIndex december = cpi("202412", 133.1);
+		december.setMonthlyChange(1.5);
+		december.setAnnualChange(21.0);
+
+		// saveCPIDataWithChanges 와 같은 방식: 문맥 + 배치를 기준으로 한 달씩 재계산하며 문맥에 추가
+		List<ConsumerPriceIndex> downstreamContext = new ArrayList<>(context);
+		downstreamContext.add(revised);
+		for (ConsumerPriceIndex stored : List.of(january, december)) {
+			ConsumerPriceIndexService.applyChangeRates(List.of(stored), downstreamContext);
+			downstreamContext.add(stored);
+		}
+
+		assertThat(january.getMonthlyChange()).isEqualTo(0.0);   // 121 / 121 (수정값)
+		assertThat(december.getAnnualChange()).isEqualTo(10.0);  // 133.1 / 121 (수정값)
+		assertThat(december.getMonthlyChange()).isEqualTo(1.5);  // 2024-11 없음 → 유지
+	}
+
+	@Test
+	void zeroBaseValueYieldsZeroRate() {
+		ConsumerPriceIndex february = cpi("202402", 101);
+
+		ConsumerPriceIndexService.applyChangeRates(List.of(february), List.of(cpi("202401", 0)));
+
+		assertThat(february.getMonthlyChange()).isEqualTo(0.0);
+	}
+
+	private static List<ConsumerPriceIndex> series(YearMonth start, double... values) {
+		List<ConsumerPriceIndex> series = new ArrayList<>();
+		for (int i = 0; i < values.length; i++) {
+			series.add(cpi(start.plusMonths(i).format(YYYYMM), values[i]));
+		}
+		return series;
+	}
+
+	private static ConsumerPriceIndex cpi(String date, double value) {
+		return ConsumerPriceIndex.builder()
+				.date(date)
+				.cpiValue(value)
+				.monthlyChange(0.0)
+				.annualChange(0.0)
+				.build();
+	}
+}
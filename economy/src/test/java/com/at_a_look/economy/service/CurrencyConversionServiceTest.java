@@ -0,0 +1,133 @@
+package com.at_a_look.economy.service;
+
+import com.at_a_look.economy.dto.CurrencyConversionDto;
+import com.at_a_look.economy.entity.ExchangeRate;
+import com.at_a_look.economy.repository.ExchangeRateRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 교차 환율 행렬 검증: 100단위 고시 통화 정규화, 암묵적 KRW 행, 통화별 소수 자릿수 반올림
+ */
+class CurrencyConversionServiceTest {
+
+	private static final LocalDate DATE = LocalDate.of(2024, 6, 3);
+
+	private ExchangeRateRepository exchangeRateRepository;
+	private CurrencyConversionService service;
+
+	@BeforeEach
+	void setUp() {
+		exchangeRateRepository = mock(ExchangeRateRepository.class);
+		when(exchangeRateRepository.findLatestSearchDate()).thenReturn(Optional.of(DATE));
+		when(exchangeRateRepository.findBySearchDateOrderByCurUnit(DATE)).thenReturn(List.of(
+				rate("BHD", 3450.0),
+				rate("CNH", 190.5),
+				rate("IDR(100)", 8.5),
+				rate("JPY(100)", 900.0),
+				rate("USD", 1300.0),
+				rate("XXX", 0.0)));
+
+		service = new CurrencyConversionService(exchangeRateRepository);
+		ReflectionTestUtils.setField(service, "maxBatchSize", 100);
+	}
+
+	@Test
+	void normalizesHundredUnitQuotesToSingleUnit() {
+		CurrencyConversionDto.ConversionResult jpyToKrw = convert("JPY", "KRW", "1000");
+		assertThat(jpyToKrw.getRate()).isEqualByComparingTo("9");
+		assertThat(jpyToKrw.getConvertedAmount()).isEqualTo(new BigDecimal("9000"));
+
+		CurrencyConversionDto.ConversionResult idrToKrw = convert("IDR", "KRW", "1000000");
+		assertThat(idrToKrw.getRate()).isEqualByComparingTo("0.085");
+		assertThat(idrToKrw.getConvertedAmount()).isEqualTo(new BigDecimal("85000"));
+
+		CurrencyConversionDto.ConversionResult usdToJpy = convert("USD", "JPY", "1");
+		assertThat(usdToJpy.getRate()).isEqualByComparingTo("144.4444444444444");
+		assertThat(usdToJpy.getConvertedAmount()).isEqualTo(new BigDecimal("144"));
+	}
+
+	@Test
+	void acceptsScaledUnitNotationInRequest() {
+		CurrencyConversionDto.ConversionResult result = convert(" jpy(100) ", "KRW", "1000");
+
+		assertThat(result.getFrom()).isEqualTo("JPY");
+		assertThat(result.getConvertedAmount()).isEqualTo(new BigDecimal("9000"));
+	}
+
+	@Test
+	void addsImplicitKrwRowAndColumn() {
+		assertThat(convert("KRW", "KRW", "1234").getRate()).isEqualByComparingTo("1");
+
+		CurrencyConversionDto.ConversionResult krwToUsd = convert("KRW", "USD", "1300000");
+		assertThat(krwToUsd.getRate()).isEqualByComparingTo("0.0007692307692307692");
+		assertThat(krwToUsd.getConvertedAmount()).isEqualTo(new BigDecimal("1000.00"));
+
+		CurrencyConversionDto.ConversionResult krwToJpy = convert("KRW", "JPY", "10000");
+		assertThat(krwToJpy.getRate()).isEqualByComparingTo("0.1111111111111111");
+		assertThat(krwToJpy.getConvertedAmount()).isEqualTo(new BigDecimal("1111"));
+	}
+
+	@Test
+	void roundsToTargetCurrencyFractionDigits() {
+		// JPY/KRW 0자리, USD 2자리, BHD 3자리 (ISO 4217)
+		assertThat(convert("IDR", "USD", "1000000").getConvertedAmount()).isEqualTo(new BigDecimal("65.38"));
+		assertThat(convert("KRW", "BHD", "1000").getConvertedAmount()).isEqualTo(new BigDecimal("0.290"));
+	}
+
+	@Test
+	void fallsBackToTwoFractionDigitsForNonIsoCurrency() {
+		// CNH(역외 위안)는 ISO 4217 코드가 아니므로 기본 2자리
+		CurrencyConversionDto.ConversionResult usdToCnh = convert("USD", "CNH", "100");
+
+		assertThat(usdToCnh.getRate()).isEqualByComparingTo("6.824146981627297");
+		assertThat(usdToCnh.getConvertedAmount()).isEqualTo(new BigDecimal("682.41"));
+	}
+
+	@Test
+	void rejectsUnknownOrUnquotedCurrency() {
+		assertThatThrownBy(() -> convert("USD", "ABC", "1"))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessageContaining("ABC");
+		// 기준율이 0 이하인 고시는 행렬에서 제외
+		assertThatThrownBy(() -> convert("XXX", "KRW", "1"))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void usesLatestQuoteOnOrBeforeRequestedDate() {
+		LocalDate holiday = DATE.plusDays(5);
+		when(exchangeRateRepository.findLatestSearchDateOnOrBefore(holiday)).thenReturn(Optional.of(DATE));
+
+		CurrencyConversionDto.BatchResponse response = service.convertBatch(new CurrencyConversionDto.BatchRequest(
+				holiday, List.of(new CurrencyConversionDto.ConversionItem("USD", "KRW", BigDecimal.ONE))));
+
+		assertThat(response.getDate()).isEqualTo(DATE);
+		assertThat(response.getResults().get(0).getConvertedAmount()).isEqualTo(new BigDecimal("1300"));
+	}
+
+	private CurrencyConversionDto.ConversionResult convert(String from, String to, String amount) {
+		CurrencyConversionDto.BatchResponse response = service.convertBatch(new CurrencyConversionDto.BatchRequest(
+				null, List.of(new CurrencyConversionDto.ConversionItem(from, to, new BigDecimal(amount)))));
+		return response.getResults().get(0);
+	}
+
+	private static ExchangeRate rate(String curUnit, double dealBasRate) {
+		return ExchangeRate.builder()
+				.searchDate(DATE)
+				.curUnit(curUnit)
+				.dealBasRate(dealBasRate)
+				.build();
+	}
+}
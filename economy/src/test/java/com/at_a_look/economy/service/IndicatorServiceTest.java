@@ -0,0 +1,132 @@
+package com.at_a_look.economy.service;
+
+import com.at_a_look.economy.dto.IndicatorSeriesDto;
+import com.at_a_look.economy.entity.InterestRate;
+import com.at_a_look.economy.repository.ExchangeRateRepository;
+import com.at_a_look.economy.repository.InterestRateRepository;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 한 번의 순회로 계산하는 지표(Welford 갱신, 단조 덱 최저/최고)를 창마다 다시 계산하는 O(n·w) 결과와 비교
+ */
+class IndicatorServiceTest {
+
+	private static final LocalDate START = LocalDate.of(2018, 1, 1);
+	private static final int SIZE = 2000;
+
+	@ParameterizedTest
+	@ValueSource(ints = {2, 3, 20, 60, 260})
+	void matchesNaiveRecomputationOnRandomWalk(int window) {
+		// 환율형: 0.1 단위 무작위 보행 (같은 값이 자주 반복되어 덱의 동률 처리도 검증)
+		Random random = new Random(42);
+		double[] values = new double[SIZE];
+		double value = 1300;
+		for (int i = 0; i < SIZE; i++) {
+			value = Math.round((value + random.nextGaussian() * 5) * 10) / 10.0;
+			values[i] = value;
+		}
+		assertMatchesNaive(values, window);
+	}
+
+	@ParameterizedTest
+	@ValueSource(ints = {2, 3, 20, 60, 260})
+	void matchesNaiveRecomputationOnStepSeries(int window) {
+		// 기준금리형: 0.25%p 계단, 변동 없는 구간이 길어 분산 0 창이 많음
+		Random random = new Random(7);
+		double[] values = new double[SIZE];
+		double value = 3.5;
+		for (int i = 0; i < SIZE; i++) {
+			if (random.nextInt(20) == 0) {
+				value = Math.max(0, value + (random.nextBoolean() ? 0.25 : -0.25));
+			}
+			values[i] = value;
+		}
+		assertMatchesNaive(values, window);
+	}
+
+	private void assertMatchesNaive(double[] values, int window) {
+		List<IndicatorSeriesDto.Point> points = indicatorsOf(values, window);
+		assertThat(points).hasSize(values.length);
+
+		double alpha = 2.0 / (window + 1);
+		double ema = Double.NaN;
+		double peak = Double.NEGATIVE_INFINITY;
+		for (int i = 0; i < values.length; i++) {
+			IndicatorSeriesDto.Point point = points.get(i);
+			assertThat(point.getDate()).isEqualTo(START.plusDays(i));
+			assertThat(point.getValue()).isEqualTo(values[i]);
+
+			peak = Math.max(peak, values[i]);
+			assertThat(point.getDrawdown()).isCloseTo((values[i] - peak) / peak * 100, within(1e-9));
+
+			if (i < window - 1) {
+				assertThat(point.getSma()).isNull();
+				assertThat(point.getEma()).isNull();
+				assertThat(point.getStdDev()).isNull();
+				assertThat(point.getMin()).isNull();
+				assertThat(point.getMax()).isNull();
+				continue;
+			}
+
+			double sum = 0;
+			double min = Double.POSITIVE_INFINITY;
+			double max = Double.NEGATIVE_INFINITY;
+			for (int j = i - window + 1; j <= i; j++) {
+				sum += values[j];
+				min = Math.min(min, values[j]);
+				max = Math.max(max, values[j]);
+			}
+			double mean = sum / window;
+			double squares = 0;
+			for (int j = i - window + 1; j <= i; j++) {
+				squares += (values[j] - mean) * (values[j] - mean);
+			}
+			ema = i == window - 1 ? mean : alpha * values[i] + (1 - alpha) * ema;
+
+			String at = "i=" + i + ", window=" + window;
+			assertThat(point.getSma()).as(at).isCloseTo(mean, within(1e-9));
+			assertThat(point.getEma()).as(at).isCloseTo(ema, within(1e-9));
+			// 분산이 0 에 가까운 창은 표준편차(제곱근)가 반올림 오차를 키우므로 분산으로 비교
+			assertThat(point.getStdDev() * point.getStdDev()).as(at).isCloseTo(squares / window, within(1e-6));
+			assertThat(point.getMin()).as(at).isEqualTo(min);
+			assertThat(point.getMax()).as(at).isEqualTo(max);
+
+			if (i >= window && values[i - window] != 0) {
+				assertThat(point.getChangeRate()).as(at)
+						.isCloseTo((values[i] - values[i - window]) / values[i - window] * 100, within(1e-9));
+			}
+		}
+	}
+
+	private List<IndicatorSeriesDto.Point> indicatorsOf(double[] values, int window) {
+		List<InterestRate> rates = new ArrayList<>(values.length);
+		for (int i = 0; i < values.length; i++) {
+			rates.add(InterestRate.builder()
+					.countryCode("KR")
+					.date(START.plusDays(i))
+					.interestRate(values[i])
+					.build());
+		}
+		InterestRateRepository interestRateRepository = mock(InterestRateRepository.class);
+		when(interestRateRepository.findByCountryCodeOrderByDateAsc("KR")).thenReturn(rates);
+
+		IndicatorService service = new IndicatorService(mock(ExchangeRateSeriesStore.class),
+				mock(ExchangeRateRepository.class), interestRateRepository);
+		ReflectionTestUtils.setField(service, "maxWindow", 260);
+
+		return service.getIndicators("interest-rate", "kr", window, START, START.plusDays(values.length - 1))
+				.getPoints();
+	}
+}
@@ -0,0 +1,130 @@
+package com.at_a_look.economy.service;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ingest_locks 락 획득/해제를 실제 MySQL 시계(NOW(3)) 기준으로 검증
+ * 만료 시점은 대기 대신 DB 행의 lock_until/locked_at 을 과거로 옮겨 재현합니다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class IngestLockServiceTest {
+
+	private static final String LOCK = "daily-ingest";
+
+	@Container
+	static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0");
+
+	private static JdbcTemplate jdbcTemplate;
+
+	private IngestLockService nodeA;
+	private IngestLockService nodeB;
+
+	@BeforeAll
+	static void createTable() {
+		jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+				MYSQL.getJdbcUrl(), MYSQL.getUsername(), MYSQL.getPassword()));
+		// changelog 026-create-ingest-locks-table 과 동일한 스키마
+		jdbcTemplate.execute("CREATE TABLE ingest_locks (" +
+				"lock_name VARCHAR(64) NOT NULL PRIMARY KEY, " +
+				"lock_until TIMESTAMP(3) NOT NULL, " +
+				"locked_at TIMESTAMP(3) NOT NULL, " +
+				"locked_by VARCHAR(255) NOT NULL)");
+	}
+
+	@BeforeEach
+	void setUp() {
+		jdbcTemplate.execute("DELETE FROM ingest_locks");
+		nodeA = new IngestLockService(jdbcTemplate, "node-a");
+		nodeB = new IngestLockService(jdbcTemplate, "node-b");
+	}
+
+	@Test
+	void tryLockFailsWhileAnotherNodeHoldsUnexpiredLock() {
+		assertThat(nodeA.tryLock(LOCK, Duration.ofMinutes(30))).isTrue();
+
+		assertThat(nodeB.tryLock(LOCK, Duration.ofMinutes(30))).isFalse();
+		// 보유 중인 노드도 만료 전에는 다시 얻지 못함 (재진입 불가)
+		assertThat(nodeA.tryLock(LOCK, Duration.ofMinutes(30))).isFalse();
+		assertThat(lockedBy()).isEqualTo("node-a");
+	}
+
+	@Test
+	void tryLockSucceedsOnceLockUntilHasPassed() {
+		assertThat(nodeA.tryLock(LOCK, Duration.ofMinutes(30))).isTrue();
+		expireLock();
+
+		assertThat(nodeB.tryLock(LOCK, Duration.ofMinutes(30))).isTrue();
+		assertThat(lockedBy()).isEqualTo("node-b");
+		assertThat(nodeA.tryLock(LOCK, Duration.ofMinutes(30))).isFalse();
+	}
+
+	@Test
+	void tryLockSetsLockUntilFromDatabaseClock() {
+		assertThat(nodeA.tryLock(LOCK, Duration.ofMinutes(30))).isTrue();
+
+		Long secondsLeft = jdbcTemplate.queryForObject(
+				"SELECT TIMESTAMPDIFF(SECOND, NOW(3), lock_until) FROM ingest_locks WHERE lock_name = ?", Long.class, LOCK);
+		assertThat(secondsLeft).isBetween(29 * 60L, 30 * 60L);
+	}
+
+	@Test
+	void unlockKeepsLockUntilLockAtLeastForHasElapsed() {
+		assertThat(nodeA.tryLock(LOCK, Duration.ofMinutes(30))).isTrue();
+
+		nodeA.unlock(LOCK, Duration.ofMinutes(10));
+
+		// 작업이 바로 끝나도 획득 후 10분까지는 다른 노드가 같은 스케줄을 다시 실행하지 못함
+		assertThat(nodeB.tryLock(LOCK, Duration.ofMinutes(30))).isFalse();
+		Long heldMinutes = jdbcTemplate.queryForObject(
+				"SELECT TIMESTAMPDIFF(MINUTE, locked_at, lock_until) FROM ingest_locks WHERE lock_name = ?", Long.class, LOCK);
+		assertThat(heldMinutes).isEqualTo(10L);
+	}
+
+	@Test
+	void unlockReleasesImmediatelyWhenLockAtLeastForAlreadyElapsed() {
+		assertThat(nodeA.tryLock(LOCK, Duration.ofMinutes(30))).isTrue();
+		jdbcTemplate.update("UPDATE ingest_locks SET locked_at = TIMESTAMPADD(MINUTE, -20, NOW(3)) WHERE lock_name = ?", LOCK);
+
+		nodeA.unlock(LOCK, Duration.ofMinutes(10));
+
+		assertThat(nodeB.tryLock(LOCK, Duration.ofMinutes(30))).isTrue();
+	}
+
+	@Test
+	void unlockByNonOwnerDoesNotReleaseLock() {
+		assertThat(nodeA.tryLock(LOCK, Duration.ofMinutes(30))).isTrue();
+
+		nodeB.unlock(LOCK, Duration.ZERO);
+
+		assertThat(nodeB.tryLock(LOCK, Duration.ofMinutes(30))).isFalse();
+		assertThat(lockedBy()).isEqualTo("node-a");
+	}
+
+	@Test
+	void runLockedSkipsTaskWhileLockIsHeld() {
+		assertThat(nodeA.tryLock(LOCK, Duration.ofMinutes(30))).isTrue();
+		boolean[] ran = {false};
+
+		assertThat(nodeB.runLocked(LOCK, Duration.ofMinutes(30), Duration.ZERO, () -> ran[0] = true)).isFalse();
+		assertThat(ran[0]).isFalse();
+	}
+
+	private void expireLock() {
+		jdbcTemplate.update("UPDATE ingest_locks SET lock_until = TIMESTAMPADD(SECOND, -1, NOW(3)) WHERE lock_name = ?", LOCK);
+	}
+
+	private String lockedBy() {
+		return jdbcTemplate.queryForObject("SELECT locked_by FROM ingest_locks WHERE lock_name = ?", String.class, LOCK);
+	}
+}